@@ -0,0 +1,188 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.browsers;
+
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+public class LinePixelsBrowserTest {
+
+    protected static final int NUM_RANDOM_LINES = 20_000;
+    protected static final int MAX_COORD = 600;
+
+    @Test
+    public void randomLinesVisitOnePixelPerLongCoordinate() {
+        Random random = new Random(7L);
+        int numIncreasing = 0;
+        int numDecreasing = 0;
+        for (int ii = 0; ii < NUM_RANDOM_LINES; ii++) {
+            int x1 = random.nextInt(MAX_COORD);
+            int y1 = random.nextInt(MAX_COORD);
+            int x2 = random.nextInt(MAX_COORD);
+            int y2 = random.nextInt(MAX_COORD);
+
+            assertLinePixels(x1, y1, x2, y2);
+
+            if (isLongCoordDecreasing(x1, y1, x2, y2)) {
+                numDecreasing++;
+            } else {
+                numIncreasing++;
+            }
+        }
+
+        // both directions of the long coordinate have been browsed
+        assertTrue(numIncreasing > NUM_RANDOM_LINES / 4);
+        assertTrue(numDecreasing > NUM_RANDOM_LINES / 4);
+    }
+
+    @Test
+    public void shortLinesVisitOnePixelPerLongCoordinate() {
+        for (int x1 = 0; x1 < 8; x1++) {
+            for (int y1 = 0; y1 < 8; y1++) {
+                for (int x2 = 0; x2 < 8; x2++) {
+                    for (int y2 = 0; y2 < 8; y2++) {
+                        assertLinePixels(x1, y1, x2, y2);
+                    }
+                }
+            }
+        }
+    }
+
+    // pixels of representative lines, in the order they are visited. Ties at exact half steps
+    // (as in (12, 0) -> (0, 9), or the x = 2, 6, 10 columns of (0, 0) -> (12, 3)) go to the lower short coordinate.
+    // Changing them changes the bins of BOUNDARY_PAIRS, and the compiled sparse operators (RadonSparseOperator.VERSION)
+    @Test
+    public void pixelsOfRepresentativeLines() {
+        assertPinnedPixels(0, 0, 7, 0, 0, 0, 1, 0, 2, 0, 3, 0, 4, 0, 5, 0, 6, 0, 7, 0);
+        assertPinnedPixels(3, 6, 3, 0, 3, 6, 3, 5, 3, 4, 3, 3, 3, 2, 3, 1, 3, 0);
+        assertPinnedPixels(0, 0, 5, 5, 0, 0, 1, 1, 2, 2, 3, 3, 4, 4, 5, 5);
+        assertPinnedPixels(5, 0, 0, 5, 5, 0, 4, 1, 3, 2, 2, 3, 1, 4, 0, 5);
+        assertPinnedPixels(0, 0, 9, 4, 0, 0, 1, 0, 2, 1, 3, 1, 4, 2, 5, 2, 6, 3, 7, 3, 8, 4, 9, 4);
+        assertPinnedPixels(0, 4, 9, 0, 9, 0, 8, 0, 7, 1, 6, 1, 5, 2, 4, 2, 3, 3, 2, 3, 1, 4, 0, 4);
+        assertPinnedPixels(2, 0, 5, 9, 2, 0, 2, 1, 3, 2, 3, 3, 3, 4, 4, 5, 4, 6, 4, 7, 5, 8, 5, 9);
+        assertPinnedPixels(5, 0, 2, 9, 2, 9, 2, 8, 3, 7, 3, 6, 3, 5, 4, 4, 4, 3, 4, 2, 5, 1, 5, 0);
+        assertPinnedPixels(12, 0, 0, 9, 12, 0, 11, 1, 10, 1, 9, 2, 8, 3, 7, 4, 6, 4, 5, 5, 4, 6, 3, 7, 2, 7, 1, 8, 0, 9);
+        assertPinnedPixels(12, 0, 6, 5, 12, 0, 11, 1, 10, 2, 9, 2, 8, 3, 7, 4, 6, 5);
+        assertPinnedPixels(0, 0, 6, 8, 0, 0, 1, 1, 1, 2, 2, 3, 3, 4, 4, 5, 4, 6, 5, 7, 6, 8);
+        assertPinnedPixels(0, 0, 12, 3, 0, 0, 1, 0, 2, 0, 3, 1, 4, 1, 5, 1, 6, 1, 7, 2, 8, 2, 9, 2, 10, 2, 11, 3, 12, 3);
+        assertPinnedPixels(3, 12, 0, 0, 0, 0, 0, 1, 0, 2, 1, 3, 1, 4, 1, 5, 1, 6, 2, 7, 2, 8, 2, 9, 2, 10, 3, 11, 3, 12);
+    }
+
+    @Test
+    public void isPixelOfLineMatchesTheWalk() {
+        Random random = new Random(13L);
+        for (int ii = 0; ii < 2_000; ii++) {
+            int x1 = random.nextInt(40);
+            int y1 = random.nextInt(40);
+            int x2 = random.nextInt(40);
+            int y2 = random.nextInt(40);
+
+            Set<Long> pixels = new HashSet<>();
+            getLinePixelsBrowser().browseLinePixels(x1, y1, x2, y2, (xx, yy) -> pixels.add(toKey(xx, yy)));
+
+            Set<Long> reversedPixels = new HashSet<>();
+            getLinePixelsBrowser().browseLinePixels(x2, y2, x1, y1, (xx, yy) -> reversedPixels.add(toKey(xx, yy)));
+            assertEquals(pixels, reversedPixels);
+
+            for (int yy = Math.min(y1, y2) - 1; yy <= Math.max(y1, y2) + 1; yy++) {
+                for (int xx = Math.min(x1, x2) - 1; xx <= Math.max(x1, x2) + 1; xx++) {
+                    assertEquals("pixel (" + xx + ", " + yy + ") of (" + x1 + ", " + y1 + ") -> (" + x2 + ", " + y2 + ")",
+                            pixels.contains(toKey(xx, yy)),
+                            getLinePixelsBrowser().isPixelOfLine(x1, y1, x2, y2, xx, yy));
+                }
+            }
+        }
+    }
+
+    protected void assertPinnedPixels(int x1, int y1, int x2, int y2, int... expectedXY) {
+        List<Integer> pixels = new ArrayList<>();
+        getLinePixelsBrowser().browseLinePixels(x1, y1, x2, y2, (xx, yy) -> {
+            pixels.add(xx);
+            pixels.add(yy);
+        });
+
+        assertArrayEquals("(" + x1 + ", " + y1 + ") -> (" + x2 + ", " + y2 + ")",
+                expectedXY, pixels.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    protected void assertLinePixels(int x1, int y1, int x2, int y2) {
+        int expectedNumPixels = Math.max(Math.abs(x2 - x1), Math.abs(y2 - y1)) + 1;
+        Set<Long> pixels = new HashSet<>();
+        int[] numVisits = new int[1];
+
+        String line = "(" + x1 + ", " + y1 + ") -> (" + x2 + ", " + y2 + ")";
+        getLinePixelsBrowser().browseLinePixels(x1, y1, x2, y2, (xx, yy) -> {
+            numVisits[0]++;
+            pixels.add(toKey(xx, yy));
+            assertTrue("pixel (" + xx + ", " + yy + ") too far from line " + line,
+                    distanceToLine(x1, y1, x2, y2, xx, yy) <= Math.sqrt(0.5d) + 1e-9);
+        });
+
+        assertEquals("distinct pixels of " + line, expectedNumPixels, pixels.size());
+        assertEquals("visits of " + line, expectedNumPixels, numVisits[0]);
+        assertTrue("start of " + line, pixels.contains(toKey(x1, y1)));
+        assertTrue("end of " + line, pixels.contains(toKey(x2, y2)));
+    }
+
+    // the long coordinate decreases when the short one increases
+    protected boolean isLongCoordDecreasing(int x1, int y1, int x2, int y2) {
+        int dx = x2 - x1;
+        int dy = y2 - y1;
+        return (long) dx * dy < 0;
+    }
+
+    protected double distanceToLine(int x1, int y1, int x2, int y2, int xx, int yy) {
+        double result;
+        double length = Math.hypot(x2 - x1, y2 - y1);
+        if (length == 0) {
+            result = Math.hypot(xx - x1, yy - y1);
+        } else {
+            result = Math.abs((double) (x2 - x1) * (y1 - yy) - (double) (x1 - xx) * (y2 - y1)) / length;
+        }
+        return result;
+    }
+
+    protected Long toKey(int xx, int yy) {
+        return ((long) xx << 32) | (yy & 0xFFFFFFFFL);
+    }
+
+    protected LinePixelsBrowser getLinePixelsBrowser() {
+        return LinePixelsBrowser.instance();
+    }
+}
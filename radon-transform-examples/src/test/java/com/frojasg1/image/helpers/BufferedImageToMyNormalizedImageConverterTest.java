@@ -0,0 +1,96 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.helpers;
+
+
+import com.frojasg1.image.normalized.My2dContainer;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+
+
+public class BufferedImageToMyNormalizedImageConverterTest {
+
+    // big enough for the rows to be converted in parallel with the built-in normalizer
+    protected static final int WIDTH = 400;
+    protected static final int HEIGHT = 300;
+
+
+    @Test
+    public void normalizersOfTheCallerAreCalledFromTheCallingThread() {
+        BufferedImage image = createRgbImage(7L);
+        Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+
+        My2dContainer converted = getConverter().convert(image, rgb -> {
+            threads.add(Thread.currentThread());
+            return (rgb & 0xFF) / 255d;
+        });
+
+        assertEquals(Collections.singleton(Thread.currentThread()), threads);
+        for (int yy = 0; yy < HEIGHT; yy++) {
+            for (int xx = 0; xx < WIDTH; xx++) {
+                assertEquals((image.getRGB(xx, yy) & 0xFF) / 255d, converted.getDouble(xx, yy), 0.0d);
+            }
+        }
+    }
+
+    @Test
+    public void builtInNormalizerIsTheSameInParallel() {
+        BufferedImage image = createRgbImage(11L);
+
+        My2dContainer parallel = getConverter().convert(image);
+        My2dContainer sequential = getConverter().convertToNormalized(image, getConverter()::normalizedGreyScale);
+
+        for (int yy = 0; yy < HEIGHT; yy++) {
+            for (int xx = 0; xx < WIDTH; xx++) {
+                assertEquals(sequential.getDouble(xx, yy), parallel.getDouble(xx, yy), 0.0d);
+            }
+        }
+    }
+
+    protected BufferedImage createRgbImage(long seed) {
+        Random random = new Random(seed);
+        BufferedImage result = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        for (int yy = 0; yy < HEIGHT; yy++) {
+            for (int xx = 0; xx < WIDTH; xx++) {
+                result.setRGB(xx, yy, random.nextInt(1 << 24));
+            }
+        }
+        return result;
+    }
+
+    protected BufferedImageToMyNormalizedImageConverter getConverter() {
+        return BufferedImageToMyNormalizedImageConverter.instance();
+    }
+}
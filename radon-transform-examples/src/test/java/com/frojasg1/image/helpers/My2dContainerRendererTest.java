@@ -0,0 +1,108 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.helpers;
+
+
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.normalized.impl.My2dContainerDoubleArrayImpl;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+public class My2dContainerRendererTest {
+
+    protected static final int WIDTH = 37;
+    protected static final int HEIGHT = 23;
+
+
+    // blocks of one element each
+    @Test
+    public void previewsAreNotUpscaled() {
+        My2dContainer container = createContainer(3L);
+        BufferedImage image = getRenderer().render(container, ColormapLut.heat());
+
+        assertSameImage(image, getRenderer().renderPreview(container, ColormapLut.heat(), WIDTH, HEIGHT));
+        assertSameImage(image, getRenderer().renderPreview(container, ColormapLut.heat(), 4 * WIDTH, 3 * HEIGHT));
+
+        BufferedImage preview = getRenderer().renderPreview(container, ColormapLut.heat(), 10, 4 * HEIGHT);
+        assertEquals(10, preview.getWidth());
+        assertEquals(HEIGHT, preview.getHeight());
+    }
+
+    // no pixel of the preview of a container with every element calculated is transparent
+    @Test
+    public void everyBlockHasElements() {
+        My2dContainer container = createContainer(5L);
+        for (int previewWidth = 1; previewWidth <= WIDTH + 2; previewWidth++) {
+            for (int previewHeight = 1; previewHeight <= HEIGHT + 2; previewHeight += 3) {
+                BufferedImage preview = getRenderer().renderPreview(container, ColormapLut.heat(), previewWidth, previewHeight);
+                for (int yy = 0; yy < preview.getHeight(); yy++) {
+                    for (int xx = 0; xx < preview.getWidth(); xx++) {
+                        assertTrue(previewWidth + " x " + previewHeight, (preview.getRGB(xx, yy) >>> 24) != 0);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyPreviewsAreRejected() {
+        getRenderer().renderPreview(createContainer(7L), ColormapLut.heat(), 0, HEIGHT);
+    }
+
+    protected void assertSameImage(BufferedImage expected, BufferedImage actual) {
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        for (int yy = 0; yy < expected.getHeight(); yy++) {
+            for (int xx = 0; xx < expected.getWidth(); xx++) {
+                assertEquals(expected.getRGB(xx, yy), actual.getRGB(xx, yy));
+            }
+        }
+    }
+
+    // values in [0, 1]
+    protected My2dContainer createContainer(long seed) {
+        Random random = new Random(seed);
+        My2dContainer result = new My2dContainerDoubleArrayImpl(WIDTH, HEIGHT).init();
+        for (int yy = 0; yy < HEIGHT; yy++) {
+            for (int xx = 0; xx < WIDTH; xx++) {
+                result.setDouble(xx, yy, random.nextDouble());
+            }
+        }
+        return result;
+    }
+
+    protected My2dContainerRenderer getRenderer() {
+        return My2dContainerRenderer.instance();
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.normalized.view;
+
+
+import com.frojasg1.image.helpers.BufferedImageToMyNormalizedImageConverter;
+import com.frojasg1.image.normalized.My2dContainer;
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.util.Random;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+public class My2dContainerRasterViewTest {
+
+    protected static final int WIDTH = 53;
+    protected static final int HEIGHT = 37;
+
+
+    @Test
+    public void byteGrayView() {
+        assertViewOfEveryLayout(BufferedImage.TYPE_BYTE_GRAY, My2dContainerByteRasterViewImpl.class);
+    }
+
+    @Test
+    public void byteRgbView() {
+        assertViewOfEveryLayout(BufferedImage.TYPE_3BYTE_BGR, My2dContainerByteRgbRasterViewImpl.class);
+    }
+
+    @Test
+    public void intRgbView() {
+        assertViewOfEveryLayout(BufferedImage.TYPE_INT_RGB, My2dContainerIntRgbRasterViewImpl.class);
+        assertViewOfEveryLayout(BufferedImage.TYPE_INT_ARGB, My2dContainerIntRgbRasterViewImpl.class);
+    }
+
+    @Test
+    public void packedView() {
+        assertViewOfEveryLayout(BufferedImage.TYPE_BYTE_BINARY, My2dContainerPackedRasterViewImpl.class);
+    }
+
+    @Test
+    public void ushortGrayView() {
+        assertViewOfEveryLayout(BufferedImage.TYPE_USHORT_GRAY, My2dContainerUShortRasterViewImpl.class);
+    }
+
+    // regions of any container, and regions of those regions, read the original container
+    @Test
+    public void subView() {
+        BufferedImage image = createImage(BufferedImage.TYPE_3BYTE_BGR, 5L);
+        My2dContainer converted = getConverter().convert(image);
+
+        My2dContainerSubViewImpl subView = new My2dContainerSubViewImpl(converted, 7, 5, 31, 23);
+        assertSameValues("sub view", image.getSubimage(7, 5, 31, 23), subView);
+        assertReadOnly(subView);
+
+        My2dContainerReadOnlyAbstract subSubView = subView.getSubView(3, 2, 17, 11);
+        assertEquals(My2dContainerSubViewImpl.class, subSubView.getClass());
+        assertSame(converted, ((My2dContainerSubViewImpl) subSubView).getSource());
+        assertSameValues("sub view of a sub view", image.getSubimage(10, 7, 17, 11), subSubView);
+        assertReadOnly(subSubView);
+
+        assertRegionOutOfTheViewFails(subView, 20, 0, 12, 23);
+        assertRegionOutOfTheViewFails(subView, -1, 0, 5, 5);
+        try {
+            new My2dContainerSubViewImpl(converted, 0, 30, WIDTH, 8);
+            fail("A region out of the container has been accepted");
+        } catch (IllegalArgumentException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().startsWith("Region out of"));
+        }
+    }
+
+    // the whole raster, and a sub-image of it (with offsets and a scanline stride bigger than its width).
+    // Sub-views of raster views are raster views of the same array
+    protected void assertViewOfEveryLayout(int imageType, Class<?> viewClass) {
+        BufferedImage image = createImage(imageType, imageType);
+        assertView(image, viewClass);
+        assertView(image.getSubimage(9, 4, 29, 21), viewClass);
+
+        My2dContainerReadOnlyAbstract subView = createView(image).getSubView(9, 4, 29, 21);
+        assertEquals(viewClass, subView.getClass());
+        assertSameValues(viewClass.getSimpleName() + ", sub view", image.getSubimage(9, 4, 29, 21), subView);
+        assertReadOnly(subView);
+
+        My2dContainerReadOnlyAbstract subSubView = subView.getSubView(3, 5, 13, 7);
+        assertEquals(viewClass, subSubView.getClass());
+        assertSameValues(viewClass.getSimpleName() + ", sub view of a sub view", image.getSubimage(12, 9, 13, 7),
+                subSubView);
+        assertRegionOutOfTheViewFails(subView, 0, 0, 30, 21);
+    }
+
+    protected void assertRegionOutOfTheViewFails(My2dContainerReadOnlyAbstract view, int xx, int yy, int width, int height) {
+        try {
+            view.getSubView(xx, yy, width, height);
+            fail("A region out of " + view + " has been accepted");
+        } catch (IllegalArgumentException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().startsWith("Region out of"));
+        }
+    }
+
+    protected void assertView(BufferedImage image, Class<?> viewClass) {
+        My2dContainerReadOnlyAbstract view = createView(image);
+        assertEquals(viewClass, view.getClass());
+
+        assertSameValues(viewClass.getSimpleName(), image, view);
+        assertReadOnly(view);
+    }
+
+    // same values as the conversion with getRGB (the fallback of the converter for the types without a view)
+    protected void assertSameValues(String message, BufferedImage image, My2dContainerReadOnlyAbstract view) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        assertEquals(message + ": width", width, view.getWidth());
+        assertEquals(message + ": height", height, view.getHeight());
+
+        double[] rows = new double[width * height];
+        view.readRows(rows);
+        My2dContainer withGetRgb = getConverter().convert(copyWithoutView(image));
+        My2dContainer converted = getConverter().convert(image);
+        for (int yy = 0; yy < height; yy++) {
+            for (int xx = 0; xx < width; xx++) {
+                double expected = withGetRgb.getDouble(xx, yy);
+                String pixel = String.format("%s: (%d, %d)", message, xx, yy);
+                assertEquals(pixel, expected, view.getDouble(xx, yy), 0.0d);
+                assertEquals(pixel + ", row", expected, rows[yy * width + xx], 0.0d);
+                assertEquals(pixel + ", converted", expected, converted.getDouble(xx, yy), 0.0d);
+            }
+        }
+    }
+
+    protected void assertReadOnly(My2dContainer view) {
+        assertThrows(() -> view.setDouble(0, 0, 1.0d));
+        assertThrows(() -> view.replaceDouble(0, 0, 1.0d));
+        assertThrows(() -> view.set(0, 0, 1.0d));
+        assertThrows(() -> view.initWithValue(1.0d));
+        assertThrows(view::reset);
+    }
+
+    protected void assertThrows(Runnable write) {
+        try {
+            write.run();
+            fail("A read only view has been written");
+        } catch (UnsupportedOperationException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().startsWith("Read only view"));
+        }
+    }
+
+    // random samples, so that every bit of the layout is read
+    protected BufferedImage createImage(int imageType, long seed) {
+        Random random = new Random(seed);
+        BufferedImage result = new BufferedImage(WIDTH, HEIGHT, imageType);
+        WritableRaster raster = result.getRaster();
+        int numBands = raster.getNumBands();
+        int[] sampleSizes = raster.getSampleModel().getSampleSize();
+        for (int yy = 0; yy < HEIGHT; yy++) {
+            for (int xx = 0; xx < WIDTH; xx++) {
+                for (int band = 0; band < numBands; band++) {
+                    raster.setSample(xx, yy, band, random.nextInt(1 << sampleSizes[band]));
+                }
+            }
+        }
+        return result;
+    }
+
+    // TYPE_4BYTE_ABGR keeps the same argb, and it has no view, so it is converted with getRGB
+    protected BufferedImage copyWithoutView(BufferedImage image) {
+        BufferedImage result = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_4BYTE_ABGR);
+        for (int yy = 0; yy < image.getHeight(); yy++) {
+            for (int xx = 0; xx < image.getWidth(); xx++) {
+                result.setRGB(xx, yy, image.getRGB(xx, yy));
+            }
+        }
+        return result;
+    }
+
+    protected My2dContainerReadOnlyAbstract createView(BufferedImage image) {
+        My2dContainer result = getConverter().createView(image);
+        assertTrue(String.valueOf(result), result instanceof My2dContainerReadOnlyAbstract);
+        return (My2dContainerReadOnlyAbstract) result;
+    }
+
+    protected BufferedImageToMyNormalizedImageConverter getConverter() {
+        return BufferedImageToMyNormalizedImageConverter.instance();
+    }
+}
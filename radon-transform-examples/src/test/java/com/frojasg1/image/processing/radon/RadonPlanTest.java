@@ -0,0 +1,132 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon;
+
+
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.plan.RadonPlan;
+import com.frojasg1.image.processing.radon.plan.RadonPlanCache;
+import com.frojasg1.image.processing.radon.plan.RadonPlanKey;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+public class RadonPlanTest {
+
+    protected static final int TIMEOUT_MS = 120_000;
+
+    protected ExecutorService executorService;
+
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void planReplayEqualsBoundaryPairs() throws InterruptedException, ExecutionException, TimeoutException {
+        BufferedImage firstFrame = getTestImages().createSegmentsImage(131, 97, 11L);
+        BufferedImage secondFrame = getTestImages().createSegmentsImage(131, 97, 23L);
+
+        RadonTransformExecutor planExecutor = new RadonTransformExecutor(executorService::submit,
+                RadonTransformConfiguration.createDefault().setPlanCacheSize(2));
+        RadonPlanCache planCache = planExecutor.getPlanCache();
+        assertNotNull(planCache);
+
+        // the first frame builds the plan
+        RadonTransformCalculator firstWithPlan = calculate(planExecutor, firstFrame);
+        assertEquals(1, planCache.size());
+        RadonPlan plan = planCache.get(RadonPlanKey.create(firstWithPlan.getResult()));
+        assertNotNull(plan);
+        assertTrue(plan.getNumLines() > 0);
+
+        // the second frame replays it
+        RadonTransformCalculator secondWithPlan = calculate(planExecutor, secondFrame);
+        assertEquals(1, planCache.size());
+        assertSame(plan, planCache.get(RadonPlanKey.create(secondWithPlan.getResult())));
+
+        RadonTransformExecutor executor = new RadonTransformExecutor(executorService::submit);
+        assertSameResult("first frame", calculate(executor, firstFrame), firstWithPlan);
+        assertSameResult("second frame", calculate(executor, secondFrame), secondWithPlan);
+    }
+
+    @Test
+    public void planIsPerSize() throws InterruptedException, ExecutionException, TimeoutException {
+        RadonTransformExecutor planExecutor = new RadonTransformExecutor(executorService::submit,
+                RadonTransformConfiguration.createDefault().setPlanCacheSize(1));
+
+        calculate(planExecutor, getTestImages().createSegmentsImage(64, 48, 5L));
+        RadonTransformCalculator withPlan = calculate(planExecutor, getTestImages().createSegmentsImage(48, 64, 5L));
+        assertEquals(1, planExecutor.getPlanCache().size());
+
+        BufferedImage image = getTestImages().createSegmentsImage(48, 64, 7L);
+        withPlan = calculate(planExecutor, image);
+        RadonTransformExecutor executor = new RadonTransformExecutor(executorService::submit);
+        assertSameResult("48 x 64", calculate(executor, image), withPlan);
+    }
+
+    protected void assertSameResult(String message, RadonTransformCalculator expected, RadonTransformCalculator actual) {
+        assertTrue(expected.wasSuccessful());
+        assertTrue(actual.wasSuccessful());
+
+        RadonTransformResult expectedResult = expected.getResult();
+        RadonTransformResult actualResult = actual.getResult();
+        getTestImages().assertSameBins(message, expectedResult.getRadonTransform(), actualResult.getRadonTransform(), 0.0d);
+        getTestImages().assertSameBins(message + " (normalized)", expectedResult.getNormalizedRadonTransform(),
+                actualResult.getNormalizedRadonTransform(), 0.0d);
+        assertEquals(message + ": max", expectedResult.getMax().getValue(), actualResult.getMax().getValue(), 0.0d);
+    }
+
+    protected RadonTransformCalculator calculate(RadonTransformExecutor executor, BufferedImage image)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return executor.calculateRadonTransform(image, TIMEOUT_MS).get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    protected RadonTestImages getTestImages() {
+        return RadonTestImages.instance();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon;
+
+
+import com.frojasg1.image.normalized.My2dContainer;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+
+import static org.junit.Assert.assertEquals;
+
+
+// synthetic images and bin by bin comparisons shared by the tests of the algorithms
+public class RadonTestImages {
+    protected static RadonTestImages INSTANCE = new RadonTestImages();
+
+    public static RadonTestImages instance() {
+        return INSTANCE;
+    }
+
+    // some segments and some isolated pixels
+    public BufferedImage createSegmentsImage(int width, int height, long seed) {
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(seed);
+
+        Graphics2D grp = result.createGraphics();
+        grp.setColor(Color.WHITE);
+        for (int ii = 0; ii < 6; ii++) {
+            grp.drawLine(random.nextInt(width), random.nextInt(height), random.nextInt(width), random.nextInt(height));
+        }
+        grp.dispose();
+
+        for (int ii = 0; ii < width * height / 50; ii++) {
+            result.setRGB(random.nextInt(width), random.nextInt(height), Color.GRAY.getRGB());
+        }
+
+        return result;
+    }
+
+    // white lines on black, given by the ends of every line: x1, y1, x2, y2, ...
+    public BufferedImage createLinesImage(int width, int height, int... lineEnds) {
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D grp = result.createGraphics();
+        grp.setColor(Color.WHITE);
+        for (int ii = 0; ii + 3 < lineEnds.length; ii += 4) {
+            grp.drawLine(lineEnds[ii], lineEnds[ii + 1], lineEnds[ii + 2], lineEnds[ii + 3]);
+        }
+        grp.dispose();
+
+        return result;
+    }
+
+    public BufferedImage createFilledImage(int width, int height, Color color) {
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D grp = result.createGraphics();
+        grp.setColor(color);
+        grp.fillRect(0, 0, width, height);
+        grp.dispose();
+
+        return result;
+    }
+
+    public void assertSameBins(String message, My2dContainer expected, My2dContainer actual, double delta) {
+        assertEquals(message + ": width", expected.getWidth(), actual.getWidth());
+        assertEquals(message + ": height", expected.getHeight(), actual.getHeight());
+        for (int thetaIndex = 0; thetaIndex < expected.getHeight(); thetaIndex++) {
+            for (int rhoIndex = 0; rhoIndex < expected.getWidth(); rhoIndex++) {
+                assertEquals(message + ": bin (" + rhoIndex + ", " + thetaIndex + ")",
+                        expected.getDouble(rhoIndex, thetaIndex), actual.getDouble(rhoIndex, thetaIndex), delta);
+            }
+        }
+    }
+}
@@ -33,6 +33,7 @@ import com.frojasg1.gen.tuples.Pair;
 import com.frojasg1.image.Point2d;
 import com.frojasg1.image.gen.geometry.GeometryFunctions;
 import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.normalized.impl.My2dContainerDoubleArrayImpl;
 import com.frojasg1.image.processing.radon.result.RadonTransformResult;
 import java.awt.BasicStroke;
 import java.awt.Color;
@@ -120,6 +121,51 @@ public class RadonTransformCalculatorTest {
         assertEquals(4, sortedVertex.size());
     }
 
+    @Test
+    public void rhoThetaOfLinesThroughTheCenter() {
+        RadonTransformCalculator radonTransform = createCalculatorWithGeometry(201, 101);
+        Point2d center = radonTransform.getImageCenter();
+
+        for (int degrees = 0; degrees < 360; degrees += 5) {
+            double lineAngle = Math.toRadians(degrees);
+            Point2d direction = createPoint2d(Math.cos(lineAngle), Math.sin(lineAngle));
+            Point2d normal = createPoint2d(-direction.y, direction.x);
+
+            Point2d rhoTheta = calculateRhoTheta(radonTransform, center, direction);
+
+            // theta is the angle of the normal of the line (modulo PI)
+            assertEquals("rho for line angle " + degrees, 0.0d, rhoTheta.x, 1e-9);
+            assertEquals("theta for line angle " + degrees, 0.0d,
+                    angleDistanceModuloPi(rhoTheta.y, lineAngle + Math.PI * 0.5d), 1e-9);
+
+            // same theta as the parallel lines close to the center
+            for (double offset : new double[] { -0.5d, 0.5d }) {
+                Point2d closeRhoTheta = calculateRhoTheta(radonTransform,
+                        center.add(normal.multiplyByScalar(offset)), direction);
+                assertEquals("theta of line close to the center, for line angle " + degrees, 0.0d,
+                        angleDistanceModuloPi(rhoTheta.y, closeRhoTheta.y), 1e-9);
+            }
+        }
+    }
+
+    // only the image size and the center are needed to calculate rho and theta
+    protected RadonTransformCalculator createCalculatorWithGeometry(int width, int height) {
+        RadonTransformCalculator result = new RadonTransformCalculator(null);
+        result.myNormalizedImage = new My2dContainerDoubleArrayImpl(width, height).init();
+        result.imageCenter = result.calculateImageCenter();
+        return result;
+    }
+
+    protected Point2d calculateRhoTheta(RadonTransformCalculator radonTransform, Point2d linePoint, Point2d direction) {
+        return radonTransform.calculateRhoTheta(linePoint.add(direction.multiplyByScalar(-50)),
+                linePoint.add(direction.multiplyByScalar(50)));
+    }
+
+    protected double angleDistanceModuloPi(double angle1, double angle2) {
+        double result = Math.abs(angle1 - angle2) % Math.PI;
+        return Math.min(result, Math.PI - result);
+    }
+
     // filtering for nearly horizontal or vertical lines
     protected boolean filterRhoTheta(Point2d rhoTheta, double thetaTolerance) {
         double theta = rhoTheta.y;
@@ -0,0 +1,214 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon;
+
+
+import com.frojasg1.image.Point2d;
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.processing.radon.config.RadonTaskScheduling;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import com.frojasg1.image.processing.radon.result.RadonWindow;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class RadonWindowTest {
+
+    protected static final int TIMEOUT_MS = 120_000;
+
+    protected ExecutorService executorService;
+    protected BufferedImage image;
+
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+        image = RadonTestImages.instance().createSegmentsImage(131, 97, 11L);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void windowedBinsEqualFullTransform() throws InterruptedException, ExecutionException, TimeoutException {
+        assertWindowsEqualFullTransform(RadonTransformConfiguration.createDefault());
+    }
+
+    @Test
+    public void windowedBinsEqualFullTransformWithForkJoin() throws InterruptedException, ExecutionException, TimeoutException {
+        assertWindowsEqualFullTransform(RadonTransformConfiguration.createDefault()
+                .setTaskScheduling(RadonTaskScheduling.FORK_JOIN));
+    }
+
+    @Test
+    public void thetaRangesWrapModuloPi() {
+        // around 0: [PI - 0.2, PI] and [0, 0.2]
+        RadonWindow window = new RadonWindow().addThetaRangeAround(0.0d, 0.2d);
+        assertEquals(2, window.getThetaRanges().size());
+        assertTrue(window.containsTheta(0.1d));
+        assertTrue(window.containsTheta(Math.PI - 0.1d));
+        assertTrue(window.containsTheta(2 * Math.PI + 0.1d));
+        assertTrue(window.containsTheta(-0.1d));
+        assertFalse(window.containsTheta(0.3d));
+        assertFalse(window.containsTheta(Math.PI * 0.5d));
+
+        // several rounds away from [0, PI)
+        window = new RadonWindow().addThetaRange(-7.0d, -6.5d);
+        double from = -7.0d + 3 * Math.PI;
+        assertTrue(window.containsTheta(from + 0.25d));
+        assertTrue(window.containsTheta(from + 0.25d - Math.PI));
+        assertFalse(window.containsTheta(from - 0.1d));
+        assertFalse(window.containsTheta(from + 0.6d));
+
+        // a range of PI or more is every theta
+        window = new RadonWindow().addThetaRange(1.0d, 1.0d + Math.PI);
+        assertTrue(window.containsTheta(0.0d));
+        assertTrue(window.containsTheta(Math.PI * 0.5d));
+
+        // an arc crossing PI intersects both ends of [0, PI)
+        window = new RadonWindow().addThetaRange(0.0d, 0.1d);
+        assertTrue(window.intersectsThetaRange(Math.PI - 0.1d, Math.PI + 0.05d));
+        assertFalse(window.intersectsThetaRange(Math.PI - 0.3d, Math.PI - 0.2d));
+    }
+
+    @Test
+    public void directionsSweepPruning() {
+        RadonTransformCalculator radonTransform = new RadonTransformCalculator(null)
+                .initGeometry(1001, 1001)
+                .setWindow(new RadonWindow().addThetaRangeAround(Math.PI * 0.5d, 0.1d));
+
+        // horizontal lines have a vertical normal (theta = PI / 2)
+        assertTrue(radonTransform.isDirectionsSweepInWindow(createPoint2d(1, -0.05d), createPoint2d(1, 0.05d)));
+        assertTrue(radonTransform.isDirectionsSweepInWindow(createPoint2d(-1, 0.05d), createPoint2d(-1, -0.05d)));
+        // from vertical to diagonal lines, whose normals are far from PI / 2
+        assertFalse(radonTransform.isDirectionsSweepInWindow(createPoint2d(0, 1), createPoint2d(1, 1)));
+        assertFalse(radonTransform.isDirectionsSweepInWindow(createPoint2d(1, 1), createPoint2d(0, 1)));
+        // a sweep crossing the window on its way
+        assertTrue(radonTransform.isDirectionsSweepInWindow(createPoint2d(1, -1), createPoint2d(1, 1)));
+
+        // around 0 (vertical lines), the normals sweep across PI
+        radonTransform.setWindow(new RadonWindow().addThetaRangeAround(0.0d, 0.1d));
+        assertTrue(radonTransform.isDirectionsSweepInWindow(createPoint2d(-0.05d, 1), createPoint2d(0.05d, 1)));
+        assertTrue(radonTransform.isDirectionsSweepInWindow(createPoint2d(0.05d, -1), createPoint2d(-0.05d, -1)));
+        assertFalse(radonTransform.isDirectionsSweepInWindow(createPoint2d(1, 0.5d), createPoint2d(1, 1)));
+    }
+
+    @Test
+    public void indexToRhoThetaIsRelativeToTheWindow() throws InterruptedException, ExecutionException, TimeoutException {
+        RadonWindow window = new RadonWindow()
+                .addThetaRange(1.0d, 1.3d)
+                .setRhoRange(-10.0d, 25.0d);
+        RadonTransformResult result = calculate(RadonTransformConfiguration.createDefault(), window).getResult();
+
+        My2dContainer windowedTransform = result.getRadonTransform();
+        Point2d first = result.indexToRhoTheta(0, 0);
+        Point2d last = result.indexToRhoTheta(windowedTransform.getWidth() - 1, windowedTransform.getHeight() - 1);
+
+        assertTrue(window.containsRho(first.x) || window.containsRho(first.x + 1));
+        assertTrue(window.containsRho(last.x) || window.containsRho(last.x + 1));
+        assertTrue(window.intersectsThetaRange(first.y, first.y + result.getThetaStep()));
+        assertTrue(window.intersectsThetaRange(last.y, last.y + result.getThetaStep()));
+        assertEquals(result.getThetaStep(), result.indexToRhoTheta(0, 1).y - first.y, 1e-12);
+        assertEquals(1.0d, result.indexToRhoTheta(1, 0).x - first.x, 1e-12);
+    }
+
+    protected void assertWindowsEqualFullTransform(RadonTransformConfiguration configuration)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        RadonTransformResult full = calculate(configuration, null).getResult();
+
+        RadonWindow[] windows = new RadonWindow[] {
+                new RadonWindow().addThetaRangeAround(0.0d, 0.2d),
+                new RadonWindow().addThetaRange(2.9d, 3.5d),
+                new RadonWindow().addThetaRange(-7.0d, -6.5d),
+                new RadonWindow().addThetaRange(1.0d, 1.3d).setRhoRange(-10.0d, 25.0d),
+                new RadonWindow().addThetaRangeAround(Math.PI * 0.5d, 0.05d)
+                        .addThetaRangeAround(Math.PI * 0.25d, 0.05d)
+        };
+
+        for (RadonWindow window : windows) {
+            RadonTransformCalculator windowed = calculate(configuration, window);
+            assertTrue(windowed.wasSuccessful());
+            assertBinsEqual(full, windowed.getResult(), window);
+        }
+    }
+
+    // every bin of the window is the same bin of the full transform, with window relative indices
+    protected void assertBinsEqual(RadonTransformResult full, RadonTransformResult windowed, RadonWindow window) {
+        My2dContainer fullTransform = full.getRadonTransform();
+        My2dContainer windowedTransform = windowed.getRadonTransform();
+
+        int windowRow = 0;
+        for (int thetaIndex = 0; thetaIndex < full.getNumElementsForTheta(); thetaIndex++) {
+            double theta = full.indexToRhoTheta(0, thetaIndex).y;
+            boolean expectedInWindow = window.intersectsThetaRange(theta, theta + full.getThetaStep());
+            assertEquals("theta index " + thetaIndex + " of " + window, expectedInWindow,
+                    windowed.isThetaIndexInWindow(thetaIndex));
+            if (expectedInWindow) {
+                for (int rhoIndex = windowed.getWindowRhoIndexFrom(); rhoIndex <= windowed.getWindowRhoIndexTo(); rhoIndex++) {
+                    int windowRhoIndex = rhoIndex - windowed.getWindowRhoIndexFrom();
+                    String bin = "bin (" + rhoIndex + ", " + thetaIndex + ") of " + window;
+
+                    assertEquals(bin, full.indexToRhoTheta(rhoIndex, thetaIndex),
+                            windowed.indexToRhoTheta(windowRhoIndex, windowRow));
+                    assertEquals(bin, fullTransform.getDouble(rhoIndex, thetaIndex),
+                            windowedTransform.getDouble(windowRhoIndex, windowRow), 0.0d);
+                }
+                windowRow++;
+            }
+        }
+        assertEquals(windowRow, windowedTransform.getHeight());
+        assertEquals(windowed.getWindowRhoIndexTo() - windowed.getWindowRhoIndexFrom() + 1, windowedTransform.getWidth());
+    }
+
+    protected RadonTransformCalculator calculate(RadonTransformConfiguration configuration, RadonWindow window)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        RadonTransformExecutor radonTransformExecutor = new RadonTransformExecutor(executorService::submit, configuration);
+
+        return radonTransformExecutor.calculateRadonTransform(image, TIMEOUT_MS, window, null)
+                .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    protected Point2d createPoint2d(double xx, double yy) {
+        return Point2d.create(xx, yy);
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon.async;
+
+
+import com.frojasg1.image.processing.radon.RadonTestImages;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.RadonTransformExecutor;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class RadonAsyncCalculatorTest {
+
+    protected static final int TIMEOUT_MS = 120_000;
+    protected static final int WIDTH = 61;
+    protected static final int HEIGHT = 47;
+    protected static final String CALLBACK_THREAD_NAME = "radonCallback";
+
+    protected ExecutorService executorService;
+    protected ExecutorService callbackExecutorService;
+
+    // tasks of the calculator, run by the test thread when it drains them
+    protected Deque<Runnable> pendingTasks = new ArrayDeque<>();
+
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+        callbackExecutorService = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, CALLBACK_THREAD_NAME));
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+        callbackExecutorService.shutdownNow();
+    }
+
+    // no thread waits for the tasks: the future is completed by the last one
+    @Test
+    public void completesWithoutCoordinatorThread() throws InterruptedException, ExecutionException, TimeoutException {
+        BufferedImage image = getTestImages().createSegmentsImage(WIDTH, HEIGHT, 3L);
+        RadonAsyncCalculator calculator = createCalculator(null);
+
+        CompletableFuture<RadonTransformCalculator> future = calculator.processAsync(image, TIMEOUT_MS);
+        assertFalse(future.isDone());
+        assertEquals(1, pendingTasks.size());
+
+        drainPendingTasks();
+        assertTrue(future.isDone());
+        assertTrue(future.get().wasSuccessful());
+
+        RadonTransformCalculator expected = new RadonTransformExecutor(executorService::submit)
+                .calculateRadonTransform(image, TIMEOUT_MS)
+                .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        getTestImages().assertSameBins("transform", expected.getResult().getRadonTransform(),
+                calculator.getResult().getRadonTransform(), 0.0d);
+
+        // and with a single thread, which a coordinator waiting for the tasks would block
+        ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+        try {
+            RadonTransformCalculator singleThreadCalculator = new RadonTransformExecutor(singleThreadExecutor::submit)
+                    .calculateRadonTransformAsync(image, TIMEOUT_MS, null)
+                    .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            assertTrue(singleThreadCalculator.wasSuccessful());
+            getTestImages().assertSameBins("single thread transform", expected.getResult().getRadonTransform(),
+                    singleThreadCalculator.getResult().getRadonTransform(), 0.0d);
+        } finally {
+            singleThreadExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void stagesRunOnTheCallbackExecutor() throws InterruptedException, ExecutionException, TimeoutException {
+        RadonAsyncCalculator calculator = createCalculator(callbackExecutorService);
+
+        CompletableFuture<String> threadName = calculator
+                .processAsync(getTestImages().createSegmentsImage(WIDTH, HEIGHT, 5L), TIMEOUT_MS)
+                .thenApply(result -> Thread.currentThread().getName());
+        drainPendingTasks();
+
+        assertEquals(CALLBACK_THREAD_NAME, threadName.get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertTrue(calculator.getFuture().get().wasSuccessful());
+    }
+
+    // past the deadline, pending tasks return without working, and the future completes normally as a timeout
+    @Test
+    public void deadlineCompletesAsTimeout() throws InterruptedException, ExecutionException {
+        RadonAsyncCalculator calculator = createCalculator(null);
+
+        CompletableFuture<RadonTransformCalculator> future = calculator
+                .processAsync(getTestImages().createSegmentsImage(WIDTH, HEIGHT, 7L), 1);
+        Thread.sleep(20L);
+        drainPendingTasks();
+
+        assertTrue(future.isDone());
+        assertFalse(future.isCompletedExceptionally());
+        assertTrue(future.get().wasTimeout());
+        assertFalse(future.get().wasSuccessful());
+        assertEquals(0, calculator.countdown.get());
+    }
+
+    // tasks dispatched before the cancellation still count down, and nothing is left pending
+    @Test
+    public void cancelLeavesNoPendingCountdown() {
+        RadonAsyncCalculator calculator = createCalculator(null);
+
+        CompletableFuture<RadonTransformCalculator> future = calculator
+                .processAsync(getTestImages().createSegmentsImage(WIDTH, HEIGHT, 9L), TIMEOUT_MS);
+        // the dispatch
+        pendingTasks.poll().run();
+        assertTrue(pendingTasks.size() > 1);
+        assertEquals(pendingTasks.size(), calculator.countdown.get());
+
+        calculator.cancel();
+        assertTrue(future.isCancelled());
+        drainPendingTasks();
+
+        assertEquals(0, calculator.countdown.get());
+        assertFalse(calculator.wasSuccessful());
+    }
+
+    @Test
+    public void cancelBeforeTheDispatchLeavesNoPendingCountdown() {
+        RadonAsyncCalculator calculator = createCalculator(null);
+
+        CompletableFuture<RadonTransformCalculator> future = calculator
+                .processAsync(getTestImages().createSegmentsImage(WIDTH, HEIGHT, 11L), TIMEOUT_MS);
+        calculator.cancel();
+        drainPendingTasks();
+
+        assertTrue(future.isCancelled());
+        assertEquals(0, calculator.countdown.get());
+    }
+
+    protected RadonAsyncCalculator createCalculator(ExecutorService callbackExecutor) {
+        return new RadonAsyncCalculator(pendingTasks::add, RadonTransformConfiguration.createDefault(), callbackExecutor);
+    }
+
+    protected void drainPendingTasks() {
+        Runnable task;
+        while ((task = pendingTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    protected RadonTestImages getTestImages() {
+        return RadonTestImages.instance();
+    }
+}
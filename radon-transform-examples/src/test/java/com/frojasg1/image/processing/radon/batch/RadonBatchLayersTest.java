@@ -0,0 +1,97 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon.batch;
+
+
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.normalized.impl.My2dContainerDoubleArrayImpl;
+import com.frojasg1.image.normalized.view.My2dContainerReadOnlyAbstract;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+public class RadonBatchLayersTest {
+
+    @Test
+    public void pixelsOfEveryLayerAreInterleaved() {
+        My2dContainer layer0 = createLayer(3, 2, 0.0d);
+        My2dContainer layer1 = createLayer(3, 2, 100.0d);
+
+        RadonBatchLayers batchLayers = new RadonBatchLayers(Arrays.asList(layer0, layer1)).init();
+
+        double[] pixels = batchLayers.getPixels();
+        assertEquals(3 * 2 * 2, pixels.length);
+        for (int yy = 0; yy < 2; yy++) {
+            for (int xx = 0; xx < 3; xx++) {
+                int index = (yy * 3 + xx) * 2;
+                assertEquals(layer0.getDouble(xx, yy), pixels[index], 0.0d);
+                assertEquals(layer1.getDouble(xx, yy), pixels[index + 1], 0.0d);
+            }
+        }
+    }
+
+    @Test
+    public void tooManyPixelsAreRejected() {
+        // 46341^2 is over Integer.MAX_VALUE, which overflowed the size of the array
+        My2dContainer hugeLayer = new ConstantView(46_341, 46_341);
+        try {
+            new RadonBatchLayers(Collections.nCopies(2, hugeLayer)).init();
+            fail("The batch has been allocated");
+        } catch (IllegalArgumentException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().startsWith("Too many pixels for a batch"));
+        }
+    }
+
+    protected My2dContainer createLayer(int width, int height, double offset) {
+        My2dContainer result = new My2dContainerDoubleArrayImpl(width, height, 0.0d).init();
+        for (int yy = 0; yy < height; yy++) {
+            for (int xx = 0; xx < width; xx++) {
+                result.setDouble(xx, yy, offset + yy * width + xx);
+            }
+        }
+        return result;
+    }
+
+    // a view of any size, without storage
+    protected static class ConstantView extends My2dContainerReadOnlyAbstract {
+        public ConstantView(int width, int height) {
+            super(width, height);
+        }
+
+        @Override
+        public double getDouble(int xx, int yy) {
+            return 0.0d;
+        }
+    }
+}
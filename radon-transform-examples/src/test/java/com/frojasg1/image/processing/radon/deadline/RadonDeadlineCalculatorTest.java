@@ -0,0 +1,118 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon.deadline;
+
+
+import com.frojasg1.image.processing.radon.RadonTestImages;
+import com.frojasg1.image.processing.radon.RadonTransformExecutor;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class RadonDeadlineCalculatorTest {
+
+    protected static final int TIMEOUT_MS = 120_000;
+
+    protected ExecutorService executorService;
+
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void completesInTimeWithTheWholeTransform() throws InterruptedException, ExecutionException, TimeoutException {
+        RadonDeadlineCalculator calculator = (RadonDeadlineCalculator) new RadonTransformExecutor(executorService::submit,
+                RadonTransformConfiguration.createDefault())
+                .calculateRadonTransformWithDeadline(RadonTestImages.instance().createSegmentsImage(61, 47, 5L),
+                        TIMEOUT_MS, null)
+                .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        assertTrue(calculator.wasSuccessful());
+        assertFalse(calculator.wasDeadlineReached());
+        assertTrue(calculator.wasDrained());
+        assertEquals(1.0d, calculator.getCompleteness(), 0.0d);
+    }
+
+    // the only thread of the executor is busy with other work, so no task can start before the deadline
+    @Test
+    public void busyExecutorDoesNotDelayTheFutureAfterTheDeadline()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        int deadlineMs = 200;
+        int drainTimeoutMs = 100;
+        CountDownLatch otherWork = new CountDownLatch(1);
+        executorService.submit(() -> {
+            otherWork.await();
+            return null;
+        });
+
+        try {
+            long start = System.currentTimeMillis();
+            RadonDeadlineCalculator calculator = (RadonDeadlineCalculator) new RadonTransformExecutor(executorService::submit,
+                    RadonTransformConfiguration.createDefault()
+                            .setDeadlineDrainTimeoutMs(drainTimeoutMs))
+                    .calculateRadonTransformWithDeadline(RadonTestImages.instance().createSegmentsImage(61, 47, 5L),
+                            deadlineMs, null)
+                    .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            long elapsedMs = System.currentTimeMillis() - start;
+
+            assertTrue("elapsed " + elapsedMs + " ms", elapsedMs < deadlineMs + drainTimeoutMs + 5_000);
+            assertTrue(calculator.wasTimeout());
+            assertTrue(calculator.wasDeadlineReached());
+            assertFalse(calculator.wasDrained());
+            assertEquals(0.0d, calculator.getCompleteness(), 0.0d);
+
+            // tasks started after the future completed return without working
+            otherWork.countDown();
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+            assertEquals(0.0d, calculator.getCompleteness(), 0.0d);
+        } finally {
+            otherWork.countDown();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon.engine;
+
+
+import com.frojasg1.gen.tuples.Pair;
+import com.frojasg1.image.Point2d;
+import com.frojasg1.image.browsers.LinePixelsBrowser;
+import com.frojasg1.image.processing.radon.RadonTestImages;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.RadonTransformExecutor;
+import com.frojasg1.image.processing.radon.config.RadonTransformAlgorithm;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class RadonDenseBinsEngineTest {
+
+    protected static final int TIMEOUT_MS = 120_000;
+    protected static final int WIDTH = 61;
+    protected static final int HEIGHT = 47;
+
+    protected ExecutorService executorService;
+
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void chordsOfAxisLines() throws InterruptedException, ExecutionException, TimeoutException {
+        RadonBinLineClipper clipper = new RadonBinLineClipper(calculateDenseBins(createWhiteImage()));
+        int[] segment = new int[4];
+
+        // horizontal line through the center (23), from the first to the last column of the inner frame
+        assertTrue(clipper.clip(0.0d, Math.cos(Math.PI * 0.5d), Math.sin(Math.PI * 0.5d), segment));
+        assertSegment(segment, 1, 23, WIDTH - 2, 23);
+        assertEquals(WIDTH - 2, clipper.countPixels(segment));
+
+        // vertical line through the center (30)
+        assertTrue(clipper.clip(0.0d, 1.0d, 0.0d, segment));
+        assertSegment(segment, 30, 1, 30, HEIGHT - 2);
+        assertEquals(HEIGHT - 2, clipper.countPixels(segment));
+
+        // lines on the border of the image are out of the inner frame
+        assertFalse(clipper.clip(-30.0d, 1.0d, 0.0d, segment));
+        assertFalse(clipper.clip(30.0d, 1.0d, 0.0d, segment));
+        // and so are the ones beyond a corner of the frame: (59, 45) is at rho = (29 + 22) * cos(PI / 4)
+        double cosDiagonal = Math.cos(Math.PI * 0.25d);
+        assertTrue(clipper.clip((29 + 22) * cosDiagonal - 1.0d, cosDiagonal, cosDiagonal, segment));
+        assertFalse(clipper.clip((29 + 22) * cosDiagonal + 0.5d, cosDiagonal, cosDiagonal, segment));
+    }
+
+    // with every pixel set to the same value, every bin is that value times the number of pixels
+    // of the chord of its center line
+    @Test
+    public void binsArePixelCountsOfTheirChords() throws InterruptedException, ExecutionException, TimeoutException {
+        RadonTransformCalculator calculator = calculateDenseBins(createWhiteImage());
+        RadonTransformResult result = calculator.getResult();
+        RadonBinLineClipper clipper = new RadonBinLineClipper(calculator);
+        int[] segment = new int[4];
+        double pixelValue = calculator.getMyNormalizedImage().getDouble(0, 0);
+        assertTrue(pixelValue > 0.9d);
+        double maxDistance = Math.sqrt(0.5d) + 1e-9;
+
+        int numComputed = 0;
+        for (int thetaIndex = 0; thetaIndex < result.getNumElementsForTheta(); thetaIndex++) {
+            double theta = result.getThetaBinCenter(thetaIndex);
+            double cosTheta = Math.cos(theta);
+            double sinTheta = Math.sin(theta);
+            for (int rhoIndex = 0; rhoIndex < result.getNumElementsForRho(); rhoIndex++) {
+                String bin = "bin (" + rhoIndex + ", " + thetaIndex + ")";
+                double rho = result.getRhoBinCenter(rhoIndex);
+                // the last theta row (theta = PI) is the first one
+                boolean expectedComputed = (thetaIndex < result.getNumElementsForTheta() - 1)
+                        && clipper.clip(rho, cosTheta, sinTheta, segment);
+                assertEquals(bin, expectedComputed, result.isComputed(rhoIndex, thetaIndex));
+                if (expectedComputed) {
+                    numComputed++;
+                    assertChordInFrame(bin, segment);
+                    Point2d center = calculator.getImageCenter();
+                    assertEquals(bin, 0.0d, distanceToLine(segment[0], segment[1], center, rho, cosTheta, sinTheta), maxDistance);
+                    assertEquals(bin, 0.0d, distanceToLine(segment[2], segment[3], center, rho, cosTheta, sinTheta), maxDistance);
+
+                    int numPixels = clipper.countPixels(segment);
+                    assertEquals(bin, countWalkedPixels(segment), numPixels);
+                    assertEquals(bin, numPixels * pixelValue, result.getRadonTransform().getDouble(rhoIndex, thetaIndex), 1e-9);
+                    assertEquals(bin, pixelValue, result.getNormalizedRadonTransform().getDouble(rhoIndex, thetaIndex), 1e-12);
+                }
+            }
+        }
+        assertTrue(numComputed > result.getNumElementsForRho() * (result.getNumElementsForTheta() - 1) / 2);
+    }
+
+    @Test
+    public void topLinesEqualBoundaryPairs() throws InterruptedException, ExecutionException, TimeoutException {
+        BufferedImage image = getTestImages().createLinesImage(131, 97,
+                0, 10, 130, 60,
+                20, 0, 90, 96,
+                0, 85, 130, 70);
+
+        RadonTransformResult denseBins = calculate(image, RadonTransformAlgorithm.DENSE_BINS).getResult();
+        RadonTransformResult boundaryPairs = calculate(image, RadonTransformAlgorithm.BOUNDARY_PAIRS).getResult();
+
+        Point2d sameLineDelta = Point2d.create(4.0d, 0.1d);
+        List<Pair<Point2d, Double>> denseTopLines = denseBins.getTopLines(3, rhoTheta -> true, sameLineDelta);
+        List<Pair<Point2d, Double>> boundaryPairsTopLines = boundaryPairs.getTopLines(3, rhoTheta -> true, sameLineDelta);
+        assertEquals(3, denseTopLines.size());
+        assertEquals(3, boundaryPairsTopLines.size());
+
+        // the same lines, within a bin
+        for (Pair<Point2d, Double> denseTopLine : denseTopLines) {
+            Point2d rhoTheta = denseTopLine.getKey();
+            assertTrue("top line " + rhoTheta + " of " + boundaryPairsTopLines, boundaryPairsTopLines.stream()
+                    .map(Pair::getKey)
+                    .anyMatch(other -> Math.abs(other.x - rhoTheta.x) <= 1.0d
+                            && Math.abs(other.y - rhoTheta.y) <= denseBins.getThetaStep() * 1.01d));
+        }
+    }
+
+    protected void assertSegment(int[] segment, int x1, int y1, int x2, int y2) {
+        // the order of the ends depends on the direction of the line
+        boolean sameOrder = (segment[0] == x1) && (segment[1] == y1);
+        int[] expected = sameOrder ? new int[] { x1, y1, x2, y2 } : new int[] { x2, y2, x1, y1 };
+        for (int ii = 0; ii < 4; ii++) {
+            assertEquals("end coordinate " + ii, expected[ii], segment[ii]);
+        }
+    }
+
+    // both ends inside the inner frame, and on its border
+    protected void assertChordInFrame(String message, int[] segment) {
+        for (int ii = 0; ii < 4; ii += 2) {
+            int xx = segment[ii];
+            int yy = segment[ii + 1];
+            assertTrue(message, xx >= 1 && xx <= WIDTH - 2 && yy >= 1 && yy <= HEIGHT - 2);
+            assertTrue(message, xx == 1 || xx == WIDTH - 2 || yy == 1 || yy == HEIGHT - 2);
+        }
+    }
+
+    protected double distanceToLine(int xx, int yy, Point2d center, double rho, double cosTheta, double sinTheta) {
+        return Math.abs((xx - center.x) * cosTheta + (yy - center.y) * sinTheta - rho);
+    }
+
+    protected int countWalkedPixels(int[] segment) {
+        AtomicInteger result = new AtomicInteger();
+        LinePixelsBrowser.instance().browseLinePixels(segment[0], segment[1], segment[2], segment[3],
+                (xx, yy) -> result.incrementAndGet());
+        return result.get();
+    }
+
+    protected BufferedImage createWhiteImage() {
+        return getTestImages().createFilledImage(WIDTH, HEIGHT, Color.WHITE);
+    }
+
+    protected RadonTransformCalculator calculateDenseBins(BufferedImage image)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return calculate(image, RadonTransformAlgorithm.DENSE_BINS);
+    }
+
+    protected RadonTransformCalculator calculate(BufferedImage image, RadonTransformAlgorithm algorithm)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        RadonTransformExecutor executor = new RadonTransformExecutor(executorService::submit,
+                RadonTransformConfiguration.createDefault().setAlgorithm(algorithm));
+
+        RadonTransformCalculator result = executor.calculateRadonTransform(image, TIMEOUT_MS)
+                .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertTrue(result.wasSuccessful());
+        return result;
+    }
+
+    protected RadonTestImages getTestImages() {
+        return RadonTestImages.instance();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon.engine;
+
+
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.config.RadonTransformAlgorithm;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+public class RadonDyadicEngineTest {
+
+    @Test
+    public void bufferLengthIsTheOneOfTheBiggestOrientation() {
+        RadonDyadicEngine engine = new RadonDyadicEngine();
+
+        // mostly horizontal lines: 128 columns x (50 + 127) rows. Mostly vertical ones: 64 x (100 + 63)
+        assertEquals(128 * 177, engine.calculateBufferLength(100, 50));
+        assertEquals(128 * 177, engine.calculateBufferLength(50, 100));
+
+        // 32768 x (20000 + 32767) still fits in an array
+        assertEquals(32_768L * 52_767L, engine.calculateBufferLength(20_000, 20_000));
+    }
+
+    // 65536 x (39998 + 65535) elements do not fit in an int
+    @Test
+    public void tooBigImagesFailBeforeSubmittingTasks() {
+        AtomicInteger numSubmittedTasks = new AtomicInteger();
+        RadonTransformCalculator calculator = new RadonTransformCalculator(null,
+                task -> numSubmittedTasks.incrementAndGet(),
+                RadonTransformConfiguration.createDefault().setAlgorithm(RadonTransformAlgorithm.DYADIC))
+                .initGeometry(40_000, 1_000);
+
+        try {
+            new RadonDyadicEngine().dispatchTasks(calculator);
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException iae) {
+            assertTrue(iae.getMessage(), iae.getMessage().contains("39998 x 998"));
+        }
+        assertEquals(0, numSubmittedTasks.get());
+    }
+}
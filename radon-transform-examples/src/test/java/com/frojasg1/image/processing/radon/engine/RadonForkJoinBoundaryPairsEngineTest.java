@@ -0,0 +1,132 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon.engine;
+
+
+import com.frojasg1.image.processing.radon.RadonTestImages;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.RadonTransformExecutor;
+import com.frojasg1.image.processing.radon.config.RadonTaskScheduling;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.progressive.RadonTransformSnapshot;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+public class RadonForkJoinBoundaryPairsEngineTest {
+
+    protected static final int TIMEOUT_MS = 120_000;
+    protected static final int PARALLELISM = 2;
+
+    protected ExecutorService executorService;
+    protected ForkJoinPool forkJoinPool;
+    protected BufferedImage image;
+
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+        forkJoinPool = new ForkJoinPool(PARALLELISM);
+        image = getTestImages().createSegmentsImage(131, 97, 11L);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+        forkJoinPool.shutdownNow();
+    }
+
+    @Test
+    public void forkJoinEqualsPerStartPixel() throws InterruptedException, ExecutionException, TimeoutException {
+        RadonTransformCalculator expected = new RadonTransformExecutor(executorService::submit)
+                .calculateRadonTransform(image, TIMEOUT_MS).get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        RadonTransformCalculator forkJoin = new RadonTransformExecutor(executorService::submit, createConfiguration())
+                .calculateRadonTransform(image, TIMEOUT_MS).get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        assertTrue(forkJoin.wasSuccessful());
+        getTestImages().assertSameBins("fork join", expected.getResult().getRadonTransform(),
+                forkJoin.getResult().getRadonTransform(), 0.0d);
+    }
+
+    // every range of pairs is a task, so that progress is reported while the pool works
+    @Test
+    public void progressIsReportedByRangesOfPairs() throws InterruptedException, ExecutionException, TimeoutException {
+        List<RadonTransformSnapshot> snapshots = Collections.synchronizedList(new ArrayList<>());
+        RadonTransformCalculator radonTransform = new RadonTransformExecutor(executorService::submit,
+                createConfiguration().setSnapshotIntervalMs(1))
+                .calculateProgressiveRadonTransform(image, TIMEOUT_MS, snapshots::add, null)
+                .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertTrue(radonTransform.wasSuccessful());
+
+        RadonTransformSnapshot last = snapshots.get(snapshots.size() - 1);
+        assertTrue(last.isLast());
+        // about UNITS_PER_WORKER ranges per worker
+        assertTrue(String.valueOf(last.getNumTasks()), last.getNumTasks() > PARALLELISM * 4);
+        assertEquals(last.getNumTasks(), last.getNumCompletedTasks());
+    }
+
+    // with a single thread in the executor, no thread waits for the pool
+    @Test
+    public void asyncCalculationWithASingleThread() throws InterruptedException, ExecutionException, TimeoutException {
+        ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+        try {
+            RadonTransformCalculator radonTransform = new RadonTransformExecutor(singleThreadExecutor::submit,
+                    createConfiguration())
+                    .calculateRadonTransformAsync(image, TIMEOUT_MS, null)
+                    .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            assertTrue(radonTransform.wasSuccessful());
+        } finally {
+            singleThreadExecutor.shutdownNow();
+        }
+    }
+
+    protected RadonTransformConfiguration createConfiguration() {
+        return RadonTransformConfiguration.createDefault()
+                .setTaskScheduling(RadonTaskScheduling.FORK_JOIN)
+                .setForkJoinPool(forkJoinPool);
+    }
+
+    protected RadonTestImages getTestImages() {
+        return RadonTestImages.instance();
+    }
+}
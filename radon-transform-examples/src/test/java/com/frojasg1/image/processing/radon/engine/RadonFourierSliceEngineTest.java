@@ -0,0 +1,90 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon.engine;
+
+
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.config.RadonTransformAlgorithm;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+public class RadonFourierSliceEngineTest {
+
+    @Test
+    public void gridSizeIsTheNextPowerOfTwoOfTheRhos() {
+        RadonFourierSliceEngine engine = new RadonFourierSliceEngine();
+
+        RadonTransformResult result = createGeometry(131, 97);
+        assertTrue(result.getNumElementsForRho() > 128);
+        assertEquals(256, engine.calculateSize(result, 1.0d));
+        assertEquals(512, engine.calculateSize(result, 2.0d));
+
+        // the biggest grid that fits in an array: 32768 x 32768
+        result = createGeometry(22_000, 22_000);
+        assertTrue(result.getNumElementsForRho() > 16_384);
+        assertEquals(32_768, engine.calculateSize(result, 1.0d));
+    }
+
+    // a diagonal above 32768 pixels needs a 65536 x 65536 grid, whose length does not fit in an int
+    @Test
+    public void tooBigImagesFailBeforeSubmittingTasks() {
+        AtomicInteger numSubmittedTasks = new AtomicInteger();
+        RadonTransformCalculator calculator = new RadonTransformCalculator(null,
+                task -> numSubmittedTasks.incrementAndGet(),
+                RadonTransformConfiguration.createDefault().setAlgorithm(RadonTransformAlgorithm.FOURIER_SLICE))
+                .initGeometry(24_000, 24_000);
+
+        try {
+            new RadonFourierSliceEngine().dispatchTasks(calculator);
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException iae) {
+            assertTrue(iae.getMessage(), iae.getMessage().contains("65536 x 65536"));
+        }
+        assertEquals(0, numSubmittedTasks.get());
+
+        // and so do the ones which only overflow with oversampling
+        try {
+            new RadonFourierSliceEngine().calculateSize(createGeometry(22_000, 22_000), 2.0d);
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException iae) {
+            assertTrue(iae.getMessage(), iae.getMessage().contains("FOURIER_SLICE"));
+        }
+    }
+
+    protected RadonTransformResult createGeometry(int width, int height) {
+        return new RadonTransformResult(width, height).initGeometry();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon.engine;
+
+
+import com.frojasg1.gen.tuples.Pair;
+import com.frojasg1.image.Point2d;
+import com.frojasg1.image.processing.radon.RadonTestImages;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.RadonTransformExecutor;
+import com.frojasg1.image.processing.radon.config.RadonTransformAlgorithm;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+public class RadonSparseVotingEngineTest {
+
+    protected static final int TIMEOUT_MS = 120_000;
+    protected static final int WIDTH = 101;
+    protected static final int HEIGHT = 61;
+
+    protected ExecutorService executorService;
+
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    // the peak of a single line is the bin of its (rho, theta)
+    @Test
+    public void peakOfASingleLine() throws InterruptedException, ExecutionException, TimeoutException {
+        // from (10, 50) to (90, 20): its normal is (30, 80), and the center of the image is (50, 30)
+        BufferedImage image = getTestImages().createLinesImage(WIDTH, HEIGHT, 10, 50, 90, 20);
+        double normalLength = Math.sqrt(30 * 30 + 80 * 80);
+        double expectedTheta = Math.atan2(80, 30);
+        double expectedRho = ((10 - 50) * 30 + (50 - 30) * 80) / normalLength;
+
+        RadonTransformCalculator calculator = calculate(image, 0.5d);
+        RadonTransformResult result = calculator.getResult();
+        Pair<Point2d, Double> max = result.getMax();
+
+        // the bin of the peak (max gives its lower corner) contains the line
+        Point2d rhoTheta = max.getKey();
+        assertTrue("rho of " + rhoTheta, expectedRho >= rhoTheta.x && expectedRho < rhoTheta.x + 1.0d);
+        assertTrue("theta of " + rhoTheta, expectedTheta >= rhoTheta.y
+                && expectedTheta < rhoTheta.y + result.getThetaStep());
+
+        // every pixel of the line (81, one per column) votes once in every theta row, with its value
+        // scaled by max(|cos|, |sin|). In the row of the peak, the votes fall into the peak bin and its neighbours
+        double pixelValue = calculator.getMyNormalizedImage().getDouble(10, 50);
+        double votes = 81 * pixelValue * 80 / normalLength;
+        double peakTheta = rhoTheta.y + result.getThetaStep() * 0.5d;
+        double peakAndNeighbours = result.getTransform(rhoTheta.x - 0.5d, peakTheta)
+                + max.getValue() + result.getTransform(rhoTheta.x + 1.5d, peakTheta);
+        assertTrue(max.getValue() + " of " + votes, max.getValue() > 0.5d * votes && max.getValue() <= votes + 1e-9);
+        assertEquals(votes, peakAndNeighbours, 0.05d * votes);
+    }
+
+    // pixels at or under the threshold do not vote
+    @Test
+    public void pixelsUnderTheThresholdDoNotVote() throws InterruptedException, ExecutionException, TimeoutException {
+        BufferedImage image = getTestImages().createFilledImage(WIDTH, HEIGHT, Color.GRAY);
+
+        RadonTransformResult result = calculate(image, 0.9d).getResult();
+        assertEquals(0.0d, result.getMax().getValue(), 0.0d);
+
+        result = calculate(image, 0.1d).getResult();
+        assertTrue(result.getMax().getValue() > 0.0d);
+    }
+
+    protected RadonTransformCalculator calculate(BufferedImage image, double threshold)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        RadonTransformExecutor executor = new RadonTransformExecutor(executorService::submit,
+                RadonTransformConfiguration.createDefault()
+                        .setAlgorithm(RadonTransformAlgorithm.SPARSE_VOTING)
+                        .setSparseVotingThreshold(threshold));
+
+        RadonTransformCalculator result = executor.calculateRadonTransform(image, TIMEOUT_MS)
+                .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertTrue(result.wasSuccessful());
+        return result;
+    }
+
+    protected RadonTestImages getTestImages() {
+        return RadonTestImages.instance();
+    }
+}
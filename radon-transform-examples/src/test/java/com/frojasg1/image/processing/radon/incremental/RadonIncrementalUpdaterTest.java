@@ -0,0 +1,202 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon.incremental;
+
+
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.normalized.impl.My2dContainerDoubleArrayImpl;
+import com.frojasg1.image.processing.radon.RadonTestImages;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.RadonTransformExecutor;
+import com.frojasg1.image.processing.radon.config.RadonElementType;
+import com.frojasg1.image.processing.radon.config.RadonTransformAlgorithm;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+public class RadonIncrementalUpdaterTest {
+
+    protected static final int TIMEOUT_MS = 120_000;
+    protected static final int WIDTH = 83;
+    protected static final int HEIGHT = 64;
+    protected static final double TOLERANCE = 1e-9;
+
+    protected ExecutorService executorService;
+    protected RadonTransformExecutor radonTransformExecutor;
+
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+        radonTransformExecutor = new RadonTransformExecutor(executorService::submit,
+                RadonTransformConfiguration.createDefault().setAlgorithm(RadonTransformAlgorithm.DENSE_BINS));
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void updateOfAFewPixelsEqualsRecalculation() throws InterruptedException, ExecutionException, TimeoutException {
+        My2dContainer frame = createFrame(1L);
+        RadonTransformCalculator radonTransform = calculate(copy(frame));
+        RadonIncrementalUpdater updater = new RadonIncrementalUpdater(radonTransform).init();
+        My2dContainer standardized = radonTransform.getResult().getStandardizedRadonTransform();
+
+        // inner pixels, pixels of the border (which are not integrated), and the pixel of the max
+        Random random = new Random(3L);
+        My2dContainer newFrame = copy(frame);
+        for (int ii = 0; ii < 20; ii++) {
+            newFrame.setDouble(random.nextInt(WIDTH), random.nextInt(HEIGHT), random.nextDouble());
+        }
+        newFrame.setDouble(0, 0, 1.0d);
+        newFrame.setDouble(WIDTH - 1, HEIGHT / 2, 1.0d);
+        newFrame.setDouble(WIDTH / 2, HEIGHT / 2, 0.0d);
+
+        BitSet changedPixels = updater.calculateChangedPixels(newFrame);
+        assertTrue(changedPixels.cardinality() > 10);
+        updater.update(newFrame, changedPixels);
+
+        assertSameResult(calculate(copy(newFrame)).getResult(), radonTransform.getResult());
+        // the standardized transform is recalculated in its container
+        assertSame(standardized, radonTransform.getResult().getStandardizedRadonTransform());
+    }
+
+    @Test
+    public void updateOfEveryPixelEqualsRecalculation() throws InterruptedException, ExecutionException, TimeoutException {
+        RadonTransformCalculator radonTransform = calculate(createFrame(1L));
+        RadonIncrementalUpdater updater = new RadonIncrementalUpdater(radonTransform).init();
+
+        My2dContainer newFrame = createFrame(2L);
+        updater.update(newFrame);
+        assertSameResult(calculate(copy(newFrame)).getResult(), radonTransform.getResult());
+
+        // updates can be chained, with the indices of the changed pixels
+        My2dContainer thirdFrame = createFrame(3L);
+        int[] allPixels = new int[WIDTH * HEIGHT];
+        for (int ii = 0; ii < allPixels.length; ii++) {
+            allPixels[ii] = ii;
+        }
+        updater.update(thirdFrame, allPixels);
+        assertSameResult(calculate(copy(thirdFrame)).getResult(), radonTransform.getResult());
+    }
+
+    // the element type was chosen for pixels in [-1, 1]
+    @Test
+    public void pixelsWhichCouldOverflowAnIntSinogramAreRejected()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        radonTransformExecutor = new RadonTransformExecutor(executorService::submit,
+                RadonTransformConfiguration.createDefault()
+                        .setAlgorithm(RadonTransformAlgorithm.DENSE_BINS)
+                        .setElementType(RadonElementType.INT));
+        My2dContainer frame = createFrame(1L);
+        RadonTransformCalculator radonTransform = calculate(copy(frame));
+        RadonIncrementalUpdater updater = new RadonIncrementalUpdater(radonTransform).init();
+
+        My2dContainer newFrame = copy(frame);
+        newFrame.setDouble(WIDTH / 3, HEIGHT / 3, 0.5d);
+        newFrame.setDouble(WIDTH / 2, HEIGHT / 2, 1.0e9d);
+        try {
+            updater.update(newFrame);
+            fail("Pixel out of the range of the sinogram accepted");
+        } catch (IllegalArgumentException ex) {
+            // nothing was updated
+            assertSameResult(calculate(copy(frame)).getResult(), radonTransform.getResult());
+            assertEquals(0, updater.calculateChangedPixels(copy(frame)).cardinality());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void onlyDenseBinsCanBeUpdated() throws InterruptedException, ExecutionException, TimeoutException {
+        RadonTransformExecutor boundaryPairsExecutor = new RadonTransformExecutor(executorService::submit);
+        RadonTransformCalculator radonTransform = boundaryPairsExecutor.calculateRadonTransform(createFrame(1L),
+                TIMEOUT_MS, null, null).get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        new RadonIncrementalUpdater(radonTransform).init();
+    }
+
+    protected void assertSameResult(RadonTransformResult expected, RadonTransformResult actual) {
+        getTestImages().assertSameBins("transform", expected.getRadonTransform(), actual.getRadonTransform(), TOLERANCE);
+        getTestImages().assertSameBins("normalized transform", expected.getNormalizedRadonTransform(),
+                actual.getNormalizedRadonTransform(), TOLERANCE);
+        getTestImages().assertSameBins("standardized transform", expected.getStandardizedRadonTransform(),
+                actual.getStandardizedRadonTransform(), TOLERANCE);
+        assertEquals(expected.getMax().getValue(), actual.getMax().getValue(), TOLERANCE);
+    }
+
+    protected RadonTransformCalculator calculate(My2dContainer frame)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        RadonTransformCalculator result = radonTransformExecutor.calculateRadonTransform(frame, TIMEOUT_MS, null, null)
+                .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertTrue(result.wasSuccessful());
+        return result;
+    }
+
+    // random values in [0, 1], and a third of zeros
+    protected My2dContainer createFrame(long seed) {
+        Random random = new Random(seed);
+        My2dContainer result = new My2dContainerDoubleArrayImpl(WIDTH, HEIGHT).init();
+        for (int yy = 0; yy < HEIGHT; yy++) {
+            for (int xx = 0; xx < WIDTH; xx++) {
+                result.setDouble(xx, yy, (random.nextInt(3) == 0) ? 0.0d : random.nextDouble());
+            }
+        }
+        return result;
+    }
+
+    protected My2dContainer copy(My2dContainer frame) {
+        My2dContainer result = new My2dContainerDoubleArrayImpl(frame.getWidth(), frame.getHeight()).init();
+        for (int yy = 0; yy < frame.getHeight(); yy++) {
+            for (int xx = 0; xx < frame.getWidth(); xx++) {
+                result.setDouble(xx, yy, frame.getDouble(xx, yy));
+            }
+        }
+        return result;
+    }
+
+    protected RadonTestImages getTestImages() {
+        return RadonTestImages.instance();
+    }
+}
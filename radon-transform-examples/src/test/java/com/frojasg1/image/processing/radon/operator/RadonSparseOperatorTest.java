@@ -0,0 +1,225 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon.operator;
+
+
+import com.frojasg1.gen.concurrent.BasicFuture;
+import com.frojasg1.image.helpers.BufferedImageToMyNormalizedImageConverter;
+import com.frojasg1.image.processing.radon.RadonTestImages;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.RadonTransformExecutor;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+public class RadonSparseOperatorTest {
+
+    protected static final int TIMEOUT_MS = 120_000;
+    protected static final int WIDTH = 61;
+    protected static final int HEIGHT = 47;
+
+    protected ExecutorService executorService;
+    protected List<RadonSparseOperator> operators = new ArrayList<>();
+    protected Path path;
+
+
+    @Before
+    public void setUp() throws IOException {
+        executorService = Executors.newFixedThreadPool(4);
+        path = Files.createTempFile("radonSparseOperator", ".bin");
+        new RadonSparseOperatorCompiler()
+                .compile(new RadonTransformCalculator(new BasicFuture<>(null)).initGeometry(WIDTH, HEIGHT), path);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        executorService.shutdownNow();
+        for (RadonSparseOperator operator : operators) {
+            operator.close();
+        }
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    public void appliedOperatorEqualsBoundaryPairs() throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        RadonSparseOperator operator = open(RadonSparseOperator.DEFAULT_COLUMNS_CHUNK_SHIFT);
+        assertEquals(1, operator.getNumColumnsChunks());
+        assertEquals(WIDTH, operator.getKey().getWidth());
+        assertEquals(HEIGHT, operator.getKey().getHeight());
+
+        for (long seed = 1; seed <= 3; seed++) {
+            assertAppliedOperatorEqualsBoundaryPairs(operator, getTestImages().createSegmentsImage(WIDTH, HEIGHT, seed));
+        }
+    }
+
+    @Test
+    public void appliedOperatorOverAViewEqualsBoundaryPairs() throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        RadonSparseOperator operator = open(RadonSparseOperator.DEFAULT_COLUMNS_CHUNK_SHIFT);
+        BufferedImage image = getTestImages().createSegmentsImage(WIDTH, HEIGHT, 5L);
+
+        RadonTransformExecutor operatorExecutor = new RadonTransformExecutor(executorService::submit)
+                .setSparseOperator(operator);
+        RadonTransformCalculator withOperator = get(operatorExecutor.calculateRadonTransform(
+                BufferedImageToMyNormalizedImageConverter.instance().createView(image), TIMEOUT_MS, null, null));
+
+        assertSameResult(calculate(new RadonTransformExecutor(executorService::submit), image), withOperator);
+    }
+
+    @Test
+    public void columnsInSeveralChunks() throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        RadonSparseOperator operator = open(RadonSparseOperator.DEFAULT_COLUMNS_CHUNK_SHIFT);
+        int columnsChunkShift = 10;
+        RadonSparseOperator chunkedOperator = open(columnsChunkShift);
+
+        long expectedNumChunks = (operator.getNumNonZeros() + (1L << columnsChunkShift) - 1) >>> columnsChunkShift;
+        assertTrue(expectedNumChunks > 2);
+        assertEquals(expectedNumChunks, chunkedOperator.getNumColumnsChunks());
+        assertEquals(operator.getNumNonZeros(), chunkedOperator.getNumNonZeros());
+        for (long index = 0; index < operator.getNumNonZeros(); index++) {
+            assertEquals("column " + index, operator.getColumn(index), chunkedOperator.getColumn(index));
+        }
+
+        assertAppliedOperatorEqualsBoundaryPairs(chunkedOperator, getTestImages().createSegmentsImage(WIDTH, HEIGHT, 7L));
+    }
+
+    // writers flushed after every few elements, with longs that do not fit in what is left of the buffer
+    @Test
+    public void smallBuffersWriteTheSameFile() throws IOException {
+        Path smallBuffersPath = Files.createTempFile("radonSparseOperator", ".bin");
+        try {
+            new RadonSparseOperatorCompiler()
+                    .setBufferSize(12)
+                    .compile(new RadonTransformCalculator(new BasicFuture<>(null)).initGeometry(WIDTH, HEIGHT),
+                            smallBuffersPath);
+            assertArrayEquals(Files.readAllBytes(path), Files.readAllBytes(smallBuffersPath));
+        } finally {
+            Files.deleteIfExists(smallBuffersPath);
+        }
+    }
+
+    // row pointers of more rows would not fit in a single mapping
+    @Test
+    public void tooManyLinesFail() {
+        RadonSparseOperatorCompiler compiler = new RadonSparseOperatorCompiler();
+        assertEquals(RadonSparseOperator.MAX_NUM_ROWS, compiler.checkNumRows(RadonSparseOperator.MAX_NUM_ROWS));
+        assertTrue(8L * (RadonSparseOperator.MAX_NUM_ROWS + 1) <= Integer.MAX_VALUE);
+
+        try {
+            compiler.checkNumRows(RadonSparseOperator.MAX_NUM_ROWS + 1L);
+            fail("Too many lines have been accepted");
+        } catch (IllegalArgumentException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().startsWith("Too many lines for a sparse operator: 268435455"));
+        }
+    }
+
+    @Test
+    public void imageOfAnotherSizeFails() throws IOException, InterruptedException, TimeoutException {
+        RadonTransformExecutor operatorExecutor = new RadonTransformExecutor(executorService::submit)
+                .setSparseOperator(open(RadonSparseOperator.DEFAULT_COLUMNS_CHUNK_SHIFT));
+
+        try {
+            calculate(operatorExecutor, getTestImages().createSegmentsImage(HEIGHT, WIDTH, 1L));
+            fail("An image of another size has been calculated");
+        } catch (ExecutionException ex) {
+            assertTrue(String.valueOf(ex.getCause()), ex.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    @Test
+    public void notAnOperatorFileFails() throws IOException {
+        Files.write(path, new byte[RadonSparseOperator.HEADER_SIZE]);
+        try {
+            open(RadonSparseOperator.DEFAULT_COLUMNS_CHUNK_SHIFT);
+            fail("A file without header has been opened");
+        } catch (IOException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().startsWith("Not a Radon sparse operator file"));
+        }
+    }
+
+    protected void assertAppliedOperatorEqualsBoundaryPairs(RadonSparseOperator operator, BufferedImage image)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        RadonTransformExecutor operatorExecutor = new RadonTransformExecutor(executorService::submit)
+                .setSparseOperator(operator);
+        RadonTransformExecutor executor = new RadonTransformExecutor(executorService::submit);
+
+        assertSameResult(calculate(executor, image), calculate(operatorExecutor, image));
+    }
+
+    protected void assertSameResult(RadonTransformCalculator expected, RadonTransformCalculator actual) {
+        assertTrue(expected.wasSuccessful());
+        assertTrue(actual.wasSuccessful());
+
+        RadonTransformResult expectedResult = expected.getResult();
+        RadonTransformResult actualResult = actual.getResult();
+        getTestImages().assertSameBins("transform", expectedResult.getRadonTransform(), actualResult.getRadonTransform(), 0.0d);
+        getTestImages().assertSameBins("normalized transform", expectedResult.getNormalizedRadonTransform(),
+                actualResult.getNormalizedRadonTransform(), 0.0d);
+    }
+
+    protected RadonSparseOperator open(int columnsChunkShift) throws IOException {
+        RadonSparseOperator result = new RadonSparseOperator(path)
+                .setColumnsChunkShift(columnsChunkShift)
+                .init();
+        operators.add(result);
+        return result;
+    }
+
+    protected RadonTransformCalculator calculate(RadonTransformExecutor executor, BufferedImage image)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return get(executor.calculateRadonTransform(image, TIMEOUT_MS));
+    }
+
+    protected RadonTransformCalculator get(Future<RadonTransformCalculator> future)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return future.get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    protected RadonTestImages getTestImages() {
+        return RadonTestImages.instance();
+    }
+}
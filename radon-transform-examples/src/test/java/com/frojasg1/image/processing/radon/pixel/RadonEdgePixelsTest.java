@@ -0,0 +1,80 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon.pixel;
+
+
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.normalized.impl.My2dContainerDoubleArrayImpl;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+
+
+public class RadonEdgePixelsTest {
+
+    @Test
+    public void pixelsOverTheThresholdOfTheInnerFrame() {
+        My2dContainer image = new My2dContainerDoubleArrayImpl(7, 5).init();
+        image.initWithValue(0.0d);
+        // the border of the image is out of the inner frame
+        image.setDouble(0, 2, 1.0d);
+        image.setDouble(6, 0, 1.0d);
+        image.setDouble(3, 4, 1.0d);
+        // over the threshold
+        image.setDouble(5, 1, 0.8d);
+        image.setDouble(1, 1, 0.6d);
+        image.setDouble(3, 3, 1.0d);
+        // the threshold itself is not over it
+        image.setDouble(2, 2, 0.5d);
+        image.setDouble(4, 2, 0.2d);
+
+        RadonEdgePixels edgePixels = new RadonEdgePixels().init(image, 3.0d, 2.0d, 0.5d);
+
+        // in row major order, relative to the center
+        assertEquals(3, edgePixels.size());
+        assertPixel(edgePixels, 0, -2.0d, -1.0d, 0.6d);
+        assertPixel(edgePixels, 1, 2.0d, -1.0d, 0.8d);
+        assertPixel(edgePixels, 2, 0.0d, 1.0d, 1.0d);
+    }
+
+    @Test
+    public void noPixelsOverTheThreshold() {
+        My2dContainer image = new My2dContainerDoubleArrayImpl(4, 4).init();
+        image.initWithValue(0.3d);
+
+        assertEquals(0, new RadonEdgePixels().init(image, 1.5d, 1.5d, 0.3d).size());
+        assertEquals(4, new RadonEdgePixels().init(image, 1.5d, 1.5d, 0.0d).size());
+    }
+
+    protected void assertPixel(RadonEdgePixels edgePixels, int index, double xx, double yy, double value) {
+        assertEquals("x of " + index, xx, edgePixels.getX(index), 0.0d);
+        assertEquals("y of " + index, yy, edgePixels.getY(index), 0.0d);
+        assertEquals("value of " + index, value, edgePixels.getValue(index), 0.0d);
+    }
+}
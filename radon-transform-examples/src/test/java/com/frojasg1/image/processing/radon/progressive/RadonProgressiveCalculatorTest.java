@@ -0,0 +1,119 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon.progressive;
+
+
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.processing.radon.RadonTestImages;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.RadonTransformExecutor;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+public class RadonProgressiveCalculatorTest {
+
+    protected static final int TIMEOUT_MS = 120_000;
+
+    protected ExecutorService executorService;
+
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void snapshotsAreReadOnly() throws InterruptedException, ExecutionException, TimeoutException {
+        RadonTransformExecutor radonTransformExecutor = new RadonTransformExecutor(executorService::submit,
+                RadonTransformConfiguration.createDefault()
+                        .setSnapshotIntervalMs(1)
+                        .setSnapshotTopK(3)
+                        .setSnapshotWithSinogram(true));
+        List<RadonTransformSnapshot> snapshots = Collections.synchronizedList(new ArrayList<>());
+
+        RadonTransformCalculator radonTransform = radonTransformExecutor.calculateProgressiveRadonTransform(
+                RadonTestImages.instance().createSegmentsImage(131, 97, 11L), TIMEOUT_MS, snapshots::add, null)
+                .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertTrue(radonTransform.wasSuccessful());
+
+        assertFalse(snapshots.isEmpty());
+        double completedFraction = 0.0d;
+        for (RadonTransformSnapshot snapshot : snapshots) {
+            assertTrue(snapshot.getCompletedFraction() >= completedFraction);
+            completedFraction = snapshot.getCompletedFraction();
+            assertReadOnly(snapshot);
+        }
+
+        RadonTransformSnapshot last = snapshots.get(snapshots.size() - 1);
+        assertTrue(last.isLast());
+        assertEquals(1.0d, last.getCompletedFraction(), 0.0d);
+        assertEquals(3, last.getTopLines().size());
+        RadonTestImages.instance().assertSameBins("last sinogram", radonTransform.getResult().getRadonTransform(),
+                last.getSinogram(), 0.0d);
+    }
+
+    protected void assertReadOnly(RadonTransformSnapshot snapshot) {
+        My2dContainer sinogram = snapshot.getSinogram();
+        assertNotNull(sinogram);
+        try {
+            sinogram.setDouble(0, 0, 1.0d);
+            fail("The sinogram of a snapshot has been written");
+        } catch (UnsupportedOperationException ex) {
+            // expected
+        }
+        try {
+            snapshot.getTopLines().clear();
+            fail("The top lines of a snapshot have been written");
+        } catch (UnsupportedOperationException ex) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon.pyramid;
+
+
+import com.frojasg1.gen.tuples.Pair;
+import com.frojasg1.image.Point2d;
+import com.frojasg1.image.processing.radon.RadonTestImages;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.RadonTransformExecutor;
+import com.frojasg1.image.processing.radon.config.RadonTransformAlgorithm;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.result.RadonBinsSelection;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class RadonPyramidCalculatorTest {
+
+    protected static final int TIMEOUT_MS = 120_000;
+    protected static final int WIDTH = 151;
+    protected static final int HEIGHT = 121;
+
+    protected ExecutorService executorService;
+
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    // nearly vertical lines have theta close to 0, or close to PI (with the opposite rho), on both sides of the wrap
+    @Test
+    public void linesNearThetaZeroEqualTheFullTransform() throws InterruptedException, ExecutionException, TimeoutException {
+        assertSameTopLine(getTestImages().createLinesImage(WIDTH, HEIGHT, 88, 0, 91, HEIGHT - 1));
+        assertSameTopLine(getTestImages().createLinesImage(WIDTH, HEIGHT, 91, 0, 88, HEIGHT - 1));
+        assertSameTopLine(getTestImages().createLinesImage(WIDTH, HEIGHT, 40, 0, 40, HEIGHT - 1));
+    }
+
+    // coarse bins are mapped to full resolution (rho, theta) close to the line
+    @Test
+    public void candidatesAreCloseToTheLine() throws InterruptedException, ExecutionException, TimeoutException {
+        // from (10, 100) to (140, 30), whose normal is (70, 130). The center of the image is (75, 60)
+        BufferedImage image = getTestImages().createLinesImage(WIDTH, HEIGHT, 10, 100, 140, 30);
+        double normalLength = Math.sqrt(70 * 70 + 130 * 130);
+        double expectedTheta = Math.atan2(130, 70);
+        double expectedRho = ((10 - 75) * 70 + (100 - 60) * 130) / normalLength;
+
+        RadonPyramidResult result = calculatePyramid(image);
+        Point2d candidate = result.getCandidates().get(0);
+        int factor = result.getDownsamplingFactor();
+        assertEquals("rho of " + candidate, expectedRho, candidate.x, factor);
+        assertEquals("theta of " + candidate, expectedTheta, candidate.y, result.getCoarseResult().getThetaStep());
+        assertTrue(result.getBinsSelection().getNumSelectedBins() < result.getNumFullResolutionBins() / 4);
+    }
+
+    // windows crossing theta = 0 or theta = PI continue at the other end of [0, PI), with the opposite rho
+    @Test
+    public void windowsWrapWithTheOppositeRho() {
+        RadonTransformConfiguration configuration = RadonTransformConfiguration.createDefault();
+        RadonPyramidCalculator calculator = new RadonPyramidCalculator(null, Runnable::run, configuration);
+        RadonTransformResult fullGeometry = new RadonTransformResult(WIDTH, HEIGHT, configuration).initGeometry();
+        double thetaStep = fullGeometry.getThetaStep();
+        int period = fullGeometry.getNumElementsForTheta() - 1;
+
+        // rho 10.5, theta in the middle of the first row: rows -2 .. 2, the first two wrapped to period - 2 and period - 1
+        RadonBinsSelection selection = calculator.createBinsSelection(fullGeometry,
+                Collections.singletonList(Point2d.create(10.5d, thetaStep * 0.5d)), thetaStep * 2.0d, 1.0d);
+        for (int row = 0; row <= 2; row++) {
+            assertRhoRange(selection, fullGeometry, row, 9, 11);
+        }
+        for (int row = period - 2; row < period; row++) {
+            assertRhoRange(selection, fullGeometry, row, -12, -10);
+        }
+        assertEquals(5 * 3, selection.getNumSelectedBins());
+
+        // rho -20.5, theta in the last row: rows period - 2 .. period + 1, the last two wrapped to 0 and 1
+        selection = calculator.createBinsSelection(fullGeometry,
+                Collections.singletonList(Point2d.create(-20.5d, Math.PI - thetaStep * 0.25d)), thetaStep * 1.5d, 1.0d);
+        for (int row = period - 2; row < period; row++) {
+            assertRhoRange(selection, fullGeometry, row, -22, -20);
+        }
+        for (int row = 0; row <= 1; row++) {
+            assertRhoRange(selection, fullGeometry, row, 19, 21);
+        }
+        assertEquals(4 * 3, selection.getNumSelectedBins());
+    }
+
+    protected void assertRhoRange(RadonBinsSelection selection, RadonTransformResult fullGeometry,
+                                  int thetaIndex, int rhoFrom, int rhoTo) {
+        int minRho = fullGeometry.getMinRho();
+        assertTrue("row " + thetaIndex, selection.isThetaRowSelected(thetaIndex));
+        assertFalse("row " + thetaIndex + ", rho " + (rhoFrom - 1), selection.isSelected(rhoFrom - 1 - minRho, thetaIndex));
+        for (int rho = rhoFrom; rho <= rhoTo; rho++) {
+            assertTrue("row " + thetaIndex + ", rho " + rho, selection.isSelected(rho - minRho, thetaIndex));
+        }
+        assertFalse("row " + thetaIndex + ", rho " + (rhoTo + 1), selection.isSelected(rhoTo + 1 - minRho, thetaIndex));
+    }
+
+    // the refined top line is the same bin, with the same value, as the one of the full DENSE_BINS transform
+    protected void assertSameTopLine(BufferedImage image) throws InterruptedException, ExecutionException, TimeoutException {
+        RadonPyramidResult pyramid = calculatePyramid(image);
+        assertTrue(pyramid.wasSuccessful());
+
+        RadonTransformExecutor executor = new RadonTransformExecutor(executorService::submit,
+                RadonTransformConfiguration.createDefault().setAlgorithm(RadonTransformAlgorithm.DENSE_BINS));
+        RadonTransformCalculator full = executor.calculateRadonTransform(image, TIMEOUT_MS)
+                .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertTrue(full.wasSuccessful());
+
+        List<Pair<Point2d, Double>> expected = full.getResult().getTopLines(1);
+        List<Pair<Point2d, Double>> actual = pyramid.getTopLines(1);
+        assertEquals(expected.get(0).getKey(), actual.get(0).getKey());
+        assertEquals(expected.get(0).getValue(), actual.get(0).getValue(), 0.0d);
+    }
+
+    protected RadonPyramidResult calculatePyramid(BufferedImage image)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        RadonTransformExecutor executor = new RadonTransformExecutor(executorService::submit);
+        return executor.calculatePyramidRadonTransform(image, TIMEOUT_MS, null)
+                .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    protected RadonTestImages getTestImages() {
+        return RadonTestImages.instance();
+    }
+}
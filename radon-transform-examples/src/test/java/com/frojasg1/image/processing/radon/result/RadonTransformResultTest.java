@@ -0,0 +1,191 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon.result;
+
+
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.normalized.impl.My2dContainerDoubleArrayImpl;
+import com.frojasg1.image.processing.radon.RadonTestImages;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.RadonTransformExecutor;
+import com.frojasg1.image.processing.radon.config.RadonAccumulationMode;
+import com.frojasg1.image.processing.radon.config.RadonElementType;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+public class RadonTransformResultTest {
+
+    protected static final int TIMEOUT_MS = 120_000;
+    protected static final int WIDTH = 71;
+    protected static final int HEIGHT = 53;
+
+    protected ExecutorService executorService;
+
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    // lines of pixels up to 1000 can add up to 71000, which does not fit in a short
+    @Test
+    public void shortIsPromotedAfterTheRangeOfThePixels() throws InterruptedException, ExecutionException, TimeoutException {
+        My2dContainer image = createIntegerImage(1000, 5L);
+
+        RadonTransformCalculator exact = calculate(image, RadonTransformConfiguration.createDefault());
+        RadonTransformCalculator shortElements = calculate(image, RadonTransformConfiguration.createDefault()
+                .setElementType(RadonElementType.SHORT));
+
+        assertEquals(RadonElementType.INT, shortElements.getResult().getElementType());
+        assertEquals(1000.0d, shortElements.getResult().getMaxAbsPixelValue(), 0.0d);
+        // sums of integers are exact
+        getTestImages().assertSameBins("transform", exact.getResult().getRadonTransform(),
+                shortElements.getResult().getRadonTransform(), 0.0d);
+    }
+
+    @Test
+    public void normalizedImagesKeepShortElements() throws InterruptedException, ExecutionException, TimeoutException {
+        RadonTransformCalculator shortElements = calculate(createIntegerImage(1, 5L), RadonTransformConfiguration.createDefault()
+                .setElementType(RadonElementType.SHORT));
+
+        assertEquals(RadonElementType.SHORT, shortElements.getResult().getElementType());
+    }
+
+    // the calculation fails before starting, instead of in the middle
+    @Test
+    public void pixelsWhichCouldOverflowAnIntAreRejected() throws InterruptedException, TimeoutException {
+        My2dContainer image = createIntegerImage(1000, 5L);
+        image.setDouble(WIDTH / 2, HEIGHT / 2, 1.0e9d);
+
+        try {
+            new RadonTransformExecutor(executorService::submit, RadonTransformConfiguration.createDefault()
+                    .setElementType(RadonElementType.INT))
+                    .calculateRadonTransform(image, TIMEOUT_MS, null, null)
+                    .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            fail("Overflowing image accepted");
+        } catch (ExecutionException ex) {
+            assertTrue(String.valueOf(ex.getCause()), ex.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    // values not over the init value (-1.0) are stored, and told apart from the bins not set
+    @Test
+    public void isComputedWithDoubleElements() {
+        assertComputedBins(RadonTransformConfiguration.createDefault());
+        assertComputedBins(RadonTransformConfiguration.createDefault()
+                .setOffHeapThresholdInBytes(0L));
+        assertComputedBins(RadonTransformConfiguration.createDefault()
+                .setAccumulationMode(RadonAccumulationMode.PER_WORKER_SHARDS));
+        assertComputedBins(RadonTransformConfiguration.createDefault()
+                .setAccumulationMode(RadonAccumulationMode.PER_WORKER_SHARDS)
+                .setOffHeapThresholdInBytes(0L));
+    }
+
+    @Test
+    public void isComputedWithFloatElements() {
+        assertComputedBins(RadonTransformConfiguration.createDefault()
+                .setElementType(RadonElementType.FLOAT));
+        assertComputedBins(RadonTransformConfiguration.createDefault()
+                .setElementType(RadonElementType.FLOAT)
+                .setAccumulationMode(RadonAccumulationMode.PER_WORKER_SHARDS));
+    }
+
+    protected void assertComputedBins(RadonTransformConfiguration configuration) {
+        RadonTransformResult result = new RadonTransformResult(WIDTH, HEIGHT, configuration).init();
+        result.setByIndex(3, 5, -1.0d, 1);
+        result.setByIndex(4, 5, -5.0d, 2);
+        result.setByIndex(5, 5, 7.0d, 2);
+        result.setByIndex(5, 5, 3.0d, 1);
+        result.finished();
+
+        String message = configuration.toString();
+        assertTrue(message, result.isComputed(3, 5));
+        assertTrue(message, result.isComputed(4, 5));
+        assertTrue(message, result.isComputed(5, 5));
+        assertFalse(message, result.isComputed(6, 5));
+        assertFalse(message, result.isComputed(3, 6));
+
+        My2dContainer transform = result.getRadonTransform();
+        assertEquals(message, -1.0d, transform.getDouble(3, 5), 0.0d);
+        assertEquals(message, -5.0d, transform.getDouble(4, 5), 0.0d);
+        assertEquals(message, 7.0d, transform.getDouble(5, 5), 0.0d);
+        // not set bins read as the init value
+        assertEquals(message, -1.0d, transform.getDouble(6, 5), 0.0d);
+        assertEquals(message, -2.5d, result.getNormalizedRadonTransform().getDouble(4, 5), 0.0d);
+
+        // reset bins are not set
+        result.reset();
+        assertFalse(message, result.isComputed(4, 5));
+        assertEquals(message, -1.0d, transform.getDouble(4, 5), 0.0d);
+    }
+
+    protected RadonTransformCalculator calculate(My2dContainer image, RadonTransformConfiguration configuration)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        RadonTransformCalculator result = new RadonTransformExecutor(executorService::submit, configuration)
+                .calculateRadonTransform(image, TIMEOUT_MS, null, null)
+                .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertTrue(result.wasSuccessful());
+        return result;
+    }
+
+    // integers in [0, maxValue]
+    protected My2dContainer createIntegerImage(int maxValue, long seed) {
+        Random random = new Random(seed);
+        My2dContainer result = new My2dContainerDoubleArrayImpl(WIDTH, HEIGHT).init();
+        for (int yy = 0; yy < HEIGHT; yy++) {
+            for (int xx = 0; xx < WIDTH; xx++) {
+                result.setDouble(xx, yy, random.nextInt(maxValue + 1));
+            }
+        }
+        return result;
+    }
+
+    protected RadonTestImages getTestImages() {
+        return RadonTestImages.instance();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon.reusable;
+
+
+import com.frojasg1.image.processing.radon.RadonTestImages;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.RadonTransformExecutor;
+import com.frojasg1.image.processing.radon.config.RadonTaskScheduling;
+import com.frojasg1.image.processing.radon.config.RadonTransformAlgorithm;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import com.frojasg1.image.processing.radon.result.RadonWindow;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+public class RadonReusableCalculatorTest {
+
+    protected static final int TIMEOUT_MS = 120_000;
+    protected static final int WIDTH = 151;
+    protected static final int HEIGHT = 113;
+
+    protected ExecutorService executorService;
+
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void denseBinsEqualsExecutor() throws InterruptedException, ExecutionException, TimeoutException {
+        assertWarmEqualsExecutor("dense bins", RadonTransformConfiguration.createDefault()
+                .setAlgorithm(RadonTransformAlgorithm.DENSE_BINS), null);
+    }
+
+    @Test
+    public void replayedPlanEqualsExecutor() throws InterruptedException, ExecutionException, TimeoutException {
+        assertWarmEqualsExecutor("boundary pairs", RadonTransformConfiguration.createDefault(), null);
+    }
+
+    @Test
+    public void windowEqualsExecutor() throws InterruptedException, ExecutionException, TimeoutException {
+        assertWarmEqualsExecutor("boundary pairs, window", RadonTransformConfiguration.createDefault(), createWindow());
+    }
+
+    // the tasks of the fork join engine run in its pool, and compute has to wait for all of them
+    @Test
+    public void forkJoinWithWindowEqualsExecutor() throws InterruptedException, ExecutionException, TimeoutException {
+        assertWarmEqualsExecutor("fork join, window", RadonTransformConfiguration.createDefault()
+                .setTaskScheduling(RadonTaskScheduling.FORK_JOIN), createWindow());
+    }
+
+    // results passed back are reset and filled again, for any of the images
+    @Test
+    public void resultsAreReusedWithAlternatingImages() throws InterruptedException, ExecutionException, TimeoutException {
+        RadonTransformConfiguration configuration = RadonTransformConfiguration.createDefault();
+        BufferedImage[] images = new BufferedImage[] {
+                getTestImages().createSegmentsImage(WIDTH, HEIGHT, 5L),
+                getTestImages().createSegmentsImage(WIDTH, HEIGHT, 6L)
+        };
+        RadonTransformResult[] expected = new RadonTransformResult[images.length];
+        for (int ii = 0; ii < images.length; ii++) {
+            expected[ii] = calculate(configuration, null, images[ii]).getResult();
+        }
+
+        RadonReusableCalculator calculator = new RadonReusableCalculator(configuration);
+        RadonTransformResult result = calculator.compute(images[0], null);
+        for (int ii = 0; ii < 4; ii++) {
+            int imageIndex = ii % images.length;
+            RadonTransformResult reused = calculator.compute(images[imageIndex], result);
+            assertSame(result, reused);
+            assertSameResult("image " + imageIndex + ", pass " + ii, expected[imageIndex], reused);
+        }
+
+        // a result of another size is not reused
+        RadonTransformResult other = new RadonTransformResult(WIDTH - 1, HEIGHT, configuration).initGeometry();
+        RadonTransformResult created = calculator.compute(images[1], other);
+        assertNotSame(other, created);
+        assertSameResult("new result", expected[1], created);
+    }
+
+    protected void assertWarmEqualsExecutor(String message, RadonTransformConfiguration configuration,
+                                            RadonWindow window)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        RadonReusableCalculator calculator = new RadonReusableCalculator(configuration);
+        calculator.setWindow(window);
+        RadonTransformResult result = null;
+        for (long seed = 1; seed <= 3; seed++) {
+            BufferedImage image = getTestImages().createSegmentsImage(WIDTH, HEIGHT, seed);
+            RadonTransformCalculator expected = calculate(configuration, window, image);
+            assertTrue(expected.wasSuccessful());
+
+            result = calculator.compute(image, result);
+            assertTrue(calculator.wasSuccessful());
+            assertSameResult(message + ", seed " + seed, expected.getResult(), result);
+        }
+    }
+
+    protected void assertSameResult(String message, RadonTransformResult expected, RadonTransformResult actual) {
+        // not computed bins have to be the same ones too (NaN only equals NaN)
+        getTestImages().assertSameBins(message, expected.getRadonTransform(), actual.getRadonTransform(), 0.0d);
+        getTestImages().assertSameBins(message + ", normalized", expected.getNormalizedRadonTransform(),
+                actual.getNormalizedRadonTransform(), 0.0d);
+        assertEquals(message + ": max", expected.getMax().getValue(), actual.getMax().getValue(), 0.0d);
+    }
+
+    protected RadonWindow createWindow() {
+        return new RadonWindow().addThetaRangeAround(0.5d, 0.4d).setRhoRange(-40.0d, 30.0d);
+    }
+
+    protected RadonTransformCalculator calculate(RadonTransformConfiguration configuration, RadonWindow window,
+                                                 BufferedImage image)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        RadonTransformExecutor executor = new RadonTransformExecutor(executorService::submit, configuration);
+        return executor.calculateRadonTransform(image, TIMEOUT_MS, window, null)
+                .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    protected RadonTestImages getTestImages() {
+        return RadonTestImages.instance();
+    }
+}
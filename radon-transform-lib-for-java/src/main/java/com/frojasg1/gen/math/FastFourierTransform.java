@@ -0,0 +1,168 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.gen.math;
+
+// In place radix-2 complex FFT, for a fixed power of two size.
+// Tables are calculated once in init, and then the object can be shared among threads
+public class FastFourierTransform {
+
+	protected int size;
+	protected int[] bitReversedIndices;
+	protected double[] cosTable;
+	protected double[] sinTable;
+
+	public FastFourierTransform( int size )
+	{
+		if( !isPowerOfTwo( size ) )
+			throw new IllegalArgumentException( "Size is not a power of two: " + size );
+
+		this.size = size;
+	}
+
+	public FastFourierTransform init()
+	{
+		initBitReversedIndices();
+		initTables();
+
+		return( this );
+	}
+
+	public static boolean isPowerOfTwo( int value )
+	{
+		return( ( value > 0 ) && ( ( value & ( value - 1 ) ) == 0 ) );
+	}
+
+	public static int nextPowerOfTwo( int value )
+	{
+		int result = 1;
+		while( result < value )
+			result <<= 1;
+
+		return( result );
+	}
+
+	public int getSize()
+	{
+		return( size );
+	}
+
+	protected void initBitReversedIndices()
+	{
+		bitReversedIndices = new int[size];
+		int numBits = Integer.numberOfTrailingZeros( size );
+		for( int ii = 0; ii < size; ii++ )
+			bitReversedIndices[ii] = ( numBits == 0 ) ? 0 : ( Integer.reverse( ii ) >>> ( 32 - numBits ) );
+	}
+
+	protected void initTables()
+	{
+		int half = size / 2;
+		cosTable = new double[half];
+		sinTable = new double[half];
+		for( int ii = 0; ii < half; ii++ )
+		{
+			double angle = 2.0d * Math.PI * ii / size;
+			cosTable[ii] = Math.cos( angle );
+			sinTable[ii] = Math.sin( angle );
+		}
+	}
+
+	public void transform( double[] re, double[] im )
+	{
+		transform( re, im, 0, false );
+	}
+
+	public void transform( double[] re, double[] im, int offset )
+	{
+		transform( re, im, offset, false );
+	}
+
+	// includes the 1/size factor
+	public void inverseTransform( double[] re, double[] im )
+	{
+		inverseTransform( re, im, 0 );
+	}
+
+	public void inverseTransform( double[] re, double[] im, int offset )
+	{
+		transform( re, im, offset, true );
+
+		double factor = 1.0d / size;
+		for( int ii = offset; ii < offset + size; ii++ )
+		{
+			re[ii] *= factor;
+			im[ii] *= factor;
+		}
+	}
+
+	protected void transform( double[] re, double[] im, int offset, boolean inverse )
+	{
+		for( int ii = 0; ii < size; ii++ )
+		{
+			int jj = bitReversedIndices[ii];
+			if( jj > ii )
+			{
+				swap( re, offset + ii, offset + jj );
+				swap( im, offset + ii, offset + jj );
+			}
+		}
+
+		double sign = inverse ? 1.0d : -1.0d;
+		for( int length = 2; length <= size; length <<= 1 )
+		{
+			int half = length >> 1;
+			int tableStep = size / length;
+			for( int start = offset; start < offset + size; start += length )
+			{
+				for( int kk = 0; kk < half; kk++ )
+				{
+					double wRe = cosTable[kk * tableStep];
+					double wIm = sign * sinTable[kk * tableStep];
+
+					int aa = start + kk;
+					int bb = aa + half;
+					double tRe = re[bb] * wRe - im[bb] * wIm;
+					double tIm = re[bb] * wIm + im[bb] * wRe;
+
+					re[bb] = re[aa] - tRe;
+					im[bb] = im[aa] - tIm;
+					re[aa] += tRe;
+					im[aa] += tIm;
+				}
+			}
+		}
+	}
+
+	protected void swap( double[] array, int index1, int index2 )
+	{
+		double tmp = array[index1];
+		array[index1] = array[index2];
+		array[index2] = tmp;
+	}
+}
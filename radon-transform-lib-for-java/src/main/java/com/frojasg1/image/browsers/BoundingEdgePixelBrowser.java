@@ -73,6 +73,58 @@ public class BoundingEdgePixelBrowser {
         return result;
     }
 
+    // first pixel browsed for the edge
+    public Point2d getFirstPoint(BoundingEdge boundingEdge) {
+        Point2d result = null;
+        if (boundingEdge == BoundingEdge.NORTH || boundingEdge == BoundingEdge.WEST) {
+            result = createPoint(1, 1);
+        } else if (boundingEdge == BoundingEdge.SOUTH) {
+            result = createPoint(1, this.height - 2);
+        } else if (boundingEdge == BoundingEdge.EAST) {
+            result = createPoint(this.width - 2, 1);
+        }
+        return result;
+    }
+
+    // last pixel browsed for the edge
+    public Point2d getLastPoint(BoundingEdge boundingEdge) {
+        Point2d result = null;
+        if (boundingEdge == BoundingEdge.NORTH) {
+            result = createPoint(this.width - 2, 1);
+        } else if (boundingEdge == BoundingEdge.WEST) {
+            result = createPoint(1, this.height - 2);
+        } else if (boundingEdge == BoundingEdge.SOUTH || boundingEdge == BoundingEdge.EAST) {
+            result = createPoint(this.width - 2, this.height - 2);
+        }
+        return result;
+    }
+
+    // number of pixels browsed for the edge
+    public int getNumPoints(BoundingEdge boundingEdge) {
+        int result = 0;
+        if (boundingEdge == BoundingEdge.NORTH || boundingEdge == BoundingEdge.SOUTH) {
+            result = Math.max(0, this.width - 2);
+        } else if (boundingEdge == BoundingEdge.EAST || boundingEdge == BoundingEdge.WEST) {
+            result = Math.max(0, this.height - 2);
+        }
+        return result;
+    }
+
+    // pixel browsed in the index-th place for the edge
+    public Point2d getPoint(BoundingEdge boundingEdge, int index) {
+        Point2d result = null;
+        if (boundingEdge == BoundingEdge.NORTH) {
+            result = createPoint(1 + index, 1);
+        } else if (boundingEdge == BoundingEdge.SOUTH) {
+            result = createPoint(1 + index, this.height - 2);
+        } else if (boundingEdge == BoundingEdge.EAST) {
+            result = createPoint(this.width - 2, 1 + index);
+        } else if (boundingEdge == BoundingEdge.WEST) {
+            result = createPoint(1, 1 + index);
+        }
+        return result;
+    }
+
     protected Point2d createPoint(int xx, int yy) {
         return Point2d.create(xx, yy);
     }
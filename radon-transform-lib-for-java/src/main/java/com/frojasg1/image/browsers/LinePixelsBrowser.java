@@ -29,6 +29,7 @@ package com.frojasg1.image.browsers;
 
 import com.frojasg1.gen.DoubleFunctions;
 import com.frojasg1.gen.IntegerFunctions;
+import com.frojasg1.gen.fun.IntIntConsumer;
 import java.util.function.BiConsumer;
 
 public class LinePixelsBrowser {
@@ -39,21 +40,37 @@ public class LinePixelsBrowser {
     }
 
     public void browseLine(int x1, int y1, int x2, int y2, BiConsumer<Integer, Integer> pixelVisitor) {
+        browseLinePixels(x1, y1, x2, y2, pixelVisitor::accept);
+    }
+
+    // primitive variant of browseLine. It visits exactly the same pixels, in the same order
+    public void browseLinePixels(int x1, int y1, int x2, int y2, IntIntConsumer pixelVisitor) {
+        browse(x1, y1, x2, y2, pixelVisitor, null);
+    }
+
+    // same line as browseLinePixels, but instead of every pixel, it visits every run of pixels along the long axis
+    public void browseLineRuns(int x1, int y1, int x2, int y2, LineRunsVisitor runsVisitor) {
+        browse(x1, y1, x2, y2, null, runsVisitor);
+    }
+
+    protected void browse(int x1, int y1, int x2, int y2, IntIntConsumer pixelVisitor, LineRunsVisitor runsVisitor) {
         if (abs(x1 - x2) >= abs(y1 - y2)) {
-            browseLineInternal(x1, y1, x2, y2, pixelVisitor);
+            browseLineInternal(x1, y1, x2, y2, false, pixelVisitor, runsVisitor);
         } else {
-            browseLineInternal(y1, x1, y2, x2, (longCoord, shortCoord) -> pixelVisitor.accept(shortCoord, longCoord));
+            browseLineInternal(y1, x1, y2, x2, true, pixelVisitor, runsVisitor);
         }
     }
 
-    protected void browseLineInternal(int long1, int short1, int long2, int short2, BiConsumer<Integer, Integer> pixelVisitor) {
+    // steep: long coordinate is y, and short coordinate is x
+    protected void browseLineInternal(int long1, int short1, int long2, int short2, boolean steep,
+                                      IntIntConsumer pixelVisitor, LineRunsVisitor runsVisitor) {
         int shortStart = short1;
         double longStart = long1;
         int shortEnd = short2;
         double longEnd = long2;
 
         if (short1 == short2) {
-            browseLongCoord(long1, long2, short1, pixelVisitor);
+            browseLongCoord(long1, long2, short1, steep, pixelVisitor, runsVisitor);
         } else {
             if (short1 > short2) {
                 shortStart = short2;
@@ -63,48 +80,164 @@ public class LinePixelsBrowser {
             }
 
             int unitDelta = sgn(longEnd - longStart);
-            double delta = (longEnd - longStart) / (shortEnd - shortStart);
-            double deltaHalves = 0.5d * delta;
 
             longStart += 0.5d;
             longEnd += 0.5d;
 
             // first step of short coordinate, only one half step
             int longFrom = (int) longStart;
-            double longTo = longFrom + deltaHalves;
-            browseLongCoord(longFrom, (int) longTo, shortStart, pixelVisitor);
-
-            if (shortEnd - shortStart > 1) {
-                longFrom = (int) longTo + unitDelta;
-                for (int shortCoord = shortStart + 1;
-                     shortCoord <= shortEnd - 1;
-                     shortCoord++,longFrom = (int) longTo + unitDelta, longTo += delta
-                ) {
-                    browseLongCoord(longFrom, (int) longTo, shortCoord, pixelVisitor);
-                }
+            long denominator = getStepsDenominator(shortEnd - shortStart);
+            long stepNumerator = getStepNumerator((long) (longEnd - longStart));
+            long numerator = getFirstNumerator(longFrom, (long) (longEnd - longStart), denominator);
+            int longTo = getLongTo(numerator, denominator, unitDelta);
+            browseLongCoord(longFrom, longTo, shortStart, steep, pixelVisitor, runsVisitor);
+
+            // every middle step of short coordinate covers a whole delta
+            for (int shortCoord = shortStart + 1; shortCoord <= shortEnd - 1; shortCoord++) {
+                longFrom = longTo + unitDelta;
+                numerator += stepNumerator;
+                longTo = getLongTo(numerator, denominator, unitDelta);
+                browseLongCoord(longFrom, longTo, shortCoord, steep, pixelVisitor, runsVisitor);
             }
 
             // last step of short coordinate, only one half step
             if (longEnd != longStart) {
-                longFrom = (int) longTo + unitDelta;
+                longFrom = longTo + unitDelta;
             }
-            browseLongCoord(longFrom, (int) longEnd, shortEnd, pixelVisitor);
+            browseLongCoord(longFrom, (int) longEnd, shortEnd, steep, pixelVisitor, runsVisitor);
         }
     }
 
-    protected void browseLongCoord(int from, int to, int shortCoord, BiConsumer<Integer, Integer> pixelVisitor) {
-        int unitDelta = sgn(to - from);
-        if (unitDelta >= 0) {
-            for (int longCoord = from; longCoord <= to; longCoord++) {
-                pixelVisitor.accept(longCoord, shortCoord);
+    // if browsing the line from (x1, y1) to (x2, y2) would visit the pixel (xx, yy), in constant time
+    public boolean isPixelOfLine(int x1, int y1, int x2, int y2, int xx, int yy) {
+        boolean result;
+        if (abs(x1 - x2) >= abs(y1 - y2)) {
+            result = isPixelOfLineInternal(x1, y1, x2, y2, xx, yy);
+        } else {
+            result = isPixelOfLineInternal(y1, x1, y2, x2, yy, xx);
+        }
+        return result;
+    }
+
+    // same steps as browseLineInternal, but only the one of the short coordinate of the pixel
+    protected boolean isPixelOfLineInternal(int long1, int short1, int long2, int short2, int longCoord, int shortCoord) {
+        boolean result;
+        if (short1 == short2) {
+            result = (shortCoord == short1) && isInRun(long1, long2, longCoord);
+        } else {
+            int shortStart = short1;
+            double longStart = long1;
+            int shortEnd = short2;
+            double longEnd = long2;
+            if (short1 > short2) {
+                shortStart = short2;
+                longStart = long2;
+                shortEnd = short1;
+                longEnd = long1;
+            }
+
+            result = false;
+            if (shortCoord >= shortStart && shortCoord <= shortEnd) {
+                int unitDelta = sgn(longEnd - longStart);
+
+                longStart += 0.5d;
+                longEnd += 0.5d;
+
+                int firstLongFrom = (int) longStart;
+                int numSteps = shortEnd - shortStart;
+                long denominator = getStepsDenominator(numSteps);
+                long stepNumerator = getStepNumerator((long) (longEnd - longStart));
+                long firstNumerator = getFirstNumerator(firstLongFrom, (long) (longEnd - longStart), denominator);
+                int step = shortCoord - shortStart;
+
+                int longFrom = firstLongFrom;
+                if (step > 0 && (step < numSteps || longEnd != longStart)) {
+                    longFrom = getLongTo(firstNumerator + (step - 1) * stepNumerator, denominator, unitDelta) + unitDelta;
+                }
+                int longTo = (step == numSteps) ? (int) longEnd
+                        : getLongTo(firstNumerator + step * stepNumerator, denominator, unitDelta);
+                result = isInRun(longFrom, longTo, longCoord);
+            }
+        }
+        return result;
+    }
+
+    protected boolean isInRun(int from, int to, int coord) {
+        return (from <= to) ? (coord >= from && coord <= to) : (coord <= from && coord >= to);
+    }
+
+    protected void browseLongCoord(int from, int to, int shortCoord, boolean steep,
+                                   IntIntConsumer pixelVisitor, LineRunsVisitor runsVisitor) {
+        if (runsVisitor != null) {
+            visitRun(from, to, shortCoord, steep, runsVisitor);
+        } else if (steep) {
+            browseVerticalRun(from, to, shortCoord, pixelVisitor);
+        } else {
+            browseHorizontalRun(from, to, shortCoord, pixelVisitor);
+        }
+    }
+
+    protected void visitRun(int from, int to, int shortCoord, boolean steep, LineRunsVisitor runsVisitor) {
+        if (steep) {
+            runsVisitor.visitVerticalRun(shortCoord, from, to);
+        } else {
+            runsVisitor.visitHorizontalRun(shortCoord, from, to);
+        }
+    }
+
+    protected void browseHorizontalRun(int xFrom, int xTo, int yy, IntIntConsumer pixelVisitor) {
+        if (xTo >= xFrom) {
+            for (int xx = xFrom; xx <= xTo; xx++) {
+                pixelVisitor.accept(xx, yy);
+            }
+        } else {
+            for (int xx = xFrom; xx >= xTo; xx--) {
+                pixelVisitor.accept(xx, yy);
+            }
+        }
+    }
+
+    protected void browseVerticalRun(int yFrom, int yTo, int xx, IntIntConsumer pixelVisitor) {
+        if (yTo >= yFrom) {
+            for (int yy = yFrom; yy <= yTo; yy++) {
+                pixelVisitor.accept(xx, yy);
             }
         } else {
-            for (int longCoord = from; longCoord >= to; longCoord--) {
-                pixelVisitor.accept(longCoord, shortCoord);
+            for (int yy = yFrom; yy >= yTo; yy--) {
+                pixelVisitor.accept(xx, yy);
             }
         }
     }
 
+    // Limits of the steps of the long coordinate. The exact limit of a step is
+    //     longFrom + (2 * step + 1) * longDelta / (2 * numSteps)
+    // (half a step for the first one, and then whole steps), and it is calculated with integers,
+    // so that any step can be calculated on its own, and ties are always resolved the same way.
+    // The numerator of a step is firstNumerator + step * stepNumerator, and they are kept in locals,
+    // so that no object is created per line
+    protected static long getStepsDenominator(int numSteps) {
+        return 2L * numSteps;
+    }
+
+    protected static long getFirstNumerator(int longFrom, long longDelta, long denominator) {
+        return denominator * longFrom + longDelta;
+    }
+
+    protected static long getStepNumerator(long longDelta) {
+        return 2L * longDelta;
+    }
+
+    // last long coordinate of the step: floor of the exact limit when the long coordinate increases, ceil otherwise
+    protected static int getLongTo(long numerator, long denominator, int unitDelta) {
+        long result;
+        if (unitDelta >= 0) {
+            result = Math.floorDiv(numerator, denominator);
+        } else {
+            result = -Math.floorDiv(-numerator, denominator);
+        }
+        return (int) result;
+    }
+
     protected int sgn(double value) {
         return DoubleFunctions.instance().sgn(value);
     }
@@ -27,11 +27,16 @@
 
 package com.frojasg1.image.gen;
 
+import com.frojasg1.gen.fun.IntIntDoubleToDoubleFunction;
 import com.frojasg1.gen.fun.TriFunction;
+import com.frojasg1.image.normalized.My2dContainer;
 import com.frojasg1.image.normalized.My2dContainerAbstract;
+import com.frojasg1.image.normalized.impl.My2dContainerDoubleArrayImpl;
 import com.frojasg1.image.normalized.impl.MyNormalizedImageImpl;
 import java.util.Arrays;
 import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.stream.IntStream;
 
 public class MyNormalizedImageFunctions {
 
@@ -53,7 +58,24 @@ public class MyNormalizedImageFunctions {
                        TriFunction<Integer, Integer, Double, Double> transformer) {
         for (int yy = yFrom; yy < yTo; yy++) {
             for (int xx = xFrom; xx < xTo; xx++) {
-                normalizedResultImage.set(xx, yy, transformer.apply(xx, yy, normalizedResultImage.getValue(xx, yy)));
+                normalizedResultImage.setDouble(xx, yy, transformer.apply(xx, yy, normalizedResultImage.getDouble(xx, yy)));
+            }
+        }
+    }
+
+    public void filterDouble(My2dContainer normalizedResultImage, IntIntDoubleToDoubleFunction transformer) {
+        filterDouble(normalizedResultImage,
+                0, normalizedResultImage.getWidth(), 0, normalizedResultImage.getHeight(),
+                transformer);
+    }
+
+    public void filterDouble(My2dContainer normalizedResultImage,
+                             int xFrom, int xTo, int yFrom, int yTo,
+                             IntIntDoubleToDoubleFunction transformer) {
+        for (int yy = yFrom; yy < yTo; yy++) {
+            for (int xx = xFrom; xx < xTo; xx++) {
+                normalizedResultImage.setDouble(xx, yy,
+                        transformer.applyAsDouble(xx, yy, normalizedResultImage.getDouble(xx, yy)));
             }
         }
     }
@@ -71,9 +93,68 @@ public class MyNormalizedImageFunctions {
         double result = initValue;
         for (int yy = yFrom; yy < yTo; yy++) {
             for (int xx = xFrom; xx < xTo; xx++) {
-                result = reducer.apply(normalizedResultImage.getValue(xx, yy), result);
+                result = reducer.apply(normalizedResultImage.getDouble(xx, yy), result);
             }
         }
         return result;
     }
+
+    public double reduceDouble(My2dContainer normalizedResultImage, double initValue, DoubleBinaryOperator reducer) {
+        return reduceDouble(normalizedResultImage,
+                0, normalizedResultImage.getWidth(), 0, normalizedResultImage.getHeight(),
+                initValue, reducer);
+    }
+
+    public double reduceDouble(My2dContainer normalizedResultImage,
+                               int xFrom, int xTo, int yFrom, int yTo,
+                               double initValue, DoubleBinaryOperator reducer) {
+        double result = initValue;
+        for (int yy = yFrom; yy < yTo; yy++) {
+            for (int xx = xFrom; xx < xTo; xx++) {
+                result = reducer.applyAsDouble(normalizedResultImage.getDouble(xx, yy), result);
+            }
+        }
+        return result;
+    }
+
+    public My2dContainer downsampleBoxFilter(My2dContainer normalizedImage, int factor) {
+        return downsampleBoxFilter(normalizedImage, factor, 0);
+    }
+
+    // every pixel of the result is the mean of a block of factor x factor pixels
+    public My2dContainer downsampleBoxFilter(My2dContainer normalizedImage, int factor, int border) {
+        return downsample(normalizedImage, factor, border, Double::sum, 1.0d / (factor * factor));
+    }
+
+    // every pixel of the result is the max of a block of factor x factor pixels. Thin lines keep their value
+    public My2dContainer downsampleMaxPooling(My2dContainer normalizedImage, int factor, int border) {
+        return downsample(normalizedImage, factor, border, Math::max, 1.0d);
+    }
+
+    // every pixel of the result is the reduction of a block of factor x factor pixels, times blockFactor.
+    // The remainder is cropped, and the result is surrounded by a frame of border zero pixels.
+    // Rows are calculated in parallel
+    protected My2dContainer downsample(My2dContainer normalizedImage, int factor, int border,
+                                       DoubleBinaryOperator reducer, double blockFactor) {
+        if (factor < 1) {
+            throw new IllegalArgumentException("Not valid downsampling factor: " + factor);
+        }
+        int width = normalizedImage.getWidth() / factor;
+        int height = normalizedImage.getHeight() / factor;
+
+        My2dContainer result = new My2dContainerDoubleArrayImpl(width + 2 * border, height + 2 * border, 0.0d)
+                .init();
+        IntStream.range(0, height)
+                .parallel()
+                .forEach(yy -> {
+                    for (int xx = 0; xx < width; xx++) {
+                        double value = reduceDouble(normalizedImage,
+                                xx * factor, (xx + 1) * factor, yy * factor, (yy + 1) * factor,
+                                0.0d, reducer);
+                        result.setDouble(xx + border, yy + border, value * blockFactor);
+                    }
+                });
+
+        return result;
+    }
 }
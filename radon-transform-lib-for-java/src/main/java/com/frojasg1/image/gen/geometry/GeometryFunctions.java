@@ -214,6 +214,57 @@ public class GeometryFunctions {
         return createPoint2d(xx, yy);
     }
 
+    // Clips the (rho, theta) line (relative to center) with the rectangle [xMin, xMax] x [yMin, yMax].
+    // The ends of the clipped segment are written into segment: (x1, y1, x2, y2)
+    // returns false if the line does not cross the rectangle
+    public boolean clipRhoThetaLine(Point2d center, double rho, double theta,
+                                    double xMin, double yMin, double xMax, double yMax,
+                                    double[] segment) {
+        return clipRhoThetaLine(center.x, center.y, rho, Math.cos(theta), Math.sin(theta),
+                xMin, yMin, xMax, yMax, segment);
+    }
+
+    public boolean clipRhoThetaLine(double centerX, double centerY, double rho, double cosTheta, double sinTheta,
+                                    double xMin, double yMin, double xMax, double yMax,
+                                    double[] segment) {
+        // nearest point to center, and line direction
+        double x0 = centerX + rho * cosTheta;
+        double y0 = centerY + rho * sinTheta;
+        double dx = -sinTheta;
+        double dy = cosTheta;
+
+        // Liang-Barsky
+        double tMin = -Double.MAX_VALUE;
+        double tMax = Double.MAX_VALUE;
+        boolean result = true;
+        if (Math.abs(dx) < 1e-12) {
+            result = (x0 >= xMin) && (x0 <= xMax);
+        } else {
+            double t1 = (xMin - x0) / dx;
+            double t2 = (xMax - x0) / dx;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+        if (result) {
+            if (Math.abs(dy) < 1e-12) {
+                result = (y0 >= yMin) && (y0 <= yMax);
+            } else {
+                double t1 = (yMin - y0) / dy;
+                double t2 = (yMax - y0) / dy;
+                tMin = Math.max(tMin, Math.min(t1, t2));
+                tMax = Math.min(tMax, Math.max(t1, t2));
+            }
+        }
+        result = result && (tMin <= tMax);
+        if (result) {
+            segment[0] = x0 + tMin * dx;
+            segment[1] = y0 + tMin * dy;
+            segment[2] = x0 + tMax * dx;
+            segment[3] = y0 + tMax * dy;
+        }
+        return result;
+    }
+
     public Point2d getLineNormalizedDirection(Point2d rhoTheta) {
         double theta = rhoTheta.y;
 
@@ -0,0 +1,255 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.helpers;
+
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.normalized.impl.My2dContainerDoubleArrayImpl;
+import com.frojasg1.image.normalized.view.My2dContainerByteRasterViewImpl;
+import com.frojasg1.image.normalized.view.My2dContainerByteRgbRasterViewImpl;
+import com.frojasg1.image.normalized.view.My2dContainerIntRgbRasterViewImpl;
+import com.frojasg1.image.normalized.view.My2dContainerPackedRasterViewImpl;
+import com.frojasg1.image.normalized.view.My2dContainerReadOnlyAbstract;
+import com.frojasg1.image.normalized.view.My2dContainerUShortRasterViewImpl;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DataBufferUShort;
+import java.awt.image.MultiPixelPackedSampleModel;
+import java.awt.image.SampleModel;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+// Reads BufferedImages from the DataBuffer of their Raster, instead of calling getRGB per pixel
+// (which goes through the ColorModel): read only views of the raster (see normalized.view),
+// and conversions which read the rows of those views in parallel.
+// Gray and binary images use a lookup table with the normalized value of every sample, calculated
+// from the rgb of their ColorModel, so values are the same as with getRGB
+public class BufferedImageRasterConverter {
+    // smaller images are converted in the calling thread
+    public static final int MIN_PIXELS_FOR_PARALLEL_ROWS = 1 << 16;
+
+    protected static BufferedImageRasterConverter INSTANCE = new BufferedImageRasterConverter();
+
+    public static BufferedImageRasterConverter instance() {
+        return INSTANCE;
+    }
+
+    // false (and nothing converted) if the type or the layout of the image have no fast path.
+    // Rows are read in the calling thread, so the normalizer does not need to be thread safe
+    public boolean convert(BufferedImage image, IntToDoubleFunction normalizer, My2dContainer result) {
+        return convert(image, normalizer, false, result);
+    }
+
+    // with parallelRows, rows of big images are read in parallel, and the normalizer (called for every pixel
+    // of the rgb types) must be thread safe
+    public boolean convert(BufferedImage image, IntToDoubleFunction normalizer, boolean parallelRows,
+                           My2dContainer result) {
+        My2dContainerReadOnlyAbstract view = null;
+        if (isWorthAView(image)) {
+            view = createView(image, normalizer);
+        }
+        boolean converted = (view != null);
+        if (converted) {
+            convertRows(view, parallelRows, result);
+        }
+        return converted;
+    }
+
+    // the lookup table of TYPE_USHORT_GRAY is only worth it if there are more pixels than elements in it
+    protected boolean isWorthAView(BufferedImage image) {
+        return (image.getType() != BufferedImage.TYPE_USHORT_GRAY) ||
+                (((long) image.getWidth()) * image.getHeight() >= (1 << 16));
+    }
+
+    protected void convertRows(My2dContainerReadOnlyAbstract view, boolean parallelRows, My2dContainer result) {
+        int width = view.getWidth();
+        int height = view.getHeight();
+        IntStream rows = IntStream.range(0, height);
+        if (parallelRows && ((long) width) * height >= MIN_PIXELS_FOR_PARALLEL_ROWS) {
+            rows = rows.parallel();
+        }
+
+        if (result instanceof My2dContainerDoubleArrayImpl) {
+            double[] container = ((My2dContainerDoubleArrayImpl) result).getContainer();
+            rows.forEach(yy -> view.readRow(yy, container, yy * width));
+        } else {
+            ThreadLocal<double[]> rowBuffers = ThreadLocal.withInitial(() -> new double[width]);
+            rows.forEach(yy -> {
+                double[] row = rowBuffers.get();
+                view.readRow(yy, row, 0);
+                for (int xx = 0; xx < width; xx++) {
+                    result.setDouble(xx, yy, row[xx]);
+                }
+            });
+        }
+    }
+
+    // read only view of the raster of the image, without copying it. Null if the type or the layout of the image
+    // have no fast path. Views of the rgb types call the normalizer every time a pixel is read, and calculations
+    // read them from several threads, so it must be thread safe (gray types only call it to fill their lookup table)
+    public My2dContainerReadOnlyAbstract createView(BufferedImage image, IntToDoubleFunction normalizer) {
+        WritableRaster raster = image.getRaster();
+        RasterLayout layout = new RasterLayout(raster);
+        SampleModel sampleModel = raster.getSampleModel();
+        DataBuffer dataBuffer = raster.getDataBuffer();
+
+        My2dContainerReadOnlyAbstract result = null;
+        if (dataBuffer.getNumBanks() == 1) {
+            switch (image.getType()) {
+                case BufferedImage.TYPE_BYTE_GRAY:
+                    if ((sampleModel instanceof ComponentSampleModel) && (dataBuffer instanceof DataBufferByte)) {
+                        result = createByteGrayView(image, layout, (ComponentSampleModel) sampleModel,
+                                ((DataBufferByte) dataBuffer).getData(), normalizer);
+                    }
+                    break;
+                case BufferedImage.TYPE_USHORT_GRAY:
+                    if ((sampleModel instanceof ComponentSampleModel) && (dataBuffer instanceof DataBufferUShort)) {
+                        result = createUShortGrayView(image, layout, (ComponentSampleModel) sampleModel,
+                                ((DataBufferUShort) dataBuffer).getData(), normalizer);
+                    }
+                    break;
+                case BufferedImage.TYPE_BYTE_BINARY:
+                    if ((sampleModel instanceof MultiPixelPackedSampleModel) && (dataBuffer instanceof DataBufferByte)) {
+                        result = createByteBinaryView(image, layout, (MultiPixelPackedSampleModel) sampleModel,
+                                ((DataBufferByte) dataBuffer).getData(), normalizer);
+                    }
+                    break;
+                case BufferedImage.TYPE_INT_RGB:
+                case BufferedImage.TYPE_INT_ARGB:
+                    if ((sampleModel instanceof SinglePixelPackedSampleModel) && (dataBuffer instanceof DataBufferInt)) {
+                        result = createIntRgbView(image, layout, (SinglePixelPackedSampleModel) sampleModel,
+                                ((DataBufferInt) dataBuffer).getData(), normalizer);
+                    }
+                    break;
+                case BufferedImage.TYPE_3BYTE_BGR:
+                    if ((sampleModel instanceof ComponentSampleModel) && (dataBuffer instanceof DataBufferByte)) {
+                        result = create3ByteBgrView(image, layout, (ComponentSampleModel) sampleModel,
+                                ((DataBufferByte) dataBuffer).getData(), normalizer);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return result;
+    }
+
+    protected My2dContainerReadOnlyAbstract createByteGrayView(BufferedImage image, RasterLayout layout, ComponentSampleModel sampleModel,
+                                                               byte[] data, IntToDoubleFunction normalizer) {
+        ColorModel colorModel = image.getColorModel();
+        double[] lut = createLut(256, sample -> colorModel.getRGB(new byte[] { (byte) sample }), normalizer);
+        return new My2dContainerByteRasterViewImpl(data, layout.getOffset(sampleModel), sampleModel.getScanlineStride(),
+                sampleModel.getPixelStride(), image.getWidth(), image.getHeight(), lut);
+    }
+
+    protected My2dContainerReadOnlyAbstract createUShortGrayView(BufferedImage image, RasterLayout layout, ComponentSampleModel sampleModel,
+                                                                 short[] data, IntToDoubleFunction normalizer) {
+        ColorModel colorModel = image.getColorModel();
+        double[] lut = createLut(1 << 16, sample -> colorModel.getRGB(new short[] { (short) sample }), normalizer);
+        return new My2dContainerUShortRasterViewImpl(data, layout.getOffset(sampleModel), sampleModel.getScanlineStride(),
+                sampleModel.getPixelStride(), image.getWidth(), image.getHeight(), lut);
+    }
+
+    protected My2dContainerReadOnlyAbstract createByteBinaryView(BufferedImage image, RasterLayout layout, MultiPixelPackedSampleModel sampleModel,
+                                                                 byte[] data, IntToDoubleFunction normalizer) {
+        ColorModel colorModel = image.getColorModel();
+        int bitsPerPixel = sampleModel.getPixelBitStride();
+        double[] lut = createLut(1 << bitsPerPixel, colorModel::getRGB, normalizer);
+        int scanlineStride = sampleModel.getScanlineStride();
+        int offset = layout.getBankOffset() + layout.getSampleY(0) * scanlineStride;
+        int firstBit = sampleModel.getDataBitOffset() + layout.getFirstSampleX() * bitsPerPixel;
+        return new My2dContainerPackedRasterViewImpl(data, offset, scanlineStride, firstBit, bitsPerPixel,
+                image.getWidth(), image.getHeight(), lut);
+    }
+
+    // elements of TYPE_INT_ARGB are already the rgb of getRGB, and the ones of TYPE_INT_RGB only lack the alpha
+    protected My2dContainerReadOnlyAbstract createIntRgbView(BufferedImage image, RasterLayout layout, SinglePixelPackedSampleModel sampleModel,
+                                                             int[] data, IntToDoubleFunction normalizer) {
+        int alpha = (image.getType() == BufferedImage.TYPE_INT_RGB) ? 0xFF000000 : 0;
+        return new My2dContainerIntRgbRasterViewImpl(data, layout.getOffset(sampleModel), sampleModel.getScanlineStride(),
+                image.getWidth(), image.getHeight(), alpha, normalizer);
+    }
+
+    protected My2dContainerReadOnlyAbstract create3ByteBgrView(BufferedImage image, RasterLayout layout, ComponentSampleModel sampleModel,
+                                                               byte[] data, IntToDoubleFunction normalizer) {
+        // offset of the first band is already included in the offset of the pixel
+        int[] bandOffsets = sampleModel.getBandOffsets();
+        return new My2dContainerByteRgbRasterViewImpl(data, layout.getOffset(sampleModel), sampleModel.getScanlineStride(),
+                sampleModel.getPixelStride(), 0, bandOffsets[1] - bandOffsets[0], bandOffsets[2] - bandOffsets[0],
+                image.getWidth(), image.getHeight(), normalizer);
+    }
+
+    protected double[] createLut(int length, IntUnaryOperator sampleToRgb, IntToDoubleFunction normalizer) {
+        double[] result = new double[length];
+        for (int sample = 0; sample < length; sample++) {
+            result[sample] = normalizer.applyAsDouble(sampleToRgb.applyAsInt(sample));
+        }
+        return result;
+    }
+
+    // pixel (xx, yy) of the image is the sample (xx - translateX, yy - translateY) of the sample model
+    // (translations are not zero in rasters of subimages)
+    protected static class RasterLayout {
+        protected int translateX;
+        protected int translateY;
+        protected int bankOffset;
+
+        public RasterLayout(WritableRaster raster) {
+            this.translateX = raster.getSampleModelTranslateX();
+            this.translateY = raster.getSampleModelTranslateY();
+            this.bankOffset = raster.getDataBuffer().getOffset();
+        }
+
+        public int getFirstSampleX() {
+            return -translateX;
+        }
+
+        public int getSampleY(int yy) {
+            return yy - translateY;
+        }
+
+        public int getBankOffset() {
+            return bankOffset;
+        }
+
+        // index in the data of the pixel (0, 0)
+        public int getOffset(ComponentSampleModel sampleModel) {
+            return bankOffset + sampleModel.getOffset(getFirstSampleX(), getSampleY(0));
+        }
+
+        public int getOffset(SinglePixelPackedSampleModel sampleModel) {
+            return bankOffset + sampleModel.getOffset(getFirstSampleX(), getSampleY(0));
+        }
+    }
+}
@@ -29,46 +29,124 @@ package com.frojasg1.image.helpers;
 
 import com.frojasg1.image.normalized.My2dContainer;
 import com.frojasg1.image.gen.ImageFunctions;
-import com.frojasg1.image.normalized.impl.MyNormalizedImageImpl;
+import com.frojasg1.image.normalized.impl.My2dContainerDoubleArrayImpl;
 import java.awt.image.BufferedImage;
+import java.util.function.DoubleToIntFunction;
 import java.util.function.Function;
+import java.util.function.IntToDoubleFunction;
 
 public class BufferedImageToMyNormalizedImageConverter {
 
+    protected static final ColormapLut GRAYSCALE = ColormapLut.grayscale();
+
     protected static BufferedImageToMyNormalizedImageConverter INSTANCE = new BufferedImageToMyNormalizedImageConverter();
 
     public static BufferedImageToMyNormalizedImageConverter instance() {
         return INSTANCE;
     }
 
+    // rows of big images are converted in parallel
     public My2dContainer convert(BufferedImage image) {
-        return convert(image, this::normalizedGreyScale);
+        return convertToNormalized(image, this::normalizedGreyScale, true);
     }
 
+    // normalizers of the caller are called from the calling thread only, so they do not need to be thread safe
     public My2dContainer convert(BufferedImage image, Function<Integer, Double> normalizer) {
+        return convertToNormalized(image, normalizer::apply);
+    }
+
+    public My2dContainer convertToNormalized(BufferedImage image, IntToDoubleFunction normalizer) {
+        return convertToNormalized(image, normalizer, false);
+    }
+
+    // with parallelRows, the normalizer must be thread safe
+    protected My2dContainer convertToNormalized(BufferedImage image, IntToDoubleFunction normalizer, boolean parallelRows) {
         My2dContainer result = createMyNormalizedImage(image);
+        if (!getRasterConverter().convert(image, normalizer, parallelRows, result)) {
+            convertWithGetRgb(image, normalizer, result);
+        }
+
+        return result;
+    }
+
+    // fallback for the types of image without a fast path in BufferedImageRasterConverter
+    protected void convertWithGetRgb(BufferedImage image, IntToDoubleFunction normalizer, My2dContainer result) {
         for (int yy = 0; yy < image.getHeight(); yy++) {
             for (int xx = 0; xx < image.getWidth(); xx++) {
-                result.set(xx, yy, normalizer.apply(image.getRGB(xx, yy)));
+                result.setDouble(xx, yy, normalizer.applyAsDouble(image.getRGB(xx, yy)));
             }
         }
+    }
+
+    // read only view of the raster of the image, without copying it (see BufferedImageRasterConverter).
+    // The types of image without a fast path are converted
+    public My2dContainer createView(BufferedImage image) {
+        return createView(image, this::normalizedGreyScale);
+    }
+
+    // the normalizer must be thread safe, as calculations read the views from several threads
+    public My2dContainer createView(BufferedImage image, IntToDoubleFunction normalizer) {
+        My2dContainer result = getRasterConverter().createView(image, normalizer);
+        if (result == null) {
+            result = convertToNormalized(image, normalizer);
+        }
+        return result;
+    }
+
+    // converts into an existing container of the size of the image. rgbBuffer must have room for all the pixels,
+    // and it is only used by the types of image without a fast path in BufferedImageRasterConverter
+    public My2dContainer convert(BufferedImage image, My2dContainer result, int[] rgbBuffer) {
+        return convertToNormalized(image, this::normalizedGreyScale, true, result, rgbBuffer);
+    }
+
+    // the normalizer is called from the calling thread only
+    public My2dContainer convertToNormalized(BufferedImage image, IntToDoubleFunction normalizer,
+                                             My2dContainer result, int[] rgbBuffer) {
+        return convertToNormalized(image, normalizer, false, result, rgbBuffer);
+    }
+
+    protected My2dContainer convertToNormalized(BufferedImage image, IntToDoubleFunction normalizer, boolean parallelRows,
+                                                My2dContainer result, int[] rgbBuffer) {
+        if (!getRasterConverter().convert(image, normalizer, parallelRows, result)) {
+            convertWithGetRgb(image, normalizer, result, rgbBuffer);
+        }
 
         return result;
     }
 
+    protected void convertWithGetRgb(BufferedImage image, IntToDoubleFunction normalizer,
+                                     My2dContainer result, int[] rgbBuffer) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        image.getRGB(0, 0, width, height, rgbBuffer, 0, width);
+
+        int index = 0;
+        for (int yy = 0; yy < height; yy++) {
+            for (int xx = 0; xx < width; xx++, index++) {
+                result.setDouble(xx, yy, normalizer.applyAsDouble(rgbBuffer[index]));
+            }
+        }
+    }
+
+    // same grey levels as convertToImage with normalizedLuminanceToGreyScaleRgb (values over 1 are clamped),
+    // rendered in bulk (see My2dContainerRenderer)
     public BufferedImage convert(My2dContainer myImage) {
-        return convert(myImage, this::normalizedLuminanceToGreyScaleRgb);
+        return getRenderer().render(myImage, GRAYSCALE);
     }
 
     public BufferedImage convert(My2dContainer myImage, Function<Double, Integer> denormalizer) {
+        return convertToImage(myImage, denormalizer::apply);
+    }
+
+    public BufferedImage convertToImage(My2dContainer myImage, DoubleToIntFunction denormalizer) {
         BufferedImage result = createBufferedImage(myImage);
 
         double value = 0.0d;
         for (int yy = 0; yy < result.getHeight(); yy++) {
             for (int xx = 0; xx < result.getWidth(); xx++) {
-                value = myImage.getValue(xx, yy);
+                value = myImage.getDouble(xx, yy);
                 if (value >= 0.0d) {
-                    result.setRGB(xx, yy, denormalizer.apply(value));
+                    result.setRGB(xx, yy, denormalizer.applyAsInt(value));
                 }
             }
         }
@@ -77,7 +155,7 @@ public class BufferedImageToMyNormalizedImageConverter {
     }
 
     protected My2dContainer createMyNormalizedImage(BufferedImage image) {
-        return new MyNormalizedImageImpl(image.getWidth(), image.getHeight())
+        return new My2dContainerDoubleArrayImpl(image.getWidth(), image.getHeight())
                 .init();
     }
 
@@ -89,6 +167,14 @@ public class BufferedImageToMyNormalizedImageConverter {
         return getImageFunctions().getGrayScale(rgb);
     }
 
+    protected My2dContainerRenderer getRenderer() {
+        return My2dContainerRenderer.instance();
+    }
+
+    protected BufferedImageRasterConverter getRasterConverter() {
+        return BufferedImageRasterConverter.instance();
+    }
+
     protected ImageFunctions getImageFunctions() {
         return ImageFunctions.instance();
     }
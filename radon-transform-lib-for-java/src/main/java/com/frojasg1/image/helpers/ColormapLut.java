@@ -0,0 +1,113 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.helpers;
+
+import java.util.function.DoubleUnaryOperator;
+
+// Precomputed argb colors of normalized values in [0, 1]: the color of a value is the element
+// (int) (value * (size - 1)) of the table (values out of [0, 1] are clamped)
+public class ColormapLut {
+    public static final int DEFAULT_SIZE = 256;
+    // log scaled colormaps show log(1 + factor * value) / log(1 + factor): three decades
+    public static final double DEFAULT_LOG_SCALE_FACTOR = 1000.0d;
+    // enough elements for the small values of log scaled colormaps to get distinct colors
+    public static final int DEFAULT_LOG_SCALED_SIZE = 4096;
+
+    protected int[] lut;
+
+    public ColormapLut(int[] lut) {
+        this.lut = lut;
+    }
+
+    // same grey levels as BufferedImageToMyNormalizedImageConverter: (int) (value * 255)
+    public static ColormapLut grayscale() {
+        int[] lut = new int[DEFAULT_SIZE];
+        for (int ii = 0; ii < lut.length; ii++) {
+            lut[ii] = toArgb(ii, ii, ii);
+        }
+        return new ColormapLut(lut);
+    }
+
+    // black, red, yellow and white
+    public static ColormapLut heat() {
+        int[] lut = new int[DEFAULT_SIZE];
+        for (int ii = 0; ii < lut.length; ii++) {
+            int level = ii * 3;
+            lut[ii] = toArgb(clamp(level), clamp(level - 255), clamp(level - 510));
+        }
+        return new ColormapLut(lut);
+    }
+
+    public static ColormapLut logGrayscale() {
+        return logScaled(grayscale(), DEFAULT_LOG_SCALE_FACTOR);
+    }
+
+    public static ColormapLut logHeat() {
+        return logScaled(heat(), DEFAULT_LOG_SCALE_FACTOR);
+    }
+
+    // colors of base, for log(1 + factor * value) / log(1 + factor)
+    public static ColormapLut logScaled(ColormapLut base, double factor) {
+        double logOfMax = Math.log1p(factor);
+        return transformed(base, value -> Math.log1p(factor * value) / logOfMax, DEFAULT_LOG_SCALED_SIZE);
+    }
+
+    // colors of base for the transformed values, in a table of size elements
+    public static ColormapLut transformed(ColormapLut base, DoubleUnaryOperator transform, int size) {
+        int[] lut = new int[size];
+        for (int ii = 0; ii < size; ii++) {
+            lut[ii] = base.getColor(transform.applyAsDouble(ii / (size - 1.0d)));
+        }
+        return new ColormapLut(lut);
+    }
+
+    protected static int clamp(int level) {
+        return Math.max(0, Math.min(255, level));
+    }
+
+    protected static int toArgb(int red, int green, int blue) {
+        return 0xFF000000 | (red << 16) | (green << 8) | blue;
+    }
+
+    public int getSize() {
+        return lut.length;
+    }
+
+    public int getColor(double value) {
+        return lut[getIndex(value)];
+    }
+
+    public int getIndex(double value) {
+        int result = (int) (value * (lut.length - 1));
+        return (result < 0) ? 0 : ((result >= lut.length) ? lut.length - 1 : result);
+    }
+
+    public int[] getLut() {
+        return lut;
+    }
+}
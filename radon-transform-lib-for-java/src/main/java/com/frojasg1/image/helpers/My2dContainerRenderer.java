@@ -0,0 +1,156 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.helpers;
+
+import com.frojasg1.image.normalized.My2dContainer;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.stream.IntStream;
+
+// Renders containers (sinograms) into TYPE_INT_ARGB images, writing the colors of a ColormapLut straight into
+// the int[] of their DataBufferInt, and rendering the rows in parallel.
+// Negative values (the init value of the bins which have not been calculated) are left transparent
+public class My2dContainerRenderer {
+    // smaller images are rendered in the calling thread
+    public static final int MIN_PIXELS_FOR_PARALLEL_ROWS = 1 << 16;
+
+    protected static My2dContainerRenderer INSTANCE = new My2dContainerRenderer();
+
+    public static My2dContainerRenderer instance() {
+        return INSTANCE;
+    }
+
+    public BufferedImage render(My2dContainer container, ColormapLut colormap) {
+        return render(container, colormap, null);
+    }
+
+    // target is reused if it is a TYPE_INT_ARGB image of the size of the container, and not a subimage
+    // (a new one is returned otherwise)
+    public BufferedImage render(My2dContainer container, ColormapLut colormap, BufferedImage target) {
+        int width = container.getWidth();
+        BufferedImage result = reuseOrCreateImage(target, width, container.getHeight());
+        int[] pixels = getPixels(result);
+        int[] lut = colormap.getLut();
+        int lastIndex = lut.length - 1;
+
+        getRows(container.getHeight(), width).forEach(yy -> {
+            int index = yy * width;
+            for (int xx = 0; xx < width; xx++, index++) {
+                pixels[index] = getColor(lut, lastIndex, container.getDouble(xx, yy));
+            }
+        });
+
+        return result;
+    }
+
+    // downscaled image, without rendering the full size one: every pixel has the color of the max of its block
+    // of elements (so that peaks do not vanish), and it is transparent if none of them has been calculated.
+    // The preview is not upscaled: a size bigger than the one of the container is clamped to it
+    public BufferedImage renderPreview(My2dContainer container, ColormapLut colormap, int previewWidth, int previewHeight) {
+        return renderPreview(container, colormap, previewWidth, previewHeight, null);
+    }
+
+    public BufferedImage renderPreview(My2dContainer container, ColormapLut colormap, int previewWidth, int previewHeight,
+                                       BufferedImage target) {
+        if (previewWidth <= 0 || previewHeight <= 0) {
+            throw new IllegalArgumentException(String.format("Preview size must be positive: %d x %d",
+                    previewWidth, previewHeight));
+        }
+        int width = Math.min(previewWidth, container.getWidth());
+        int height = Math.min(previewHeight, container.getHeight());
+
+        BufferedImage result = reuseOrCreateImage(target, width, height);
+        int[] pixels = getPixels(result);
+        int[] lut = colormap.getLut();
+        int lastIndex = lut.length - 1;
+        int[] blockLimitsX = calculateBlockLimits(container.getWidth(), width);
+        int[] blockLimitsY = calculateBlockLimits(container.getHeight(), height);
+
+        getRows(height, container.getWidth()).forEach(py -> {
+            int index = py * width;
+            for (int px = 0; px < width; px++, index++) {
+                double max = getBlockMax(container, blockLimitsX[px], blockLimitsX[px + 1],
+                        blockLimitsY[py], blockLimitsY[py + 1]);
+                pixels[index] = getColor(lut, lastIndex, max);
+            }
+        });
+
+        return result;
+    }
+
+    protected IntStream getRows(int height, int width) {
+        IntStream result = IntStream.range(0, height);
+        if (((long) width) * height >= MIN_PIXELS_FOR_PARALLEL_ROWS) {
+            result = result.parallel();
+        }
+        return result;
+    }
+
+    // element limits of the blocks: block ii goes from result[ii] (inclusive) to result[ii + 1] (exclusive).
+    // With numBlocks in [1, size], every block has at least one element
+    protected int[] calculateBlockLimits(int size, int numBlocks) {
+        int[] result = new int[numBlocks + 1];
+        for (int ii = 0; ii <= numBlocks; ii++) {
+            result[ii] = (int) (((long) ii) * size / numBlocks);
+        }
+        return result;
+    }
+
+    protected double getBlockMax(My2dContainer container, int xFrom, int xTo, int yFrom, int yTo) {
+        double result = -1.0d;
+        for (int yy = yFrom; yy < yTo; yy++) {
+            for (int xx = xFrom; xx < xTo; xx++) {
+                result = Math.max(result, container.getDouble(xx, yy));
+            }
+        }
+        return result;
+    }
+
+    protected int getColor(int[] lut, int lastIndex, double value) {
+        int result = 0;
+        if (value >= 0.0d) {
+            int index = (int) (value * lastIndex);
+            result = lut[(index > lastIndex) ? lastIndex : index];
+        }
+        return result;
+    }
+
+    protected BufferedImage reuseOrCreateImage(BufferedImage target, int width, int height) {
+        BufferedImage result = target;
+        if (result == null || result.getType() != BufferedImage.TYPE_INT_ARGB || result.getRaster().getParent() != null ||
+                result.getWidth() != width || result.getHeight() != height) {
+            result = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+        return result;
+    }
+
+    // pixels of a TYPE_INT_ARGB image created with its size (its raster is not a child one)
+    protected int[] getPixels(BufferedImage image) {
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+}
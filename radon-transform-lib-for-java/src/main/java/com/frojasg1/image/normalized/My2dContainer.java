@@ -27,6 +27,7 @@
 
 package com.frojasg1.image.normalized;
 
+import com.frojasg1.gen.fun.IntIntDoubleConsumer;
 import com.frojasg1.gen.fun.TriConsumer;
 import com.frojasg1.image.Point2d;
 
@@ -39,6 +40,19 @@ public interface My2dContainer {
 
     Double getValue(int xx, int yy);
 
+    // primitive accessors, to avoid boxing in the hot loops
+    void browseDoubleValue(IntIntDoubleConsumer visitor);
+
+    double getDouble(int xx, int yy);
+
+    void setDouble(int xx, int yy, double value);
+
+    // plain write, without the max rule of the containers whose setDouble keeps the max
+    void replaceDouble(int xx, int yy, double value);
+
+    // if the element has been written
+    boolean isSet(int xx, int yy);
+
     int getWidth();
 
     int getHeight();
@@ -28,6 +28,7 @@
 package com.frojasg1.image.normalized;
 
 
+import com.frojasg1.gen.fun.IntIntDoubleConsumer;
 import com.frojasg1.image.Point2d;
 
 public abstract class My2dContainerAbstract implements My2dContainer {
@@ -78,6 +79,38 @@ public abstract class My2dContainerAbstract implements My2dContainer {
         return getValue(pt.getIntX(), pt.getIntY());
     }
 
+    @Override
+    public double getDouble(int xx, int yy) {
+        return toDouble(getValue(xx, yy));
+    }
+
+    @Override
+    public void setDouble(int xx, int yy, double value) {
+        set(xx, yy, value);
+    }
+
+    @Override
+    public void replaceDouble(int xx, int yy, double value) {
+        setDouble(xx, yy, value);
+    }
+
+    // elements not set read as NaN, unless the container has a record of them
+    @Override
+    public boolean isSet(int xx, int yy) {
+        return !Double.isNaN(getDouble(xx, yy));
+    }
+
+    @Override
+    public void browseDoubleValue(IntIntDoubleConsumer visitor) {
+        if (visitor != null) {
+            browseValue((xx, yy, value) -> visitor.accept(xx, yy, toDouble(value)));
+        }
+    }
+
+    protected double toDouble(Double value) {
+        return (value == null) ? Double.NaN : value;
+    }
+
     @Override
     public void checkCompatibility(My2dContainer normalizedImage) {
         if(!isCompatible(normalizedImage)) {
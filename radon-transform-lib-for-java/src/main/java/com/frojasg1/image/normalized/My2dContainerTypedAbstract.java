@@ -0,0 +1,192 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.normalized;
+
+
+import com.frojasg1.gen.fun.IntIntDoubleConsumer;
+import com.frojasg1.gen.fun.TriConsumer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Base of the thread safe containers of element types narrower than double (see impl).
+// Elements never set are kept in a bitmap, instead of in a sentinel value, and getDouble returns
+// the initial value (NaN if none) for them.
+// With keepMax, set keeps the max of the current and the new value (as My2dContainerAtomicDoubleImpl),
+// so the storage starts with the lowest value of the type
+public abstract class My2dContainerTypedAbstract extends My2dContainerAbstract {
+    protected AtomicLongArray setBitmap;
+
+    protected boolean keepMax;
+
+    public My2dContainerTypedAbstract(int width, int height) {
+        super(width, height);
+    }
+
+    public My2dContainerTypedAbstract(int width, int height, double initialValue) {
+        super(width, height, initialValue);
+    }
+
+    public My2dContainerTypedAbstract setKeepMax(boolean keepMax) {
+        this.keepMax = keepMax;
+        return this;
+    }
+
+    public My2dContainerTypedAbstract init() {
+        setBitmap = new AtomicLongArray((getSize() + 63) >>> 6);
+        createStorage(getSize());
+        clearStorage();
+
+        return this;
+    }
+
+    protected abstract void createStorage(int size);
+
+    // every element to the lowest value of the type
+    protected abstract void clearStorage();
+
+    protected abstract double getStored(int index);
+
+    protected abstract void store(int index, double value);
+
+    protected abstract void storeMax(int index, double value);
+
+    public abstract Class<?> getElementClass();
+
+    public int getSize() {
+        return width * height;
+    }
+
+    public int getIndex(int xx, int yy) {
+        return yy * width + xx;
+    }
+
+    @Override
+    public boolean isSet(int xx, int yy) {
+        return isSet(getIndex(xx, yy));
+    }
+
+    protected boolean isSet(int index) {
+        return (setBitmap.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    protected void markSet(int index) {
+        int wordIndex = index >>> 6;
+        long bit = 1L << index;
+        long word = setBitmap.get(wordIndex);
+        while (((word & bit) == 0) && !setBitmap.compareAndSet(wordIndex, word, word | bit)) {
+            word = setBitmap.get(wordIndex);
+        }
+    }
+
+    protected double getUnsetValue() {
+        return (initialValue != null) ? initialValue : Double.NaN;
+    }
+
+    // Not thread safe with concurrent writers
+    @Override
+    public void reset() {
+        for (int ii = 0; ii < setBitmap.length(); ii++) {
+            setBitmap.set(ii, 0L);
+        }
+        clearStorage();
+    }
+
+    // every element is set to the value. Not thread safe with concurrent writers
+    @Override
+    public void initWithValue(double value) {
+        int size = getSize();
+        for (int index = 0; index < size; index++) {
+            store(index, value);
+        }
+        for (int ii = 0; ii < setBitmap.length(); ii++) {
+            setBitmap.set(ii, -1L);
+        }
+    }
+
+    @Override
+    public void browseValue(TriConsumer<Integer, Integer, Double> visitor) {
+        if (visitor != null) {
+            browseDoubleValue(visitor::accept);
+        }
+    }
+
+    @Override
+    public void browseDoubleValue(IntIntDoubleConsumer visitor) {
+        if (visitor != null) {
+            double unsetValue = getUnsetValue();
+            int index = 0;
+            for (int yy = 0; yy < this.height; yy++) {
+                for (int xx = 0; xx < this.width; xx++, index++) {
+                    visitor.accept(xx, yy, isSet(index) ? getStored(index) : unsetValue);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Double getValue(int xx, int yy) {
+        return getDouble(xx, yy);
+    }
+
+    @Override
+    public void set(int xx, int yy, Double value) {
+        setDouble(xx, yy, toDouble(value));
+    }
+
+    @Override
+    public double getDouble(int xx, int yy) {
+        int index = getIndex(xx, yy);
+        return isSet(index) ? getStored(index) : getUnsetValue();
+    }
+
+    @Override
+    public void setDouble(int xx, int yy, double value) {
+        int index = getIndex(xx, yy);
+        if (keepMax) {
+            storeMax(index, value);
+        } else {
+            store(index, value);
+        }
+        markSet(index);
+    }
+
+    // plain write, without the max rule (in place updates of finished containers)
+    @Override
+    public void replaceDouble(int xx, int yy, double value) {
+        int index = getIndex(xx, yy);
+        store(index, value);
+        markSet(index);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                String.format("container=%s[%d * %d], keepMax=%b",
+                        getElementClass().getSimpleName(), getWidth(), getHeight(), keepMax) +
+                '}';
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.normalized.impl;
+
+
+import com.frojasg1.gen.fun.IntIntDoubleConsumer;
+import com.frojasg1.gen.fun.TriConsumer;
+import com.frojasg1.image.normalized.My2dContainerAbstract;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Thread safe, primitive counterpart of My2dContainerAtomicImpl.
+// Elements are stored as double bits in a row-major AtomicLongArray, and set keeps the max
+// of the current and the new value (CAS loop, no allocation).
+// Elements never set are kept in a bitmap (as in My2dContainerTypedAbstract), and they are stored as NaN,
+// so that any value replaces them, and read as the initial value (NaN if none)
+public class My2dContainerAtomicDoubleImpl extends My2dContainerAbstract {
+    protected AtomicLongArray container;
+    protected AtomicLongArray setBitmap;
+
+    public My2dContainerAtomicDoubleImpl(int width, int height) {
+        super(width, height);
+    }
+
+    public My2dContainerAtomicDoubleImpl(int width, int height, double initialValue) {
+        super(width, height, initialValue);
+    }
+
+    public My2dContainerAtomicDoubleImpl init() {
+        container = createContainer();
+        setBitmap = new AtomicLongArray((width * height + 63) >>> 6);
+
+        reset();
+
+        return this;
+    }
+
+    protected AtomicLongArray createContainer() {
+        return new AtomicLongArray(width * height);
+    }
+
+    public AtomicLongArray getContainer() {
+        return container;
+    }
+
+    public int getIndex(int xx, int yy) {
+        return yy * width + xx;
+    }
+
+    protected boolean isSet(int index) {
+        return (setBitmap.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    protected void markSet(int index) {
+        int wordIndex = index >>> 6;
+        long bit = 1L << index;
+        long word = setBitmap.get(wordIndex);
+        while (((word & bit) == 0) && !setBitmap.compareAndSet(wordIndex, word, word | bit)) {
+            word = setBitmap.get(wordIndex);
+        }
+    }
+
+    protected double getUnsetValue() {
+        return (initialValue != null) ? initialValue : Double.NaN;
+    }
+
+    // stored NaN is either a not set element, or a NaN set. Writers store before marking the element,
+    // so if it was set after reading it, it is read again
+    protected double toValue(int index, long bits) {
+        double value = toDouble(bits);
+        if (Double.isNaN(value)) {
+            value = isSet(index) ? toDouble(container.get(index)) : getUnsetValue();
+        }
+        return value;
+    }
+
+    // every element to not set. Not thread safe with concurrent writers
+    @Override
+    public void reset() {
+        fill(toBits(Double.NaN), 0L);
+    }
+
+    // every element is set to the value. Not thread safe with concurrent writers
+    @Override
+    public void initWithValue(double initValue) {
+        fill(toBits(initValue), -1L);
+    }
+
+    protected void fill(long bits, long bitmapWord) {
+        int length = container.length();
+        for (int index = 0; index < length; index++) {
+            container.set(index, bits);
+        }
+        for (int ii = 0; ii < setBitmap.length(); ii++) {
+            setBitmap.set(ii, bitmapWord);
+        }
+    }
+
+    @Override
+    public void browseValue(TriConsumer<Integer, Integer, Double> visitor) {
+        if (visitor != null) {
+            browseDoubleValue(visitor::accept);
+        }
+    }
+
+    @Override
+    public void browseDoubleValue(IntIntDoubleConsumer visitor) {
+        if (visitor != null) {
+            int index = 0;
+            for (int yy = 0; yy < this.height; yy++) {
+                for (int xx = 0; xx < this.width; xx++, index++) {
+                    visitor.accept(xx, yy, toValue(index, container.get(index)));
+                }
+            }
+        }
+    }
+
+    @Override
+    public Double getValue(int xx, int yy) {
+        return getDouble(xx, yy);
+    }
+
+    @Override
+    public void set(int xx, int yy, Double value) {
+        setDouble(xx, yy, toDouble(value));
+    }
+
+    @Override
+    public double getDouble(int xx, int yy) {
+        int index = getIndex(xx, yy);
+        return toValue(index, container.get(index));
+    }
+
+    @Override
+    public void setDouble(int xx, int yy, double value) {
+        int index = getIndex(xx, yy);
+        accumulateMax(index, value);
+        markSet(index);
+    }
+
+    // plain write, without the max rule (in place updates of finished containers)
+    @Override
+    public void replaceDouble(int xx, int yy, double value) {
+        int index = getIndex(xx, yy);
+        container.set(index, toBits(value));
+        markSet(index);
+    }
+
+    @Override
+    public boolean isSet(int xx, int yy) {
+        return isSet(getIndex(xx, yy));
+    }
+
+    protected void accumulateMax(int index, double value) {
+        long newBits = toBits(value);
+        long currentBits = container.get(index);
+        while (hasToReplace(toDouble(currentBits), value) &&
+                !container.compareAndSet(index, currentBits, newBits)) {
+            currentBits = container.get(index);
+        }
+    }
+
+    protected boolean hasToReplace(double currentValue, double newValue) {
+        return Double.isNaN(currentValue) || (newValue > currentValue);
+    }
+
+    protected long toBits(double value) {
+        return Double.doubleToRawLongBits(value);
+    }
+
+    protected double toDouble(long bits) {
+        return Double.longBitsToDouble(bits);
+    }
+
+    @Override
+    public String toString() {
+        String elemClassName = AtomicLongArray.class.getSimpleName();
+        return getClass().getSimpleName() + "{" +
+                String.format("container=%s[%d * %d] --> %s[%d]",
+                        elemClassName, getWidth(), getHeight(), double.class.getSimpleName(), getWidth()*getHeight()) +
+                '}';
+    }
+}
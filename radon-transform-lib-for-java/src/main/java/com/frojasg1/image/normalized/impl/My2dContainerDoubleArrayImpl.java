@@ -0,0 +1,123 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.normalized.impl;
+
+
+import com.frojasg1.gen.fun.IntIntDoubleConsumer;
+import com.frojasg1.gen.fun.TriConsumer;
+import com.frojasg1.image.normalized.My2dContainerAbstract;
+import java.util.Arrays;
+
+// row-major flat array: element (xx, yy) is at index yy * width + xx
+public class My2dContainerDoubleArrayImpl extends My2dContainerAbstract {
+    protected double[] container;
+
+    public My2dContainerDoubleArrayImpl(int width, int height) {
+        super(width, height);
+    }
+
+    public My2dContainerDoubleArrayImpl(int width, int height, double initialValue) {
+        super(width, height, initialValue);
+    }
+
+    public My2dContainerDoubleArrayImpl init() {
+        container = createContainer();
+
+        if (initialValue != null) {
+            initWithValue(this.initialValue);
+        }
+
+        return this;
+    }
+
+    protected double[] createContainer() {
+        return new double[width * height];
+    }
+
+    public double[] getContainer() {
+        return container;
+    }
+
+    public int getIndex(int xx, int yy) {
+        return yy * width + xx;
+    }
+
+    @Override
+    public void initWithValue(double initValue) {
+        Arrays.fill(container, initValue);
+    }
+
+    @Override
+    public void browseValue(TriConsumer<Integer, Integer, Double> visitor) {
+        if (visitor != null) {
+            browseDoubleValue(visitor::accept);
+        }
+    }
+
+    @Override
+    public void browseDoubleValue(IntIntDoubleConsumer visitor) {
+        if (visitor != null) {
+            int index = 0;
+            for (int yy = 0; yy < this.height; yy++) {
+                for (int xx = 0; xx < this.width; xx++, index++) {
+                    visitor.accept(xx, yy, container[index]);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Double getValue(int xx, int yy) {
+        return getDouble(xx, yy);
+    }
+
+    @Override
+    public void set(int xx, int yy, Double value) {
+        setDouble(xx, yy, toDouble(value));
+    }
+
+    @Override
+    public double getDouble(int xx, int yy) {
+        return container[getIndex(xx, yy)];
+    }
+
+    @Override
+    public void setDouble(int xx, int yy, double value) {
+        container[getIndex(xx, yy)] = value;
+    }
+
+    @Override
+    public String toString() {
+        String elemClassName = double.class.getSimpleName();
+        return getClass().getSimpleName() + "{" +
+                String.format("container=%s[%d * %d] --> %s[%d]",
+                        elemClassName, getWidth(), getHeight(), elemClassName, getWidth()*getHeight()) +
+                '}';
+    }
+}
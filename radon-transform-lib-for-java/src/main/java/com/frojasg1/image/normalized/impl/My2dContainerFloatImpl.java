@@ -0,0 +1,89 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.normalized.impl;
+
+
+import com.frojasg1.image.normalized.My2dContainerTypedAbstract;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// floats, stored as their bits in a row-major AtomicIntegerArray
+public class My2dContainerFloatImpl extends My2dContainerTypedAbstract {
+    protected AtomicIntegerArray container;
+
+    public My2dContainerFloatImpl(int width, int height) {
+        super(width, height);
+    }
+
+    public My2dContainerFloatImpl(int width, int height, double initialValue) {
+        super(width, height, initialValue);
+    }
+
+    @Override
+    protected void createStorage(int size) {
+        container = new AtomicIntegerArray(size);
+    }
+
+    @Override
+    protected void clearStorage() {
+        int bits = toBits(Float.NEGATIVE_INFINITY);
+        int length = container.length();
+        for (int index = 0; index < length; index++) {
+            container.set(index, bits);
+        }
+    }
+
+    @Override
+    protected double getStored(int index) {
+        return Float.intBitsToFloat(container.get(index));
+    }
+
+    @Override
+    protected void store(int index, double value) {
+        container.set(index, toBits((float) value));
+    }
+
+    @Override
+    protected void storeMax(int index, double value) {
+        float newValue = (float) value;
+        int newBits = toBits(newValue);
+        int currentBits = container.get(index);
+        while ((newValue > Float.intBitsToFloat(currentBits)) &&
+                !container.compareAndSet(index, currentBits, newBits)) {
+            currentBits = container.get(index);
+        }
+    }
+
+    protected int toBits(float value) {
+        return Float.floatToRawIntBits(value);
+    }
+
+    @Override
+    public Class<?> getElementClass() {
+        return float.class;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.normalized.impl;
+
+
+import com.frojasg1.image.normalized.My2dContainerTypedAbstract;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// ints in a row-major AtomicIntegerArray. Values are rounded, and the ones out of the range
+// of int throw an ArithmeticException
+public class My2dContainerIntImpl extends My2dContainerTypedAbstract {
+    protected AtomicIntegerArray container;
+
+    public My2dContainerIntImpl(int width, int height) {
+        super(width, height);
+    }
+
+    public My2dContainerIntImpl(int width, int height, double initialValue) {
+        super(width, height, initialValue);
+    }
+
+    @Override
+    protected void createStorage(int size) {
+        container = new AtomicIntegerArray(size);
+    }
+
+    @Override
+    protected void clearStorage() {
+        int length = container.length();
+        for (int index = 0; index < length; index++) {
+            container.set(index, Integer.MIN_VALUE);
+        }
+    }
+
+    @Override
+    protected double getStored(int index) {
+        return container.get(index);
+    }
+
+    @Override
+    protected void store(int index, double value) {
+        container.set(index, toInt(value));
+    }
+
+    @Override
+    protected void storeMax(int index, double value) {
+        int newValue = toInt(value);
+        int currentValue = container.get(index);
+        while ((newValue > currentValue) && !container.compareAndSet(index, currentValue, newValue)) {
+            currentValue = container.get(index);
+        }
+    }
+
+    protected int toInt(double value) {
+        long result = Math.round(value);
+        if ((result > Integer.MAX_VALUE) || (result < Integer.MIN_VALUE)) {
+            throw new ArithmeticException("Overflow of int element: " + value);
+        }
+        return (int) result;
+    }
+
+    @Override
+    public Class<?> getElementClass() {
+        return int.class;
+    }
+}
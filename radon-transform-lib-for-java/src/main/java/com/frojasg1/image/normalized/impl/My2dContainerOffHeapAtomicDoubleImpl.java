@@ -0,0 +1,152 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.normalized.impl;
+
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Thread safe counterpart of My2dContainerAtomicDoubleImpl out of the java heap: set keeps the max
+// of the current and the new value. Buffers have no compare and set, so writes are serialized with
+// striped locks (consecutive elements are in different stripes).
+// Elements never set are kept in a bitmap on the java heap (1 bit per element), and they are stored as NaN,
+// so that any value replaces them, and read as the initial value (NaN if none)
+public class My2dContainerOffHeapAtomicDoubleImpl extends My2dContainerOffHeapDoubleImpl {
+    protected static final int NUM_LOCKS = 1024;
+
+    protected final Object[] locks = createLocks();
+
+    protected AtomicLongArray setBitmap;
+
+    public My2dContainerOffHeapAtomicDoubleImpl(int width, int height) {
+        super(width, height);
+    }
+
+    public My2dContainerOffHeapAtomicDoubleImpl(int width, int height, double initialValue) {
+        super(width, height, initialValue);
+    }
+
+    protected Object[] createLocks() {
+        Object[] result = new Object[NUM_LOCKS];
+        for (int ii = 0; ii < NUM_LOCKS; ii++) {
+            result[ii] = new Object();
+        }
+        return result;
+    }
+
+    @Override
+    protected void initValues() {
+        setBitmap = new AtomicLongArray((int) ((getSize() + 63) >>> 6));
+        reset();
+    }
+
+    protected boolean isSet(long index) {
+        return (setBitmap.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    protected void markSet(long index) {
+        int wordIndex = (int) (index >>> 6);
+        long bit = 1L << index;
+        long word = setBitmap.get(wordIndex);
+        while (((word & bit) == 0) && !setBitmap.compareAndSet(wordIndex, word, word | bit)) {
+            word = setBitmap.get(wordIndex);
+        }
+    }
+
+    protected double getUnsetValue() {
+        return (initialValue != null) ? initialValue : Double.NaN;
+    }
+
+    // stored NaN is either a not set element, or a NaN set. Writers store before marking the element,
+    // so if it was set after reading it, it is read again
+    @Override
+    public double getDouble(long index) {
+        double value = super.getDouble(index);
+        if (Double.isNaN(value)) {
+            value = isSet(index) ? super.getDouble(index) : getUnsetValue();
+        }
+        return value;
+    }
+
+    // every element to not set. Not thread safe with concurrent writers
+    @Override
+    public void reset() {
+        fill(Double.NaN, 0L);
+    }
+
+    // every element is set to the value. Not thread safe with concurrent writers
+    @Override
+    public void initWithValue(double initValue) {
+        fill(initValue, -1L);
+    }
+
+    protected void fill(double value, long bitmapWord) {
+        super.initWithValue(value);
+        for (int ii = 0; ii < setBitmap.length(); ii++) {
+            setBitmap.set(ii, bitmapWord);
+        }
+    }
+
+    @Override
+    public void setDouble(int xx, int yy, double value) {
+        long index = getIndex(xx, yy);
+        accumulateMax(index, value);
+        markSet(index);
+    }
+
+    // plain write, without the max rule (in place updates of finished containers)
+    @Override
+    public void replaceDouble(int xx, int yy, double value) {
+        long index = getIndex(xx, yy);
+        synchronized (getLock(index)) {
+            super.setDouble(index, value);
+        }
+        markSet(index);
+    }
+
+    @Override
+    public boolean isSet(int xx, int yy) {
+        return isSet(getIndex(xx, yy));
+    }
+
+    protected void accumulateMax(long index, double value) {
+        synchronized (getLock(index)) {
+            if (hasToReplace(super.getDouble(index), value)) {
+                super.setDouble(index, value);
+            }
+        }
+    }
+
+    protected Object getLock(long index) {
+        return locks[(int) (index & (NUM_LOCKS - 1))];
+    }
+
+    protected boolean hasToReplace(double currentValue, double newValue) {
+        return Double.isNaN(currentValue) || (newValue > currentValue);
+    }
+}
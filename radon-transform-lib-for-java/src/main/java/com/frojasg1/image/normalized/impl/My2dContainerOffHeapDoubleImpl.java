@@ -0,0 +1,199 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.normalized.impl;
+
+
+import com.frojasg1.gen.fun.IntIntDoubleConsumer;
+import com.frojasg1.gen.fun.TriConsumer;
+import com.frojasg1.image.normalized.My2dContainerAbstract;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Row-major doubles out of the java heap: in direct memory, or in a memory mapped temporary file
+// (if a directory for it is set). Elements are indexed with longs, and stored in chunks,
+// as a single buffer can not be bigger than 2 GB.
+// The temporary file is deleted as soon as it is mapped, so its space is released when the mappings
+// are garbage collected (as direct memory is).
+// Not thread safe with concurrent writers (see My2dContainerOffHeapAtomicDoubleImpl)
+public class My2dContainerOffHeapDoubleImpl extends My2dContainerAbstract {
+    // 2^27 doubles: 1 GB per chunk
+    protected static final int CHUNK_SHIFT = 27;
+    protected static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+    protected Path mappedFileDirectory;
+
+    protected DoubleBuffer[] chunks;
+
+    public My2dContainerOffHeapDoubleImpl(int width, int height) {
+        super(width, height);
+    }
+
+    public My2dContainerOffHeapDoubleImpl(int width, int height, double initialValue) {
+        super(width, height, initialValue);
+    }
+
+    // it has to be set before init. If null, elements are stored in direct memory
+    public My2dContainerOffHeapDoubleImpl setMappedFileDirectory(Path mappedFileDirectory) {
+        this.mappedFileDirectory = mappedFileDirectory;
+        return this;
+    }
+
+    public My2dContainerOffHeapDoubleImpl init() {
+        try {
+            chunks = createChunks(getSize());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Error creating off heap container: " + this, ex);
+        }
+
+        initValues();
+
+        return this;
+    }
+
+    protected void initValues() {
+        if (initialValue != null) {
+            initWithValue(this.initialValue);
+        }
+    }
+
+    protected DoubleBuffer[] createChunks(long size) throws IOException {
+        int numChunks = (int) ((size + CHUNK_MASK) >>> CHUNK_SHIFT);
+        DoubleBuffer[] result = new DoubleBuffer[numChunks];
+        if (mappedFileDirectory == null) {
+            for (int ii = 0; ii < numChunks; ii++) {
+                result[ii] = ByteBuffer.allocateDirect(Double.BYTES * getChunkSize(size, ii))
+                        .order(ByteOrder.nativeOrder())
+                        .asDoubleBuffer();
+            }
+        } else {
+            Path path = Files.createTempFile(mappedFileDirectory, "sinogram", ".tmp");
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE)) {
+                long chunkSizeInBytes = ((long) Double.BYTES) << CHUNK_SHIFT;
+                for (int ii = 0; ii < numChunks; ii++) {
+                    result[ii] = channel.map(FileChannel.MapMode.READ_WRITE, ii * chunkSizeInBytes,
+                                    ((long) Double.BYTES) * getChunkSize(size, ii))
+                            .order(ByteOrder.nativeOrder())
+                            .asDoubleBuffer();
+                }
+            }
+        }
+        return result;
+    }
+
+    protected int getChunkSize(long size, int chunkIndex) {
+        return (int) Math.min(size - (((long) chunkIndex) << CHUNK_SHIFT), 1L << CHUNK_SHIFT);
+    }
+
+    public long getSize() {
+        return ((long) width) * height;
+    }
+
+    public long getIndex(int xx, int yy) {
+        return ((long) yy) * width + xx;
+    }
+
+    public double getDouble(long index) {
+        return chunks[(int) (index >>> CHUNK_SHIFT)].get((int) (index & CHUNK_MASK));
+    }
+
+    public void setDouble(long index, double value) {
+        chunks[(int) (index >>> CHUNK_SHIFT)].put((int) (index & CHUNK_MASK), value);
+    }
+
+    @Override
+    public void initWithValue(double initValue) {
+        for (DoubleBuffer chunk: chunks) {
+            int limit = chunk.limit();
+            for (int ii = 0; ii < limit; ii++) {
+                chunk.put(ii, initValue);
+            }
+        }
+    }
+
+    @Override
+    public void browseValue(TriConsumer<Integer, Integer, Double> visitor) {
+        if (visitor != null) {
+            browseDoubleValue(visitor::accept);
+        }
+    }
+
+    @Override
+    public void browseDoubleValue(IntIntDoubleConsumer visitor) {
+        if (visitor != null) {
+            long index = 0;
+            for (int yy = 0; yy < this.height; yy++) {
+                for (int xx = 0; xx < this.width; xx++, index++) {
+                    visitor.accept(xx, yy, getDouble(index));
+                }
+            }
+        }
+    }
+
+    @Override
+    public Double getValue(int xx, int yy) {
+        return getDouble(xx, yy);
+    }
+
+    @Override
+    public void set(int xx, int yy, Double value) {
+        setDouble(xx, yy, toDouble(value));
+    }
+
+    @Override
+    public double getDouble(int xx, int yy) {
+        return getDouble(getIndex(xx, yy));
+    }
+
+    @Override
+    public void setDouble(int xx, int yy, double value) {
+        setDouble(getIndex(xx, yy), value);
+    }
+
+    public boolean isMapped() {
+        return mappedFileDirectory != null;
+    }
+
+    @Override
+    public String toString() {
+        String elemClassName = double.class.getSimpleName();
+        return getClass().getSimpleName() + "{" +
+                String.format("container=%s[%d * %d] --> %s %s[%d]",
+                        elemClassName, getWidth(), getHeight(), isMapped() ? "mapped" : "direct",
+                        elemClassName, getSize()) +
+                '}';
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.normalized.impl;
+
+
+import com.frojasg1.image.normalized.My2dContainerTypedAbstract;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// shorts, two per element of a row-major AtomicIntegerArray (every write is a compare and set,
+// as the other short of the int can be written by other thread). Values are rounded, and the ones
+// out of the range of short throw an ArithmeticException
+public class My2dContainerShortImpl extends My2dContainerTypedAbstract {
+    protected AtomicIntegerArray container;
+
+    public My2dContainerShortImpl(int width, int height) {
+        super(width, height);
+    }
+
+    public My2dContainerShortImpl(int width, int height, double initialValue) {
+        super(width, height, initialValue);
+    }
+
+    @Override
+    protected void createStorage(int size) {
+        container = new AtomicIntegerArray((size + 1) >>> 1);
+    }
+
+    @Override
+    protected void clearStorage() {
+        int bits = (Short.MIN_VALUE & 0xFFFF) * 0x10001;
+        int length = container.length();
+        for (int ii = 0; ii < length; ii++) {
+            container.set(ii, bits);
+        }
+    }
+
+    @Override
+    protected double getStored(int index) {
+        return getShort(container.get(index >>> 1), index);
+    }
+
+    @Override
+    protected void store(int index, double value) {
+        short newValue = toShort(value);
+        int intIndex = index >>> 1;
+        int currentBits = container.get(intIndex);
+        while (!container.compareAndSet(intIndex, currentBits, withShort(currentBits, index, newValue))) {
+            currentBits = container.get(intIndex);
+        }
+    }
+
+    @Override
+    protected void storeMax(int index, double value) {
+        short newValue = toShort(value);
+        int intIndex = index >>> 1;
+        int currentBits = container.get(intIndex);
+        while ((newValue > getShort(currentBits, index)) &&
+                !container.compareAndSet(intIndex, currentBits, withShort(currentBits, index, newValue))) {
+            currentBits = container.get(intIndex);
+        }
+    }
+
+    protected short getShort(int bits, int index) {
+        return (short) (bits >> getShift(index));
+    }
+
+    protected int withShort(int bits, int index, short value) {
+        int shift = getShift(index);
+        return (bits & ~(0xFFFF << shift)) | ((value & 0xFFFF) << shift);
+    }
+
+    protected int getShift(int index) {
+        return (index & 0x01) << 4;
+    }
+
+    protected short toShort(double value) {
+        long result = Math.round(value);
+        if ((result > Short.MAX_VALUE) || (result < Short.MIN_VALUE)) {
+            throw new ArithmeticException("Overflow of short element: " + value);
+        }
+        return (short) result;
+    }
+
+    @Override
+    public Class<?> getElementClass() {
+        return short.class;
+    }
+}
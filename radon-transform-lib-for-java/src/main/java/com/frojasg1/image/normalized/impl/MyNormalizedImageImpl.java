@@ -28,6 +28,7 @@
 package com.frojasg1.image.normalized.impl;
 
 
+import com.frojasg1.gen.fun.IntIntDoubleConsumer;
 import com.frojasg1.gen.fun.TriConsumer;
 import com.frojasg1.image.normalized.My2dContainerAbstract;
 
@@ -85,6 +86,18 @@ public class MyNormalizedImageImpl extends My2dContainerAbstract {
         }
     }
 
+    @Override
+    public void browseDoubleValue(IntIntDoubleConsumer visitor) {
+        if (visitor != null) {
+            for (int yy = 0; yy < this.height; yy++) {
+                Double[] line = container[yy];
+                for (int xx = 0; xx < this.width; xx++) {
+                    visitor.accept(xx, yy, toDouble(line[xx]));
+                }
+            }
+        }
+    }
+
     protected void set(Double[][] container, int xx, int yy, Double value) {
         container[yy][xx] = value;
     }
@@ -103,6 +116,11 @@ public class MyNormalizedImageImpl extends My2dContainerAbstract {
         set(container, xx, yy, value);
     }
 
+    @Override
+    public double getDouble(int xx, int yy) {
+        return toDouble(container[yy][xx]);
+    }
+
     @Override
     public String toString() {
         String elemClassName = Double.class.getSimpleName();
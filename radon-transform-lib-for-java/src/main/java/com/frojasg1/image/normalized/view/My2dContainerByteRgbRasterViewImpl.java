@@ -0,0 +1,92 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.normalized.view;
+
+
+import java.util.function.IntToDoubleFunction;
+
+// view of a raster of interleaved red, green and blue bytes (TYPE_3BYTE_BGR). The offset is the one
+// of the first byte of the pixel, and bandOffsets the ones of every band from it.
+// Every element is normalized when it is read, from its opaque rgb
+public class My2dContainerByteRgbRasterViewImpl extends My2dContainerRasterViewAbstract {
+    protected byte[] data;
+    protected int redOffset;
+    protected int greenOffset;
+    protected int blueOffset;
+    protected IntToDoubleFunction normalizer;
+
+    public My2dContainerByteRgbRasterViewImpl(byte[] data, int offset, int scanlineStride, int pixelStride,
+                                              int redOffset, int greenOffset, int blueOffset,
+                                              int width, int height, IntToDoubleFunction normalizer) {
+        super(width, height, offset, scanlineStride, pixelStride);
+
+        this.data = data;
+        this.redOffset = redOffset;
+        this.greenOffset = greenOffset;
+        this.blueOffset = blueOffset;
+        this.normalizer = normalizer;
+    }
+
+    @Override
+    public double getDouble(int xx, int yy) {
+        return normalizer.applyAsDouble(getRgb(getIndex(xx, yy)));
+    }
+
+    @Override
+    public void readRow(int yy, double[] target, int offset) {
+        // locals, as the normalizer may not be inlined
+        byte[] data = this.data;
+        int redOffset = this.redOffset;
+        int greenOffset = this.greenOffset;
+        int blueOffset = this.blueOffset;
+        IntToDoubleFunction normalizer = this.normalizer;
+        int width = this.width;
+        int pixelStride = this.pixelStride;
+        int index = getIndex(0, yy);
+        for (int xx = 0; xx < width; xx++, index += pixelStride) {
+            int rgb = 0xFF000000 |
+                    ((data[index + redOffset] & 0xFF) << 16) |
+                    ((data[index + greenOffset] & 0xFF) << 8) |
+                    (data[index + blueOffset] & 0xFF);
+            target[offset + xx] = normalizer.applyAsDouble(rgb);
+        }
+    }
+
+    protected int getRgb(int index) {
+        return 0xFF000000 |
+                ((data[index + redOffset] & 0xFF) << 16) |
+                ((data[index + greenOffset] & 0xFF) << 8) |
+                (data[index + blueOffset] & 0xFF);
+    }
+
+    @Override
+    protected My2dContainerRasterViewAbstract createSubView(int offset, int width, int height) {
+        return new My2dContainerByteRgbRasterViewImpl(data, offset, scanlineStride, pixelStride,
+                redOffset, greenOffset, blueOffset, width, height, normalizer);
+    }
+}
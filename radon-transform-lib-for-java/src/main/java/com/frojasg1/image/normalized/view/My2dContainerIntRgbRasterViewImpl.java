@@ -0,0 +1,71 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.normalized.view;
+
+
+import java.util.function.IntToDoubleFunction;
+
+// view of a raster of packed rgb ints (TYPE_INT_RGB, TYPE_INT_ARGB). Every element is normalized when it is read,
+// after adding the alpha (0xFF000000 for TYPE_INT_RGB, so that it is the rgb of getRGB)
+public class My2dContainerIntRgbRasterViewImpl extends My2dContainerRasterViewAbstract {
+    protected int[] data;
+    protected int alpha;
+    protected IntToDoubleFunction normalizer;
+
+    public My2dContainerIntRgbRasterViewImpl(int[] data, int offset, int scanlineStride,
+                                             int width, int height, int alpha, IntToDoubleFunction normalizer) {
+        super(width, height, offset, scanlineStride, 1);
+
+        this.data = data;
+        this.alpha = alpha;
+        this.normalizer = normalizer;
+    }
+
+    @Override
+    public double getDouble(int xx, int yy) {
+        return normalizer.applyAsDouble(data[getIndex(xx, yy)] | alpha);
+    }
+
+    @Override
+    public void readRow(int yy, double[] target, int offset) {
+        // locals, as the normalizer may not be inlined
+        int[] data = this.data;
+        int alpha = this.alpha;
+        IntToDoubleFunction normalizer = this.normalizer;
+        int width = this.width;
+        int index = getIndex(0, yy);
+        for (int xx = 0; xx < width; xx++, index++) {
+            target[offset + xx] = normalizer.applyAsDouble(data[index] | alpha);
+        }
+    }
+
+    @Override
+    protected My2dContainerRasterViewAbstract createSubView(int offset, int width, int height) {
+        return new My2dContainerIntRgbRasterViewImpl(data, offset, scanlineStride, width, height, alpha, normalizer);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.normalized.view;
+
+
+// view of a raster of pixels of 1, 2 or 4 bits packed in bytes from the most significant bit (TYPE_BYTE_BINARY),
+// normalized with a lookup table of 2^bitsPerPixel elements.
+// Rows start at the byte offset + yy * scanlineStride, and pixel xx of the row at its bit firstBit + xx * bitsPerPixel
+public class My2dContainerPackedRasterViewImpl extends My2dContainerReadOnlyAbstract {
+    protected byte[] data;
+    protected int offset;
+    protected int scanlineStride;
+    protected int firstBit;
+    protected int bitsPerPixel;
+    protected int mask;
+    protected double[] lut;
+
+    public My2dContainerPackedRasterViewImpl(byte[] data, int offset, int scanlineStride, int firstBit, int bitsPerPixel,
+                                             int width, int height, double[] lut) {
+        super(width, height);
+
+        this.data = data;
+        this.offset = offset;
+        this.scanlineStride = scanlineStride;
+        this.firstBit = firstBit;
+        this.bitsPerPixel = bitsPerPixel;
+        this.mask = (1 << bitsPerPixel) - 1;
+        this.lut = lut;
+    }
+
+    @Override
+    public double getDouble(int xx, int yy) {
+        return lut[getSample(offset + yy * scanlineStride, firstBit + xx * bitsPerPixel)];
+    }
+
+    @Override
+    public void readRow(int yy, double[] target, int offset) {
+        int rowIndex = this.offset + yy * scanlineStride;
+        int bit = firstBit;
+        for (int xx = 0; xx < width; xx++, bit += bitsPerPixel) {
+            target[offset + xx] = lut[getSample(rowIndex, bit)];
+        }
+    }
+
+    protected int getSample(int rowIndex, int bit) {
+        int element = data[rowIndex + (bit >>> 3)] & 0xFF;
+        return (element >>> (8 - bitsPerPixel - (bit & 0x07))) & mask;
+    }
+
+    @Override
+    public My2dContainerReadOnlyAbstract getSubView(int xx, int yy, int width, int height) {
+        checkRegion(xx, yy, width, height);
+        return new My2dContainerPackedRasterViewImpl(data, offset + yy * scanlineStride, scanlineStride,
+                firstBit + xx * bitsPerPixel, bitsPerPixel, width, height, lut);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                String.format("%d * %d, offset=%d, scanlineStride=%d, firstBit=%d, bitsPerPixel=%d",
+                        getWidth(), getHeight(), offset, scanlineStride, firstBit, bitsPerPixel) +
+                '}';
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.normalized.view;
+
+
+// view of the backing array of a raster, whose pixel (xx, yy) starts at the element
+// offset + yy * scanlineStride + xx * pixelStride. Sub-views share the array, with other offset
+public abstract class My2dContainerRasterViewAbstract extends My2dContainerReadOnlyAbstract {
+    protected int offset;
+    protected int scanlineStride;
+    protected int pixelStride;
+
+    public My2dContainerRasterViewAbstract(int width, int height, int offset, int scanlineStride, int pixelStride) {
+        super(width, height);
+
+        this.offset = offset;
+        this.scanlineStride = scanlineStride;
+        this.pixelStride = pixelStride;
+    }
+
+    public int getIndex(int xx, int yy) {
+        return offset + yy * scanlineStride + xx * pixelStride;
+    }
+
+    // same array and strides, with the pixel (0, 0) at offset
+    protected abstract My2dContainerRasterViewAbstract createSubView(int offset, int width, int height);
+
+    @Override
+    public My2dContainerReadOnlyAbstract getSubView(int xx, int yy, int width, int height) {
+        checkRegion(xx, yy, width, height);
+        return createSubView(getIndex(xx, yy), width, height);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                String.format("%d * %d, offset=%d, scanlineStride=%d, pixelStride=%d",
+                        getWidth(), getHeight(), offset, scanlineStride, pixelStride) +
+                '}';
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.normalized.view;
+
+
+import com.frojasg1.gen.fun.IntIntDoubleConsumer;
+import com.frojasg1.gen.fun.TriConsumer;
+import com.frojasg1.image.normalized.My2dContainerAbstract;
+
+// Base of the read only views: they do not own their elements (they read the ones of a raster,
+// or of other container), so every write throws an UnsupportedOperationException
+public abstract class My2dContainerReadOnlyAbstract extends My2dContainerAbstract {
+
+    public My2dContainerReadOnlyAbstract(int width, int height) {
+        super(width, height);
+    }
+
+    // writes the values of the row, from target[offset]
+    public void readRow(int yy, double[] target, int offset) {
+        for (int xx = 0; xx < width; xx++) {
+            target[offset + xx] = getDouble(xx, yy);
+        }
+    }
+
+    // all the rows, row-major into target (of width * height elements at least)
+    public void readRows(double[] target) {
+        for (int yy = 0; yy < height; yy++) {
+            readRow(yy, target, yy * width);
+        }
+    }
+
+    // rectangular region of this view, without copying
+    public My2dContainerReadOnlyAbstract getSubView(int xx, int yy, int width, int height) {
+        checkRegion(xx, yy, width, height);
+        return new My2dContainerSubViewImpl(this, xx, yy, width, height);
+    }
+
+    protected void checkRegion(int xx, int yy, int width, int height) {
+        if (xx < 0 || yy < 0 || width <= 0 || height <= 0 ||
+                xx + width > this.width || yy + height > this.height) {
+            throw new IllegalArgumentException(String.format("Region out of %s: (%d, %d) %d x %d",
+                    this, xx, yy, width, height));
+        }
+    }
+
+    @Override
+    public void reset() {
+        throw createReadOnlyException();
+    }
+
+    @Override
+    public void initWithValue(double pixelValue) {
+        throw createReadOnlyException();
+    }
+
+    @Override
+    public void set(int xx, int yy, Double value) {
+        throw createReadOnlyException();
+    }
+
+    @Override
+    public void setDouble(int xx, int yy, double value) {
+        throw createReadOnlyException();
+    }
+
+    @Override
+    public void replaceDouble(int xx, int yy, double value) {
+        throw createReadOnlyException();
+    }
+
+    protected UnsupportedOperationException createReadOnlyException() {
+        return new UnsupportedOperationException("Read only view: " + this);
+    }
+
+    @Override
+    public Double getValue(int xx, int yy) {
+        return getDouble(xx, yy);
+    }
+
+    @Override
+    public void browseValue(TriConsumer<Integer, Integer, Double> visitor) {
+        if (visitor != null) {
+            browseDoubleValue(visitor::accept);
+        }
+    }
+
+    @Override
+    public void browseDoubleValue(IntIntDoubleConsumer visitor) {
+        if (visitor != null) {
+            for (int yy = 0; yy < this.height; yy++) {
+                for (int xx = 0; xx < this.width; xx++) {
+                    visitor.accept(xx, yy, getDouble(xx, yy));
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                String.format("%d * %d", getWidth(), getHeight()) +
+                '}';
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.normalized.view;
+
+
+import com.frojasg1.image.normalized.My2dContainer;
+
+// rectangular region of other container, without copying.
+// Sub-views of a sub-view read the original container
+public class My2dContainerSubViewImpl extends My2dContainerReadOnlyAbstract {
+    protected My2dContainer source;
+    protected int originX;
+    protected int originY;
+
+    public My2dContainerSubViewImpl(My2dContainer source, int originX, int originY, int width, int height) {
+        super(width, height);
+
+        if (originX < 0 || originY < 0 || width <= 0 || height <= 0 ||
+                originX + width > source.getWidth() || originY + height > source.getHeight()) {
+            throw new IllegalArgumentException(String.format("Region out of %s: (%d, %d) %d x %d",
+                    source, originX, originY, width, height));
+        }
+
+        this.source = source;
+        this.originX = originX;
+        this.originY = originY;
+    }
+
+    public My2dContainer getSource() {
+        return source;
+    }
+
+    @Override
+    public double getDouble(int xx, int yy) {
+        return source.getDouble(originX + xx, originY + yy);
+    }
+
+    @Override
+    public boolean isSet(int xx, int yy) {
+        return source.isSet(originX + xx, originY + yy);
+    }
+
+    @Override
+    public My2dContainerReadOnlyAbstract getSubView(int xx, int yy, int width, int height) {
+        checkRegion(xx, yy, width, height);
+        return new My2dContainerSubViewImpl(source, originX + xx, originY + yy, width, height);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                String.format("(%d, %d) %d * %d of %s", originX, originY, getWidth(), getHeight(), source) +
+                '}';
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.normalized.view;
+
+
+// view of a raster of unsigned short samples (TYPE_USHORT_GRAY), normalized with a lookup table of 65536 elements
+public class My2dContainerUShortRasterViewImpl extends My2dContainerRasterViewAbstract {
+    protected short[] data;
+    protected double[] lut;
+
+    public My2dContainerUShortRasterViewImpl(short[] data, int offset, int scanlineStride, int pixelStride,
+                                             int width, int height, double[] lut) {
+        super(width, height, offset, scanlineStride, pixelStride);
+
+        this.data = data;
+        this.lut = lut;
+    }
+
+    @Override
+    public double getDouble(int xx, int yy) {
+        return lut[data[getIndex(xx, yy)] & 0xFFFF];
+    }
+
+    @Override
+    public void readRow(int yy, double[] target, int offset) {
+        int index = getIndex(0, yy);
+        for (int xx = 0; xx < width; xx++, index += pixelStride) {
+            target[offset + xx] = lut[data[index] & 0xFFFF];
+        }
+    }
+
+    @Override
+    protected My2dContainerRasterViewAbstract createSubView(int offset, int width, int height) {
+        return new My2dContainerUShortRasterViewImpl(data, offset, scanlineStride, pixelStride, width, height, lut);
+    }
+}
@@ -37,9 +37,32 @@ import com.frojasg1.image.browsers.LinePixelsBrowser;
 import com.frojasg1.image.gen.ImageFunctions;
 import com.frojasg1.image.gen.geometry.GeometryFunctions;
 import com.frojasg1.image.helpers.BufferedImageToMyNormalizedImageConverter;
+import com.frojasg1.image.helpers.ColormapLut;
+import com.frojasg1.image.helpers.My2dContainerRenderer;
 import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.processing.radon.config.RadonIntegrationMode;
+import com.frojasg1.image.processing.radon.config.RadonTaskScheduling;
+import com.frojasg1.image.processing.radon.config.RadonTransformAlgorithm;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.engine.RadonDenseBinsEngine;
+import com.frojasg1.image.processing.radon.engine.RadonDyadicEngine;
+import com.frojasg1.image.processing.radon.engine.RadonForkJoinBoundaryPairsEngine;
+import com.frojasg1.image.processing.radon.engine.RadonFourierSliceEngine;
+import com.frojasg1.image.processing.radon.engine.RadonSparseOperatorEngine;
+import com.frojasg1.image.processing.radon.engine.RadonSparseVotingEngine;
+import com.frojasg1.image.processing.radon.engine.RadonTransformEngine;
+import com.frojasg1.image.processing.radon.operator.RadonSparseOperator;
 import com.frojasg1.image.processing.radon.pixel.RadonIntegrationContext;
+import com.frojasg1.image.processing.radon.pixel.RadonPrefixSums;
+import com.frojasg1.image.processing.radon.pixel.RadonRunLengthIntegrationContext;
+import com.frojasg1.image.processing.radon.plan.RadonPlan;
+import com.frojasg1.image.processing.radon.plan.RadonPlanBuilder;
+import com.frojasg1.image.processing.radon.plan.RadonPlanCache;
+import com.frojasg1.image.processing.radon.plan.RadonPlanKey;
+import com.frojasg1.image.processing.radon.plan.RadonPlanTask;
+import com.frojasg1.image.processing.radon.result.RadonBinsSelection;
 import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import com.frojasg1.image.processing.radon.result.RadonWindow;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
@@ -63,6 +86,7 @@ public class RadonTransformCalculator {
 
     protected Point2d imageCenter;
     protected My2dContainer myNormalizedImage;
+    protected RadonPrefixSums prefixSums;
     protected RadonTransformResult result;
 
     protected AtomicInteger successesCnt = new AtomicInteger();
@@ -70,6 +94,11 @@ public class RadonTransformCalculator {
     protected int semaphoreNumPermits = -1;
     protected Semaphore semaphore;
     protected Consumer<Runnable> executor;
+    protected RadonTransformConfiguration configuration;
+    protected RadonBinsSelection binsSelection;
+    protected RadonWindow window;
+    protected RadonPlanCache planCache;
+    protected RadonSparseOperator sparseOperator;
 
 
     protected BasicFuture<RadonTransformCalculator> future;
@@ -83,8 +112,14 @@ public class RadonTransformCalculator {
     }
 
     public RadonTransformCalculator(BasicFuture<RadonTransformCalculator> future, Consumer<Runnable> executor) {
+        this(future, executor, RadonTransformConfiguration.createDefault());
+    }
+
+    public RadonTransformCalculator(BasicFuture<RadonTransformCalculator> future, Consumer<Runnable> executor,
+                                    RadonTransformConfiguration configuration) {
         this.future = future;
         this.executor = executor;
+        this.configuration = configuration;
     }
 
     public void process(BufferedImage image) {
@@ -95,6 +130,10 @@ public class RadonTransformCalculator {
         return image != null && image.getWidth() > 2 && image.getHeight() > 2;
     }
 
+    protected boolean normalizedImageFulfills(My2dContainer normalizedImage) {
+        return normalizedImage.getWidth() > 2 && normalizedImage.getHeight() > 2;
+    }
+
     protected void resetForStarting() {
         this.startTime = System.currentTimeMillis();
         this.endTime = this.startTime;
@@ -103,6 +142,7 @@ public class RadonTransformCalculator {
         this.wasTimeout = false;
 
         this.myNormalizedImage = null;
+        this.prefixSums = null;
         this.imageCenter = null;
         this.result = null;
         this.semaphore = new Semaphore(0);
@@ -110,55 +150,29 @@ public class RadonTransformCalculator {
     }
 
     public synchronized void process(BufferedImage image, int timeoutMs) {
+        process(image, null, timeoutMs);
+    }
 
-        try {
-            if (startTime > 0) {
-                throw new IllegalStateException("Already run");
-            }
-
-            resetForStarting();
-
-            if (!imageFulfills(image)) {
-                throw new IllegalArgumentException("Not suitable image: " + image);
-            }
+    // for images which are already normalized (for example, downsampled ones)
+    public synchronized void process(My2dContainer normalizedImage, int timeoutMs) {
+        process(null, normalizedImage, timeoutMs);
+    }
 
-            this.myNormalizedImage = convert(image);
-            this.imageCenter = calculateImageCenter();
+    protected void process(BufferedImage image, My2dContainer normalizedImage, int timeoutMs) {
 
-            this.result = createEmptyRadonTransformResult(image);
+        try {
+            prepare(image, normalizedImage);
 
-            this.semaphoreNumPermits = process(
-                    BoundingEdge.NORTH, BoundingEdge.EAST,
-                    BoundingEdge.NORTH, BoundingEdge.SOUTH,
-                    BoundingEdge.NORTH, BoundingEdge.WEST,
-                    BoundingEdge.EAST, BoundingEdge.SOUTH,
-                    BoundingEdge.EAST, BoundingEdge.WEST,
-                    BoundingEdge.SOUTH, BoundingEdge.WEST
-            );
+            this.semaphoreNumPermits = dispatchTasks();
 
             try {
-                wasTimeout = !semaphore.tryAcquire(semaphoreNumPermits, timeoutMs, TimeUnit.MILLISECONDS);
+                wasTimeout = !waitForTasks(semaphoreNumPermits, timeoutMs);
             } catch (InterruptedException ie) {
                 LOGGER.info("An Interrupted exception was caught", ie);
                 Thread.currentThread().interrupt();
             }
 
-            result.finished();
-            if (successesCnt.get() != semaphoreNumPermits) {
-                String errorText = String.format("ERROR ( %d / %d )", successesCnt.get(), semaphoreNumPermits);
-                LOGGER.error("{}", errorText);
-            } else if (wasTimeout()) {
-                String errorText = String.format("Timeout ( after %d ms )", getProcessingTimeMs());
-                LOGGER.error("{}", errorText);
-            } else if (isCancelled()) {
-                String errorText = "Cancelled by user";
-                LOGGER.error("{}", errorText);
-            } else {
-                wasSuccessful = true;
-                LOGGER.info("Successful radon transform computation");
-            }
-
-            this.endTime = System.currentTimeMillis();
+            complete();
 
             future.completed(this);
         } catch (Exception ex) {
@@ -167,23 +181,103 @@ public class RadonTransformCalculator {
         }
     }
 
-    public BufferedImage createRadonTransformationImage() {
-        BufferedImage resultImage = convert(result.getStandardizedRadonTransform());
+    // everything before dispatching the tasks
+    protected void prepare(BufferedImage image, My2dContainer normalizedImage) {
+        if (startTime > 0) {
+            throw new IllegalStateException("Already run");
+        }
+
+        resetForStarting();
+
+        if (normalizedImage == null) {
+            if (!imageFulfills(image)) {
+                throw new IllegalArgumentException("Not suitable image: " + image);
+            }
+            normalizedImage = convert(image);
+        } else if (!normalizedImageFulfills(normalizedImage)) {
+            throw new IllegalArgumentException("Not suitable image: " + normalizedImage);
+        }
 
+        this.myNormalizedImage = normalizedImage;
+        this.prefixSums = createPrefixSumsIfNeeded(myNormalizedImage);
+        this.imageCenter = calculateImageCenter();
+
+        this.result = createEmptyRadonTransformResult(myNormalizedImage.getWidth(), myNormalizedImage.getHeight());
+    }
+
+    // everything after the tasks have finished (or the wait for them has timed out)
+    protected void complete() {
+        finishResult();
+        wasSuccessful = checkSuccessful();
+
+        this.endTime = System.currentTimeMillis();
+    }
+
+    protected boolean checkSuccessful() {
+        boolean result = false;
         if (successesCnt.get() != semaphoreNumPermits) {
             String errorText = String.format("ERROR ( %d / %d )", successesCnt.get(), semaphoreNumPermits);
-            paintError(resultImage, errorText);
+            LOGGER.error("{}", errorText);
         } else if (wasTimeout()) {
             String errorText = String.format("Timeout ( after %d ms )", getProcessingTimeMs());
-            paintError(resultImage, errorText);
+            LOGGER.error("{}", errorText);
         } else if (isCancelled()) {
             String errorText = "Cancelled by user";
-            paintError(resultImage, errorText);
+            LOGGER.error("{}", errorText);
+        } else {
+            result = true;
+            LOGGER.info("Successful radon transform computation");
         }
+        return result;
+    }
+
+    // returns false on timeout
+    protected boolean waitForTasks(int numTasks, int timeoutMs) throws InterruptedException {
+        return semaphore.tryAcquire(numTasks, timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    public BufferedImage createRadonTransformationImage() {
+        BufferedImage resultImage = convert(result.getStandardizedRadonTransform());
+
+        paintErrorIfAny(resultImage, toPoint(imageCenter));
+
+        return resultImage;
+    }
+
+    // target is reused if it is a TYPE_INT_ARGB image of the size of the transform (see My2dContainerRenderer)
+    public BufferedImage createRadonTransformationImage(ColormapLut colormap, BufferedImage target) {
+        BufferedImage resultImage = getRenderer().render(result.getStandardizedRadonTransform(), colormap, target);
+
+        paintErrorIfAny(resultImage, toPoint(imageCenter));
 
         return resultImage;
     }
 
+    // downscaled image of the transform, without rendering the full size one (max of every block of bins).
+    // It is not bigger than the transform
+    public BufferedImage createRadonTransformationPreview(int previewWidth, int previewHeight,
+                                                          ColormapLut colormap, BufferedImage target) {
+        BufferedImage resultImage = getRenderer().renderPreview(result.getStandardizedRadonTransform(), colormap,
+                previewWidth, previewHeight, target);
+
+        paintErrorIfAny(resultImage, new Point(resultImage.getWidth() / 2, resultImage.getHeight() / 2));
+
+        return resultImage;
+    }
+
+    protected void paintErrorIfAny(BufferedImage resultImage, Point center) {
+        if (successesCnt.get() != semaphoreNumPermits) {
+            String errorText = String.format("ERROR ( %d / %d )", successesCnt.get(), semaphoreNumPermits);
+            paintError(resultImage, errorText, center);
+        } else if (wasTimeout()) {
+            String errorText = String.format("Timeout ( after %d ms )", getProcessingTimeMs());
+            paintError(resultImage, errorText, center);
+        } else if (isCancelled()) {
+            String errorText = "Cancelled by user";
+            paintError(resultImage, errorText, center);
+        }
+    }
+
     public Pair<Point2d, Double> getMax() {
         Pair<Point2d, Double> result = null;
         RadonTransformResult myResult = getResult();
@@ -206,20 +300,164 @@ public class RadonTransformCalculator {
     }
 
     protected void paintError(BufferedImage result, String errorText) {
+        paintError(result, errorText, toPoint(imageCenter));
+    }
+
+    protected void paintError(BufferedImage result, String errorText, Point center) {
         Graphics2D grp = result.createGraphics();
-        paintStringCentered(grp, createFont(), errorText, Color.RED, toPoint(imageCenter));
+        paintStringCentered(grp, createFont(), errorText, Color.RED, center);
 
         grp.dispose();
     }
 
     protected Point2d calculateImageCenter() {
-        return createPoint2d((getWidth() - 1) * 0.5d, (getHeight() - 1) * 0.5d);
+        return calculateImageCenter(getWidth(), getHeight());
+    }
+
+    protected Point2d calculateImageCenter(int width, int height) {
+        return createPoint2d((width - 1) * 0.5d, (height - 1) * 0.5d);
+    }
+
+    // only the image center and the (rho, theta) grid, to build plans or operators without any image
+    public RadonTransformCalculator initGeometry(int width, int height) {
+        this.imageCenter = calculateImageCenter(width, height);
+        this.result = new RadonTransformResult(width, height, getConfiguration())
+                .initGeometry();
+
+        return this;
     }
 
     public Point2d getImageCenter() {
         return imageCenter;
     }
 
+    // returns the number of submitted tasks
+    protected int dispatchTasks() {
+        int result;
+        // a precompiled operator replaces the algorithm
+        if (sparseOperator != null) {
+            result = createSparseOperatorEngine().dispatchTasks(this);
+        } else {
+            result = dispatchTasks(getConfiguration().getAlgorithm());
+        }
+        return result;
+    }
+
+    protected int dispatchTasks(RadonTransformAlgorithm algorithm) {
+        int result;
+        switch (algorithm) {
+            case DENSE_BINS:
+                result = createDenseBinsEngine().dispatchTasks(this);
+                break;
+            case FOURIER_SLICE:
+                result = createFourierSliceEngine().dispatchTasks(this);
+                break;
+            case DYADIC:
+                result = createDyadicEngine().dispatchTasks(this);
+                break;
+            case SPARSE_VOTING:
+                result = createSparseVotingEngine().dispatchTasks(this);
+                break;
+            case BOUNDARY_PAIRS:
+            default:
+                result = processBoundingEdgePairs();
+                break;
+        }
+        return result;
+    }
+
+    protected RadonTransformEngine createDenseBinsEngine() {
+        return new RadonDenseBinsEngine();
+    }
+
+    protected RadonTransformEngine createFourierSliceEngine() {
+        return new RadonFourierSliceEngine();
+    }
+
+    protected RadonTransformEngine createDyadicEngine() {
+        return new RadonDyadicEngine();
+    }
+
+    protected RadonTransformEngine createSparseVotingEngine() {
+        return new RadonSparseVotingEngine();
+    }
+
+    protected RadonTransformEngine createSparseOperatorEngine() {
+        return new RadonSparseOperatorEngine();
+    }
+
+    protected int processBoundingEdgePairs() {
+        int result;
+        // plans are for the whole transform
+        if (planCache != null && window == null) {
+            result = process(getOrCreatePlan());
+        } else if (getConfiguration().getTaskScheduling() == RadonTaskScheduling.FORK_JOIN) {
+            result = createForkJoinBoundaryPairsEngine().dispatchTasks(this);
+        } else {
+            result = process(getBoundingEdgePairs());
+        }
+        return result;
+    }
+
+    protected RadonTransformEngine createForkJoinBoundaryPairsEngine() {
+        return new RadonForkJoinBoundaryPairsEngine();
+    }
+
+    // (start edge, target edge) pairs, one after the other
+    public BoundingEdge[] getBoundingEdgePairs() {
+        return new BoundingEdge[] {
+                BoundingEdge.NORTH, BoundingEdge.EAST,
+                BoundingEdge.NORTH, BoundingEdge.SOUTH,
+                BoundingEdge.NORTH, BoundingEdge.WEST,
+                BoundingEdge.EAST, BoundingEdge.SOUTH,
+                BoundingEdge.EAST, BoundingEdge.WEST,
+                BoundingEdge.SOUTH, BoundingEdge.WEST
+        };
+    }
+
+    // if two calculations of a new size build the plan at the same time, the last one is kept
+    protected RadonPlan getOrCreatePlan() {
+        RadonPlanKey key = RadonPlanKey.create(result);
+        RadonPlan plan = planCache.get(key);
+        if (plan == null) {
+            plan = createPlan();
+            planCache.put(key, plan);
+        }
+        return plan;
+    }
+
+    // it only needs the geometry
+    public RadonPlan createPlan() {
+        return createPlanBuilder().build(this, getBoundingEdgePairs());
+    }
+
+    protected RadonPlanBuilder createPlanBuilder() {
+        return new RadonPlanBuilder();
+    }
+
+    // replays the plan: one task per start point and target edge, as when browsing the boundary pairs
+    protected int process(RadonPlan plan) {
+        int numTasks = 0;
+        boolean keepGoing = true;
+        for (Iterator<RadonPlanTask> it = plan.getTasks().iterator(); keepGoing && it.hasNext(); ) {
+            RadonPlanTask planTask = it.next();
+            numTasks++;
+            keepGoing = submitTask(() -> processInternal(planTask));
+        }
+        return numTasks;
+    }
+
+    protected void processInternal(RadonPlanTask planTask) {
+        RadonIntegrationContext integrationContext = createMyPixelRadonContext(myNormalizedImage);
+        int startX = planTask.getStartX();
+        int startY = planTask.getStartY();
+        for (int ii = 0; ii < planTask.size() && !hasToStopImmediately(); ii++) {
+            integrateLine(integrationContext, startX, startY, planTask.getEndX(ii), planTask.getEndY(ii));
+
+            setLineResultByBinIndex(integrationContext, planTask.getBin(ii));
+        }
+    }
+
     protected int process(BoundingEdge... pairs) {
         AtomicInteger numTasksRef = new AtomicInteger();
         if ((pairs.length & 0x1) == 1) {
@@ -245,11 +483,60 @@ public class RadonTransformCalculator {
                               BoundingEdge boundingEdge,
                               BoundingEdgePixelBrowser edgePixelBrowser,
                               AtomicInteger numTasksRef) {
+        if (!isThetaSweepInWindow(startPoint, boundingEdge, edgePixelBrowser)) {
+            return !hasToStopImmediately();
+        }
         numTasksRef.incrementAndGet();
-        increasePendingTasksToFinish();
 
-        runTask(() ->
+        return submitTask(() ->
                 processInternal(startPoint, boundingEdge, edgePixelBrowser));
+    }
+
+    // the lines from a start point to the pixels of an edge sweep an arc of thetas (shorter than PI),
+    // so the whole pair can be skipped when the arc does not reach the window
+    protected boolean isThetaSweepInWindow(Point2d startPoint,
+                                           BoundingEdge boundingEdge,
+                                           BoundingEdgePixelBrowser edgePixelBrowser) {
+        boolean result = true;
+        if (window != null && window.hasThetaRanges()) {
+            result = isDirectionsSweepInWindow(
+                    edgePixelBrowser.getFirstPoint(boundingEdge).subtract(startPoint),
+                    edgePixelBrowser.getLastPoint(boundingEdge).subtract(startPoint));
+        }
+        return result;
+    }
+
+    // if the lines with directions in the (shorter) arc from direction1 to direction2 can fall in the window
+    public boolean isDirectionsSweepInWindow(Point2d direction1, Point2d direction2) {
+        boolean result = true;
+        double cross = direction1.x * direction2.y - direction1.y * direction2.x;
+        // for aligned directions, the arc is not well defined
+        if (window != null && !isCloseToZero(cross)) {
+            double from = Math.atan2(direction1.y, direction1.x);
+            if (cross < 0) {
+                from = Math.atan2(direction2.y, direction2.x);
+            }
+            double sweep = Math.abs(Math.atan2(cross, direction1.x * direction2.x + direction1.y * direction2.y));
+
+            // theta is the angle of the normal of the line. The arc is widened by one theta step on each side,
+            // as a line lands in a bin of the window if the bin (not the theta of the line) intersects the window
+            double thetaStep = getResult().getThetaStep();
+            result = window.intersectsThetaRange(from + PI_HALVES - thetaStep, from + PI_HALVES + sweep + thetaStep);
+        }
+        return result;
+    }
+
+    // Every submitted task releases one permit of the semaphore when finished.
+    // Returns false when no more tasks should be submitted
+    public boolean submitTask(Runnable task) {
+        return submitTask(task, this::runTask);
+    }
+
+    // same as submitTask, but the task runs in taskExecutor (for example, a fork join pool) instead of the executor
+    public boolean submitTask(Runnable task, Consumer<Runnable> taskExecutor) {
+        increasePendingTasksToFinish();
+
+        taskExecutor.accept(() -> runSubmittedTask(task));
 
         return !hasToStopImmediately();
     }
@@ -258,16 +545,9 @@ public class RadonTransformCalculator {
         executor.accept(runnable);
     }
 
-    protected void processInternal(Point2d startPoint,
-                                   BoundingEdge boundingEdge,
-                                   BoundingEdgePixelBrowser edgePixelBrowser) {
+    protected void runSubmittedTask(Runnable task) {
         try {
-            RadonIntegrationContext integrationContext = createMyPixelRadonContext(myNormalizedImage);
-
-            edgePixelBrowser
-                    .browse(boundingEdge,
-                            endPoint -> processInternal(
-                                    integrationContext, startPoint, endPoint));
+            task.run();
 
             successesCnt.incrementAndGet();
         } catch (Exception ex) {
@@ -278,22 +558,48 @@ public class RadonTransformCalculator {
         }
     }
 
+    protected void processInternal(Point2d startPoint,
+                                   BoundingEdge boundingEdge,
+                                   BoundingEdgePixelBrowser edgePixelBrowser) {
+        RadonIntegrationContext integrationContext = createMyPixelRadonContext(myNormalizedImage);
+
+        edgePixelBrowser
+                .browse(boundingEdge,
+                        endPoint -> processInternal(
+                                integrationContext, startPoint, endPoint));
+    }
+
+    public RadonIntegrationContext createIntegrationContext() {
+        return createMyPixelRadonContext(myNormalizedImage);
+    }
+
+    public void integrateLine(RadonIntegrationContext integrationContext, int x1, int y1, int x2, int y2) {
+        integrationContext.reset();
+        integrationContext.integrateLine(getLinePixelsBrowser(), x1, y1, x2, y2);
+    }
+
+    // integrates the line between two boundary pixels. Returns false when the calculation has to stop
+    public boolean processBoundaryPair(RadonIntegrationContext integrationContext,
+                                       Point2d startPoint,
+                                       Point2d endPoint) {
+        return processInternal(integrationContext, startPoint, endPoint);
+    }
+
     protected boolean processInternal(RadonIntegrationContext integrationContext,
                                       Point2d startPoint,
                                       Point2d endPoint) {
         try {
             if (!Objects.equals(startPoint, endPoint)) {
 //            if (!isRedundant(startPoint, endPoint) && !Objects.equals(startPoint, endPoint)) {
-                integrationContext.reset();
-
-                getLinePixelsBrowser()
-                        .browseLine(startPoint.getIntX(), startPoint.getIntY(),
-                                endPoint.getIntX(), endPoint.getIntY(),
-                                integrationContext::processPixel);
-
                 Point2d rhoTheta = calculateRhoTheta(startPoint, endPoint);
 
-                result.set(rhoTheta.x, rhoTheta.y, integrationContext.getAccumulation(), integrationContext.getCount());
+                if (result.isInWindow(rhoTheta.x, rhoTheta.y)) {
+                    integrateLine(integrationContext,
+                            startPoint.getIntX(), startPoint.getIntY(),
+                            endPoint.getIntX(), endPoint.getIntY());
+
+                    setLineResult(integrationContext, rhoTheta.x, rhoTheta.y);
+                }
             }
             return !hasToStopImmediately();
         } catch (Exception ex) {
@@ -301,6 +607,18 @@ public class RadonTransformCalculator {
         }
     }
 
+    protected void setLineResult(RadonIntegrationContext integrationContext, double rho, double theta) {
+        result.set(rho, theta, integrationContext.getAccumulation(), integrationContext.getCount());
+    }
+
+    protected void setLineResultByBinIndex(RadonIntegrationContext integrationContext, int binIndex) {
+        result.setByBinIndex(binIndex, integrationContext.getAccumulation(), integrationContext.getCount());
+    }
+
+    protected void finishResult() {
+        result.finished();
+    }
+
     protected int getWidth() {
         return getMyNormalizedImage().getWidth();
     }
@@ -309,7 +627,7 @@ public class RadonTransformCalculator {
         return getMyNormalizedImage().getHeight();
     }
 
-    protected Point2d calculateRhoTheta(Point2d startPoint, Point2d endPoint) {
+    public Point2d calculateRhoTheta(Point2d startPoint, Point2d endPoint) {
         Point2d center = getImageCenter();
         Point2d lineClosestPoint = calculateLineClosestPoint(startPoint, endPoint, center);
 
@@ -318,7 +636,8 @@ public class RadonTransformCalculator {
         double theta = 0.0d;
 
         if (isCloseToZero(delta.x) && isCloseToZero(delta.y)) {
-            theta = calculateTheta(endPoint.subtract(startPoint));
+            // line through the center: theta is the angle of the normal, not the one of the line
+            theta = calculateTheta(endPoint.subtract(startPoint)) + PI_HALVES;
         } else {
             theta = calculateTheta(delta);
         }
@@ -368,6 +687,50 @@ public class RadonTransformCalculator {
     }
 
 
+    public RadonTransformConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    public RadonBinsSelection getBinsSelection() {
+        return binsSelection;
+    }
+
+    // restricts the DENSE_BINS algorithm to some bins. It has to be set before processing
+    public RadonTransformCalculator setBinsSelection(RadonBinsSelection binsSelection) {
+        this.binsSelection = binsSelection;
+        return this;
+    }
+
+    public RadonWindow getWindow() {
+        return window;
+    }
+
+    // restricts the calculation (and the result containers) to a (rho, theta) window. It has to be set before processing
+    public RadonTransformCalculator setWindow(RadonWindow window) {
+        this.window = window;
+        return this;
+    }
+
+    public RadonPlanCache getPlanCache() {
+        return planCache;
+    }
+
+    // geometry plans of the boundary pairs algorithm, shared by the calculations of images of the same size
+    public RadonTransformCalculator setPlanCache(RadonPlanCache planCache) {
+        this.planCache = planCache;
+        return this;
+    }
+
+    public RadonSparseOperator getSparseOperator() {
+        return sparseOperator;
+    }
+
+    // precompiled boundary pairs transform for the size of the image (see RadonSparseOperatorCompiler)
+    public RadonTransformCalculator setSparseOperator(RadonSparseOperator sparseOperator) {
+        this.sparseOperator = sparseOperator;
+        return this;
+    }
+
     public My2dContainer getMyNormalizedImage() {
         return myNormalizedImage;
     }
@@ -377,7 +740,30 @@ public class RadonTransformCalculator {
     }
 
     protected RadonIntegrationContext createMyPixelRadonContext(My2dContainer myNormalizedImage) {
-        return new RadonIntegrationContext(myNormalizedImage);
+        RadonIntegrationContext result;
+        if (prefixSums != null) {
+            result = new RadonRunLengthIntegrationContext(myNormalizedImage, prefixSums);
+        } else {
+            result = new RadonIntegrationContext(myNormalizedImage);
+        }
+        return result;
+    }
+
+    protected boolean isRunLengthIntegration() {
+        return getConfiguration().getIntegrationMode() == RadonIntegrationMode.RUN_LENGTH_PREFIX_SUMS;
+    }
+
+    protected RadonPrefixSums createPrefixSumsIfNeeded(My2dContainer myNormalizedImage) {
+        RadonPrefixSums result = null;
+        if (isRunLengthIntegration()) {
+            result = new RadonPrefixSums(myNormalizedImage.getWidth(), myNormalizedImage.getHeight())
+                    .init(myNormalizedImage);
+        }
+        return result;
+    }
+
+    public RadonPrefixSums getPrefixSums() {
+        return prefixSums;
     }
 
     protected BufferedImageToMyNormalizedImageConverter getBufferedImageToMyNormalizedImage() {
@@ -388,15 +774,41 @@ public class RadonTransformCalculator {
         return getBufferedImageToMyNormalizedImage().convert(image);
     }
 
+    protected My2dContainerRenderer getRenderer() {
+        return My2dContainerRenderer.instance();
+    }
+
     protected BufferedImage convert(My2dContainer myImage) {
         return getBufferedImageToMyNormalizedImage().convert(myImage);
     }
 
-    protected RadonTransformResult createEmptyRadonTransformResult(BufferedImage image) {
-        return new RadonTransformResult(image.getWidth(), image.getHeight())
+    protected RadonTransformResult createEmptyRadonTransformResult(int width, int height) {
+        return new RadonTransformResult(width, height, getConfiguration())
+                .setWindow(getWindow())
+                .setMaxAbsPixelValue(calculateMaxAbsPixelValue())
                 .init();
     }
 
+    // sinograms of rounded elements are chosen after the range of the pixels, so that they can not overflow.
+    // At least 1, the range of normalized images
+    protected double calculateMaxAbsPixelValue() {
+        double result = 1.0d;
+        if (getConfiguration().getElementType().isRounded()) {
+            for (int yy = 0; yy < myNormalizedImage.getHeight(); yy++) {
+                for (int xx = 0; xx < myNormalizedImage.getWidth(); xx++) {
+                    result = maxAbs(result, myNormalizedImage.getDouble(xx, yy));
+                }
+            }
+        }
+        return result;
+    }
+
+    // NaN pixels are ignored
+    protected double maxAbs(double currentMax, double value) {
+        double abs = Math.abs(value);
+        return (abs > currentMax) ? abs : currentMax;
+    }
+
     protected Point2d createPoint2d(double xx, double yy) {
         return Point2d.create(xx, yy);
     }
@@ -417,6 +829,10 @@ public class RadonTransformCalculator {
         return future.isDone();
     }
 
+    public boolean hasToStop() {
+        return hasToStopImmediately();
+    }
+
     protected boolean hasToStopImmediately() {
         return wasTimeout() || futureIsDone();
     }
@@ -29,15 +29,61 @@ package com.frojasg1.image.processing.radon;
 
 import com.frojasg1.gen.concurrent.BasicFuture;
 import com.frojasg1.gen.concurrent.FutureCallback;
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.processing.radon.async.RadonAsyncCalculator;
+import com.frojasg1.image.processing.radon.batch.RadonBatchCalculator;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.deadline.RadonDeadlineCalculator;
+import com.frojasg1.image.processing.radon.operator.RadonSparseOperator;
+import com.frojasg1.image.processing.radon.plan.RadonPlanCache;
+import com.frojasg1.image.processing.radon.progressive.RadonProgressiveCalculator;
+import com.frojasg1.image.processing.radon.progressive.RadonTransformSnapshot;
+import com.frojasg1.image.processing.radon.pyramid.RadonPyramidCalculator;
+import com.frojasg1.image.processing.radon.pyramid.RadonPyramidResult;
+import com.frojasg1.image.processing.radon.result.RadonWindow;
 import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
 public class RadonTransformExecutor {
     protected Consumer<Runnable> executor;
+    protected RadonTransformConfiguration configuration;
+    protected RadonPlanCache planCache;
+    protected RadonSparseOperator sparseOperator;
 
     public RadonTransformExecutor(Consumer<Runnable> executor) {
+        this(executor, RadonTransformConfiguration.createDefault());
+    }
+
+    public RadonTransformExecutor(Consumer<Runnable> executor, RadonTransformConfiguration configuration) {
         this.executor = executor;
+        this.configuration = configuration;
+        this.planCache = createPlanCache(configuration.getPlanCacheSize());
+    }
+
+    protected RadonPlanCache createPlanCache(int planCacheSize) {
+        RadonPlanCache result = null;
+        if (planCacheSize > 0) {
+            result = new RadonPlanCache(planCacheSize).init();
+        }
+        return result;
+    }
+
+    public RadonPlanCache getPlanCache() {
+        return planCache;
+    }
+
+    public RadonSparseOperator getSparseOperator() {
+        return sparseOperator;
+    }
+
+    // precompiled transform for the size of the images that will be calculated
+    public RadonTransformExecutor setSparseOperator(RadonSparseOperator sparseOperator) {
+        this.sparseOperator = sparseOperator;
+        return this;
     }
 
     public Future<RadonTransformCalculator> calculateRadonTransform(BufferedImage image) {
@@ -52,9 +98,98 @@ public class RadonTransformExecutor {
     public Future<RadonTransformCalculator> calculateRadonTransform(BufferedImage image,
                                                                     int internalTimeoutInMs,
                                                                     FutureCallback<RadonTransformCalculator> callback) {
+        return calculateRadonTransform(image, internalTimeoutInMs, null, callback);
+    }
+
+    // only the (rho, theta) bins of the window are calculated (and stored). A null window is the whole transform
+    public Future<RadonTransformCalculator> calculateRadonTransform(BufferedImage image,
+                                                                    int internalTimeoutInMs,
+                                                                    RadonWindow window,
+                                                                    FutureCallback<RadonTransformCalculator> callback) {
+        BasicFuture<RadonTransformCalculator> result = createFuture(callback);
+
+        execute(image, null, internalTimeoutInMs, window, result);
+
+        return result;
+    }
+
+    // for images which are already normalized. Read only views (see BufferedImageToMyNormalizedImageConverter.createView)
+    // are not copied, so the transform of a region of a big frame does not allocate anything of the size of the frame
+    public Future<RadonTransformCalculator> calculateRadonTransform(My2dContainer normalizedImage,
+                                                                    int internalTimeoutInMs,
+                                                                    RadonWindow window,
+                                                                    FutureCallback<RadonTransformCalculator> callback) {
         BasicFuture<RadonTransformCalculator> result = createFuture(callback);
 
-        execute(image, internalTimeoutInMs, result);
+        execute(null, normalizedImage, internalTimeoutInMs, window, result);
+
+        return result;
+    }
+
+    // snapshots of the partial result (progress, top lines ...) are published to the subscriber while it runs
+    public Future<RadonTransformCalculator> calculateProgressiveRadonTransform(BufferedImage image,
+                                                                               int internalTimeoutInMs,
+                                                                               Consumer<RadonTransformSnapshot> subscriber,
+                                                                               FutureCallback<RadonTransformCalculator> callback) {
+        BasicFuture<RadonTransformCalculator> result = createFuture(callback);
+
+        executeProgressive(image, internalTimeoutInMs, subscriber, result);
+
+        return result;
+    }
+
+    // anytime mode: the future completes with the partial result and its coverage (see RadonDeadlineCalculator),
+    // at the deadline (internalTimeoutInMs) plus the time to finish the result at the latest,
+    // if the running tasks stop in time, or plus deadlineDrainTimeoutMs, if they do not
+    public Future<RadonTransformCalculator> calculateRadonTransformWithDeadline(BufferedImage image,
+                                                                                int internalTimeoutInMs,
+                                                                                FutureCallback<RadonTransformCalculator> callback) {
+        BasicFuture<RadonTransformCalculator> result = createFuture(callback);
+
+        executeDeadline(image, internalTimeoutInMs, result);
+
+        return result;
+    }
+
+    // no coordinator thread: the last task to finish completes the future.
+    // Dependent stages run on the callbackExecutor (or on the thread of the last task, if null)
+    public CompletableFuture<RadonTransformCalculator> calculateRadonTransformAsync(BufferedImage image,
+                                                                                   int internalTimeoutInMs,
+                                                                                   Executor callbackExecutor) {
+        return calculateRadonTransformAsync(image, internalTimeoutInMs, null, callbackExecutor);
+    }
+
+    public CompletableFuture<RadonTransformCalculator> calculateRadonTransformAsync(BufferedImage image,
+                                                                                   int internalTimeoutInMs,
+                                                                                   RadonWindow window,
+                                                                                   Executor callbackExecutor) {
+        RadonAsyncCalculator asyncCalculator = new RadonAsyncCalculator(getExecutor(), getConfiguration(),
+                callbackExecutor);
+        asyncCalculator.setWindow(window)
+                .setPlanCache(getPlanCache())
+                .setSparseOperator(getSparseOperator());
+
+        return asyncCalculator.processAsync(image, internalTimeoutInMs);
+    }
+
+    // coarse to fine: only windows around the peaks of a downsampled transform are calculated in full resolution
+    public Future<RadonPyramidResult> calculatePyramidRadonTransform(BufferedImage image,
+                                                                     int internalTimeoutInMs,
+                                                                     FutureCallback<RadonPyramidResult> callback) {
+        BasicFuture<RadonPyramidResult> result = createFuture(callback);
+
+        executePyramid(image, internalTimeoutInMs, result);
+
+        return result;
+    }
+
+    // several normalized images of the same size, with a single walk of every line
+    public Future<RadonBatchCalculator> calculateBatchRadonTransform(List<My2dContainer> layers,
+                                                                     int internalTimeoutInMs,
+                                                                     FutureCallback<RadonBatchCalculator> callback) {
+        BasicFuture<RadonBatchCalculator> result = createFuture(callback);
+
+        executeBatch(layers, internalTimeoutInMs, result);
 
         return result;
     }
@@ -63,18 +198,92 @@ public class RadonTransformExecutor {
         return executor;
     }
 
+    public RadonTransformConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    // image or normalizedImage (the other one, null)
     protected void execute(BufferedImage image,
+                           My2dContainer normalizedImage,
                            int internalTimeoutInMs,
+                           RadonWindow window,
                            BasicFuture<RadonTransformCalculator> future) {
-        new Thread(() -> executeInternal(image, internalTimeoutInMs, future)).start();
+        new Thread(() -> executeInternal(image, normalizedImage, internalTimeoutInMs, window, future)).start();
     }
 
     protected void executeInternal(BufferedImage image,
+                                   My2dContainer normalizedImage,
                                    int internalTimeoutInMs,
+                                   RadonWindow window,
                                    BasicFuture<RadonTransformCalculator> future) {
-        RadonTransformCalculator radonTransformCalculator = new RadonTransformCalculator(future, getExecutor());
+        RadonTransformCalculator radonTransformCalculator = new RadonTransformCalculator(future, getExecutor(), getConfiguration())
+                .setWindow(window)
+                .setPlanCache(getPlanCache())
+                .setSparseOperator(getSparseOperator());
+
+        radonTransformCalculator.process(image, normalizedImage, internalTimeoutInMs);
+    }
+
+    protected void executeProgressive(BufferedImage image,
+                                      int internalTimeoutInMs,
+                                      Consumer<RadonTransformSnapshot> subscriber,
+                                      BasicFuture<RadonTransformCalculator> future) {
+        new Thread(() -> executeProgressiveInternal(image, internalTimeoutInMs, subscriber, future)).start();
+    }
+
+    protected void executeProgressiveInternal(BufferedImage image,
+                                              int internalTimeoutInMs,
+                                              Consumer<RadonTransformSnapshot> subscriber,
+                                              BasicFuture<RadonTransformCalculator> future) {
+        RadonTransformCalculator progressiveCalculator = new RadonProgressiveCalculator(future, getExecutor(),
+                getConfiguration(), subscriber)
+                .setPlanCache(getPlanCache())
+                .setSparseOperator(getSparseOperator());
+
+        progressiveCalculator.process(image, internalTimeoutInMs);
+    }
+
+    protected void executeDeadline(BufferedImage image,
+                                   int internalTimeoutInMs,
+                                   BasicFuture<RadonTransformCalculator> future) {
+        new Thread(() -> executeDeadlineInternal(image, internalTimeoutInMs, future)).start();
+    }
+
+    protected void executeDeadlineInternal(BufferedImage image,
+                                           int internalTimeoutInMs,
+                                           BasicFuture<RadonTransformCalculator> future) {
+        RadonTransformCalculator deadlineCalculator = new RadonDeadlineCalculator(future, getExecutor(), getConfiguration());
+
+        deadlineCalculator.process(image, internalTimeoutInMs);
+    }
+
+    protected void executePyramid(BufferedImage image,
+                                  int internalTimeoutInMs,
+                                  BasicFuture<RadonPyramidResult> future) {
+        new Thread(() -> executePyramidInternal(image, internalTimeoutInMs, future)).start();
+    }
+
+    protected void executePyramidInternal(BufferedImage image,
+                                          int internalTimeoutInMs,
+                                          BasicFuture<RadonPyramidResult> future) {
+        RadonPyramidCalculator pyramidCalculator = new RadonPyramidCalculator(future, getExecutor(), getConfiguration());
+
+        pyramidCalculator.process(image, internalTimeoutInMs);
+    }
+
+    protected void executeBatch(List<My2dContainer> layers,
+                                int internalTimeoutInMs,
+                                BasicFuture<RadonBatchCalculator> future) {
+        new Thread(() -> executeBatchInternal(layers, internalTimeoutInMs, future)).start();
+    }
+
+    protected void executeBatchInternal(List<My2dContainer> layers,
+                                        int internalTimeoutInMs,
+                                        BasicFuture<RadonBatchCalculator> future) {
+        RadonBatchCalculator batchCalculator = new RadonBatchCalculator(future, getExecutor(), getConfiguration())
+                .setPlanCache(getPlanCache());
 
-        radonTransformCalculator.process(image, internalTimeoutInMs);
+        batchCalculator.process(layers, internalTimeoutInMs);
     }
 
     protected <T> BasicFuture<T> createFuture(FutureCallback<T> callback) {
@@ -0,0 +1,171 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.async;
+
+import com.frojasg1.gen.concurrent.BasicFuture;
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Calculator without coordinator thread: the preparation and the dispatch of the tasks run as one more task
+// of the executor, and the last task to finish (a countdown of the pending ones, plus one for the dispatch)
+// finishes the result and completes the future. Nothing blocks waiting for the tasks.
+// The timeout is a deadline which the tasks check: past it, the pending ones return without working,
+// and the calculation completes as a timeout.
+// Stages depending on the returned future run on the callback executor (or, if it is null,
+// on the thread of the last task)
+public class RadonAsyncCalculator extends RadonTransformCalculator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RadonAsyncCalculator.class);
+
+    protected Executor callbackExecutor;
+
+    protected CompletableFuture<RadonTransformCalculator> completionFuture = new CompletableFuture<>();
+    protected CompletableFuture<RadonTransformCalculator> resultFuture;
+
+    protected AtomicInteger countdown = new AtomicInteger();
+    protected volatile long deadline;
+
+    public RadonAsyncCalculator(Consumer<Runnable> executor, RadonTransformConfiguration configuration,
+                                Executor callbackExecutor) {
+        // the basic future is not used
+        super(new BasicFuture<>(null), executor, configuration);
+        this.callbackExecutor = callbackExecutor;
+        this.resultFuture = createResultFuture();
+    }
+
+    protected CompletableFuture<RadonTransformCalculator> createResultFuture() {
+        CompletableFuture<RadonTransformCalculator> result = completionFuture;
+        if (callbackExecutor != null) {
+            result = completionFuture.thenApplyAsync(Function.identity(), callbackExecutor);
+        }
+        return result;
+    }
+
+    public CompletableFuture<RadonTransformCalculator> processAsync(BufferedImage image, int timeoutMs) {
+        return processAsync(image, null, timeoutMs);
+    }
+
+    // for images which are already normalized
+    public CompletableFuture<RadonTransformCalculator> processAsync(My2dContainer normalizedImage, int timeoutMs) {
+        return processAsync(null, normalizedImage, timeoutMs);
+    }
+
+    protected CompletableFuture<RadonTransformCalculator> processAsync(BufferedImage image,
+                                                                      My2dContainer normalizedImage,
+                                                                      int timeoutMs) {
+        deadline = System.currentTimeMillis() + timeoutMs;
+        countdown.set(1);
+        try {
+            runTask(() -> start(image, normalizedImage));
+        } catch (Exception ex) {
+            fail(ex);
+        }
+        return resultFuture;
+    }
+
+    protected void start(BufferedImage image, My2dContainer normalizedImage) {
+        try {
+            prepare(image, normalizedImage);
+
+            this.semaphoreNumPermits = dispatchTasks();
+
+            // the dispatch is not pending any more
+            taskFinished();
+        } catch (Exception ex) {
+            fail(ex);
+        }
+    }
+
+    @Override
+    public boolean submitTask(Runnable task, Consumer<Runnable> taskExecutor) {
+        countdown.incrementAndGet();
+        return super.submitTask(task, taskExecutor);
+    }
+
+    @Override
+    protected void runSubmittedTask(Runnable task) {
+        try {
+            super.runSubmittedTask(task);
+        } finally {
+            taskFinished();
+        }
+    }
+
+    protected void taskFinished() {
+        if (countdown.decrementAndGet() == 0) {
+            try {
+                complete();
+
+                completionFuture.complete(this);
+            } catch (Exception ex) {
+                fail(ex);
+            }
+        }
+    }
+
+    protected void fail(Exception ex) {
+        LOGGER.error("Error calculating radon transform", ex);
+        completionFuture.completeExceptionally(ex);
+    }
+
+    @Override
+    protected boolean hasToStopImmediately() {
+        if (!wasTimeout && System.currentTimeMillis() > deadline) {
+            wasTimeout = true;
+        }
+        return super.hasToStopImmediately();
+    }
+
+    @Override
+    protected boolean isCancelled() {
+        return resultFuture.isCancelled() || completionFuture.isCancelled();
+    }
+
+    @Override
+    protected boolean futureIsDone() {
+        return completionFuture.isDone() || isCancelled();
+    }
+
+    @Override
+    public void cancel() {
+        resultFuture.cancel(false);
+    }
+
+    public CompletableFuture<RadonTransformCalculator> getFuture() {
+        return resultFuture;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.batch;
+
+import com.frojasg1.gen.concurrent.BasicFuture;
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.plan.RadonPlanCache;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import com.frojasg1.image.processing.radon.result.RadonWindow;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Radon transforms of several images of the same size (frames of a burst, channels, thresholds ...)
+// with a single enumeration of the boundary pairs and a single walk of every line: one result per layer
+public class RadonBatchCalculator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RadonBatchCalculator.class);
+
+    protected BasicFuture<RadonBatchCalculator> future;
+    protected Consumer<Runnable> executor;
+    protected RadonTransformConfiguration configuration;
+    protected RadonWindow window;
+    protected RadonPlanCache planCache;
+
+    protected RadonBatchLayersCalculator layersCalculator;
+
+    public RadonBatchCalculator(BasicFuture<RadonBatchCalculator> future, Consumer<Runnable> executor,
+                                RadonTransformConfiguration configuration) {
+        this.future = future;
+        this.executor = executor;
+        this.configuration = configuration;
+    }
+
+    public synchronized void process(List<My2dContainer> layers, int timeoutMs) {
+        try {
+            RadonBatchLayers batchLayers = new RadonBatchLayers(layers).init();
+
+            BasicFuture<RadonTransformCalculator> layersFuture = new BasicFuture<>(null);
+            layersCalculator = createLayersCalculator(layersFuture, batchLayers);
+            layersCalculator.process(batchLayers.getLayer(0), timeoutMs);
+
+            // it is already done, and it throws if the calculation failed
+            layersFuture.get();
+
+            future.completed(this);
+        } catch (ExecutionException ee) {
+            LOGGER.error("Error calculating batch radon transform", ee.getCause());
+            future.failed(ee.getCause() instanceof Exception ? (Exception) ee.getCause() : ee);
+        } catch (Exception ex) {
+            LOGGER.error("Error calculating batch radon transform", ex);
+            future.failed(ex);
+        }
+    }
+
+    protected RadonBatchLayersCalculator createLayersCalculator(BasicFuture<RadonTransformCalculator> layersFuture,
+                                                                RadonBatchLayers batchLayers) {
+        RadonBatchLayersCalculator result = new RadonBatchLayersCalculator(layersFuture, executor, configuration,
+                batchLayers) {
+            @Override
+            protected boolean hasToStopImmediately() {
+                return super.hasToStopImmediately() || RadonBatchCalculator.this.isCancelled();
+            }
+        };
+        result.setWindow(window)
+                .setPlanCache(planCache);
+
+        return result;
+    }
+
+    public RadonBatchCalculator setWindow(RadonWindow window) {
+        this.window = window;
+        return this;
+    }
+
+    public RadonBatchCalculator setPlanCache(RadonPlanCache planCache) {
+        this.planCache = planCache;
+        return this;
+    }
+
+    public RadonTransformConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    public List<RadonTransformResult> getResults() {
+        return layersCalculator.getResults();
+    }
+
+    public RadonTransformResult getResult(int layer) {
+        return getResults().get(layer);
+    }
+
+    public int getNumLayers() {
+        return getResults().size();
+    }
+
+    public RadonBatchLayersCalculator getLayersCalculator() {
+        return layersCalculator;
+    }
+
+    public boolean wasSuccessful() {
+        return layersCalculator != null && layersCalculator.wasSuccessful();
+    }
+
+    public boolean wasTimeout() {
+        return layersCalculator != null && layersCalculator.wasTimeout();
+    }
+
+    public long getProcessingTimeMs() {
+        return layersCalculator == null ? 0L : layersCalculator.getProcessingTimeMs();
+    }
+
+    protected boolean isCancelled() {
+        return future.isCancelled();
+    }
+
+    public void cancel() {
+        future.cancel();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.batch;
+
+import com.frojasg1.image.processing.radon.pixel.RadonIntegrationContext;
+import java.util.Arrays;
+
+// not thread safe
+// Integrates all the layers at once: the values of the layers of a pixel are contiguous
+// (index (yy * width + xx) * numLayers + layer), so every pixel of the line is a single contiguous read
+public class RadonBatchIntegrationContext extends RadonIntegrationContext {
+
+    protected RadonBatchLayers layers;
+    protected double[] pixels;
+    protected int width;
+    protected int numLayers;
+    protected double[] layersHits;
+
+    public RadonBatchIntegrationContext(RadonBatchLayers layers) {
+        super(layers.getLayer(0));
+
+        this.layers = layers;
+        this.pixels = layers.getPixels();
+        this.width = layers.getWidth();
+        this.numLayers = layers.getNumLayers();
+        this.layersHits = new double[numLayers];
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        Arrays.fill(layersHits, 0.0d);
+    }
+
+    @Override
+    public void processPixel(int xx, int yy) {
+        int index = (yy * width + xx) * numLayers;
+        for (int layer = 0; layer < numLayers; layer++) {
+            layersHits[layer] += pixels[index + layer];
+        }
+        count++;
+    }
+
+    @Override
+    public double getAccumulation() {
+        return layersHits[0];
+    }
+
+    public double getAccumulation(int layer) {
+        return layersHits[layer];
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.batch;
+
+import com.frojasg1.image.normalized.My2dContainer;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// N normalized images of the same size, with the values of every pixel stored contiguously
+public class RadonBatchLayers {
+    // some virtual machines reserve a few header words in arrays
+    protected static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    protected List<My2dContainer> layers;
+
+    protected int width;
+    protected int height;
+    protected double[] pixels;
+
+    public RadonBatchLayers(List<My2dContainer> layers) {
+        this.layers = layers;
+    }
+
+    public RadonBatchLayers init() {
+        if (layers == null || layers.isEmpty()) {
+            throw new IllegalArgumentException("No layers");
+        }
+        width = layers.get(0).getWidth();
+        height = layers.get(0).getHeight();
+        for (My2dContainer layer: layers) {
+            if (layer.getWidth() != width || layer.getHeight() != height) {
+                throw new IllegalArgumentException(String.format("Layers of different sizes: %d x %d and %d x %d",
+                        width, height, layer.getWidth(), layer.getHeight()));
+            }
+        }
+
+        long numPixels = ((long) width) * height * layers.size();
+        if (numPixels > MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException(String.format(
+                    "Too many pixels for a batch: %d x %d x %d layers = %d (max %d). Use fewer layers per batch",
+                    width, height, layers.size(), numPixels, MAX_ARRAY_LENGTH));
+        }
+        pixels = new double[(int) numPixels];
+        IntStream.range(0, height)
+                .parallel()
+                .forEach(this::fillRow);
+
+        return this;
+    }
+
+    protected void fillRow(int yy) {
+        int numLayers = layers.size();
+        for (int layer = 0; layer < numLayers; layer++) {
+            My2dContainer container = layers.get(layer);
+            int index = yy * width * numLayers + layer;
+            for (int xx = 0; xx < width; xx++, index += numLayers) {
+                pixels[index] = container.getDouble(xx, yy);
+            }
+        }
+    }
+
+    public int getNumLayers() {
+        return layers.size();
+    }
+
+    public My2dContainer getLayer(int layer) {
+        return layers.get(layer);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public double[] getPixels() {
+        return pixels;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.batch;
+
+import com.frojasg1.gen.concurrent.BasicFuture;
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.pixel.RadonIntegrationContext;
+import com.frojasg1.image.processing.radon.pixel.RadonPrefixSums;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Boundary pairs calculator which walks every line once for all the layers, and writes one result per layer.
+// Its normalized image is the first layer. Lines are always walked pixel by pixel
+public class RadonBatchLayersCalculator extends RadonTransformCalculator {
+    protected RadonBatchLayers layers;
+    protected List<RadonTransformResult> results;
+
+    public RadonBatchLayersCalculator(BasicFuture<RadonTransformCalculator> future, Consumer<Runnable> executor,
+                                      RadonTransformConfiguration configuration, RadonBatchLayers layers) {
+        super(future, executor, configuration);
+
+        this.layers = layers;
+    }
+
+    @Override
+    protected int dispatchTasks() {
+        return processBoundingEdgePairs();
+    }
+
+    @Override
+    protected RadonPrefixSums createPrefixSumsIfNeeded(My2dContainer myNormalizedImage) {
+        return null;
+    }
+
+    @Override
+    protected RadonIntegrationContext createMyPixelRadonContext(My2dContainer myNormalizedImage) {
+        return new RadonBatchIntegrationContext(layers);
+    }
+
+    @Override
+    protected RadonTransformResult createEmptyRadonTransformResult(int width, int height) {
+        results = new ArrayList<>();
+        for (int layer = 0; layer < layers.getNumLayers(); layer++) {
+            results.add(super.createEmptyRadonTransformResult(width, height));
+        }
+        return results.get(0);
+    }
+
+    // the pixels of all the layers
+    @Override
+    protected double calculateMaxAbsPixelValue() {
+        double result = 1.0d;
+        if (getConfiguration().getElementType().isRounded()) {
+            for (double pixel: layers.getPixels()) {
+                result = maxAbs(result, pixel);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    protected void setLineResult(RadonIntegrationContext integrationContext, double rho, double theta) {
+        RadonBatchIntegrationContext batchContext = (RadonBatchIntegrationContext) integrationContext;
+        for (int layer = 0; layer < results.size(); layer++) {
+            results.get(layer).set(rho, theta, batchContext.getAccumulation(layer), batchContext.getCount());
+        }
+    }
+
+    @Override
+    protected void setLineResultByBinIndex(RadonIntegrationContext integrationContext, int binIndex) {
+        RadonBatchIntegrationContext batchContext = (RadonBatchIntegrationContext) integrationContext;
+        for (int layer = 0; layer < results.size(); layer++) {
+            results.get(layer).setByBinIndex(binIndex, batchContext.getAccumulation(layer), batchContext.getCount());
+        }
+    }
+
+    @Override
+    protected void finishResult() {
+        for (RadonTransformResult layerResult: results) {
+            layerResult.finished();
+        }
+    }
+
+    public List<RadonTransformResult> getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+package com.frojasg1.image.processing.radon.config;
+
+// type of the elements of the sinogram (the accumulations along the lines)
+public enum RadonElementType {
+    DOUBLE(Double.BYTES),
+    // half the memory and bandwidth, with float precision
+    FLOAT(Float.BYTES),
+    // exact counts on binary images (accumulations are rounded)
+    INT(Integer.BYTES),
+    // exact counts on binary images, promoted to INT if a line could overflow it
+    SHORT(Short.BYTES);
+
+    private final int bytes;
+
+    RadonElementType(int bytes) {
+        this.bytes = bytes;
+    }
+
+    public int getBytes() {
+        return bytes;
+    }
+
+    // accumulations are rounded, so they can overflow
+    public boolean isRounded() {
+        return (this == INT) || (this == SHORT);
+    }
+
+    // type of the containers of fractions (normalized and standardized sinograms)
+    public RadonElementType getFractionType() {
+        return (this == DOUBLE) ? DOUBLE : FLOAT;
+    }
+}
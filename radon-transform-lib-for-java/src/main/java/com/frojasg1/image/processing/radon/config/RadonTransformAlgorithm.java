@@ -0,0 +1,42 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.config;
+
+public enum RadonTransformAlgorithm {
+    // every pair of boundary pixels is integrated, and the max of the lines of each (rho, theta) bin is kept
+    BOUNDARY_PAIRS,
+    // exactly one line (the one through the center of the bin) is integrated for every (rho, theta) bin
+    DENSE_BINS,
+    // projection-slice theorem: 2D FFT of the image, and a 1D inverse FFT per theta row. O(N^2 log N), approximated
+    FOURIER_SLICE,
+    // fast discrete Radon transform on dyadic digital lines. O(N^2 log N), no interpolation
+    DYADIC,
+    // every pixel over a threshold votes into the rho bin it projects to, for every theta. O(edge pixels x theta bins)
+    SPARSE_VOTING;
+}
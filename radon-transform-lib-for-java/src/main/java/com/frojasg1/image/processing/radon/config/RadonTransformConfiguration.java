@@ -0,0 +1,399 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.config;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class RadonTransformConfiguration {
+    public static final long DEFAULT_SHARDS_MEMORY_BUDGET_IN_BYTES = 512L * 1024L * 1024L;
+    public static final double DEFAULT_FOURIER_OVERSAMPLING = 1.0d;
+    public static final long DEFAULT_DYADIC_MEMORY_BUDGET_IN_BYTES = 1024L * 1024L * 1024L;
+    public static final int DEFAULT_PYRAMID_DOWNSAMPLING_FACTOR = 4;
+    public static final int DEFAULT_PYRAMID_NUM_CANDIDATES = 8;
+    public static final double DEFAULT_PYRAMID_WINDOW_RADIUS = 2.0d;
+    public static final int DEFAULT_SNAPSHOT_INTERVAL_MS = 100;
+    public static final int DEFAULT_SNAPSHOT_TOP_K = 10;
+    public static final int DEFAULT_DEADLINE_COARSE_THETA_STRIDE = 8;
+    public static final int DEFAULT_DEADLINE_DRAIN_TIMEOUT_MS = 100;
+    public static final long DEFAULT_OFF_HEAP_THRESHOLD_IN_BYTES = 1L << 30;
+    public static final RadonElementType DEFAULT_ELEMENT_TYPE = RadonElementType.DOUBLE;
+
+    protected RadonAccumulationMode accumulationMode = RadonAccumulationMode.SHARED;
+
+    // max memory for all the private shards of a calculation. Workers which would exceed it use the shared containers
+    protected long shardsMemoryBudgetInBytes = DEFAULT_SHARDS_MEMORY_BUDGET_IN_BYTES;
+
+    protected RadonIntegrationMode integrationMode = RadonIntegrationMode.PIXEL_WALK;
+
+    protected RadonTransformAlgorithm algorithm = RadonTransformAlgorithm.BOUNDARY_PAIRS;
+
+    // zero padding factor of the Fourier slice algorithm (size of the grid / size of the rho range)
+    protected double fourierOversampling = DEFAULT_FOURIER_OVERSAMPLING;
+
+    // max memory for the scratch buffers of the orientations of the dyadic algorithm which run in parallel
+    protected long dyadicMemoryBudgetInBytes = DEFAULT_DYADIC_MEMORY_BUDGET_IN_BYTES;
+
+    // pixels whose normalized value is not over this threshold do not vote in the sparse voting algorithm
+    protected double sparseVotingThreshold = 0.0d;
+
+    // pool for the algorithms that split their work with fork join. null means the common pool
+    protected ForkJoinPool forkJoinPool;
+
+    // pyramid mode: the image is downsampled by this factor for the coarse transform
+    protected int pyramidDownsamplingFactor = DEFAULT_PYRAMID_DOWNSAMPLING_FACTOR;
+
+    protected RadonDownsamplingMode pyramidDownsamplingMode = RadonDownsamplingMode.BOX;
+
+    // pyramid mode: number of peaks of the coarse transform which are refined
+    protected int pyramidNumCandidates = DEFAULT_PYRAMID_NUM_CANDIDATES;
+
+    // pyramid mode: half size of the refined windows, in bins of the coarse transform (both for rho and theta)
+    protected double pyramidWindowRadius = DEFAULT_PYRAMID_WINDOW_RADIUS;
+
+    // pyramid mode: algorithm of the coarse transform (refinement always uses DENSE_BINS)
+    protected RadonTransformAlgorithm pyramidCoarseAlgorithm = RadonTransformAlgorithm.DENSE_BINS;
+
+    // max number of geometry plans (of the boundary pairs algorithm) the executor keeps. 0 disables them
+    protected int planCacheSize;
+
+    // progressive mode: time between snapshots
+    protected int snapshotIntervalMs = DEFAULT_SNAPSHOT_INTERVAL_MS;
+
+    // progressive mode: number of top lines of the snapshots
+    protected int snapshotTopK = DEFAULT_SNAPSHOT_TOP_K;
+
+    // progressive mode: if snapshots carry a copy of the partial sinogram
+    protected boolean snapshotWithSinogram;
+
+    // progressive mode: the calculation stops when the top lines do not change while this fraction
+    // of the work pending at their last change is done. 0 disables the early stop
+    protected double earlyStopStableFraction;
+
+    // boundary pairs algorithm: tasks per start pixel, or cost balanced fork join work units (without a plan)
+    protected RadonTaskScheduling taskScheduling = RadonTaskScheduling.PER_START_PIXEL;
+
+    // deadline mode: every how many theta rows is calculated in the first (coarse) wave
+    protected int deadlineCoarseThetaStride = DEFAULT_DEADLINE_COARSE_THETA_STRIDE;
+
+    // deadline mode: max wait for the running tasks after the deadline, before completing the future
+    protected int deadlineDrainTimeoutMs = DEFAULT_DEADLINE_DRAIN_TIMEOUT_MS;
+
+    // result containers of this size or bigger are stored out of the java heap
+    protected long offHeapThresholdInBytes = DEFAULT_OFF_HEAP_THRESHOLD_IN_BYTES;
+
+    // if set, off heap containers are memory mapped temporary files in this directory (otherwise, direct memory)
+    protected String offHeapDirectory;
+
+    // type of the elements of the sinogram. The normalized and standardized sinograms are FLOAT unless it is DOUBLE
+    protected RadonElementType elementType = DEFAULT_ELEMENT_TYPE;
+
+    public RadonTransformConfiguration() {
+    }
+
+    public RadonTransformConfiguration(RadonTransformConfiguration that) {
+        this.accumulationMode = that.accumulationMode;
+        this.shardsMemoryBudgetInBytes = that.shardsMemoryBudgetInBytes;
+        this.integrationMode = that.integrationMode;
+        this.algorithm = that.algorithm;
+        this.fourierOversampling = that.fourierOversampling;
+        this.dyadicMemoryBudgetInBytes = that.dyadicMemoryBudgetInBytes;
+        this.sparseVotingThreshold = that.sparseVotingThreshold;
+        this.forkJoinPool = that.forkJoinPool;
+        this.pyramidDownsamplingFactor = that.pyramidDownsamplingFactor;
+        this.pyramidDownsamplingMode = that.pyramidDownsamplingMode;
+        this.pyramidNumCandidates = that.pyramidNumCandidates;
+        this.pyramidWindowRadius = that.pyramidWindowRadius;
+        this.pyramidCoarseAlgorithm = that.pyramidCoarseAlgorithm;
+        this.planCacheSize = that.planCacheSize;
+        this.snapshotIntervalMs = that.snapshotIntervalMs;
+        this.snapshotTopK = that.snapshotTopK;
+        this.snapshotWithSinogram = that.snapshotWithSinogram;
+        this.earlyStopStableFraction = that.earlyStopStableFraction;
+        this.taskScheduling = that.taskScheduling;
+        this.deadlineCoarseThetaStride = that.deadlineCoarseThetaStride;
+        this.deadlineDrainTimeoutMs = that.deadlineDrainTimeoutMs;
+        this.offHeapThresholdInBytes = that.offHeapThresholdInBytes;
+        this.offHeapDirectory = that.offHeapDirectory;
+        this.elementType = that.elementType;
+    }
+
+    public static RadonTransformConfiguration createDefault() {
+        return new RadonTransformConfiguration();
+    }
+
+    public RadonTransformConfiguration createCopy() {
+        return new RadonTransformConfiguration(this);
+    }
+
+    public RadonAccumulationMode getAccumulationMode() {
+        return accumulationMode;
+    }
+
+    public RadonTransformConfiguration setAccumulationMode(RadonAccumulationMode accumulationMode) {
+        this.accumulationMode = accumulationMode;
+        return this;
+    }
+
+    public long getShardsMemoryBudgetInBytes() {
+        return shardsMemoryBudgetInBytes;
+    }
+
+    public RadonTransformConfiguration setShardsMemoryBudgetInBytes(long shardsMemoryBudgetInBytes) {
+        this.shardsMemoryBudgetInBytes = shardsMemoryBudgetInBytes;
+        return this;
+    }
+
+    public RadonIntegrationMode getIntegrationMode() {
+        return integrationMode;
+    }
+
+    public RadonTransformConfiguration setIntegrationMode(RadonIntegrationMode integrationMode) {
+        this.integrationMode = integrationMode;
+        return this;
+    }
+
+    public RadonTransformAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public RadonTransformConfiguration setAlgorithm(RadonTransformAlgorithm algorithm) {
+        this.algorithm = algorithm;
+        return this;
+    }
+
+    public double getFourierOversampling() {
+        return fourierOversampling;
+    }
+
+    public RadonTransformConfiguration setFourierOversampling(double fourierOversampling) {
+        this.fourierOversampling = fourierOversampling;
+        return this;
+    }
+
+    public long getDyadicMemoryBudgetInBytes() {
+        return dyadicMemoryBudgetInBytes;
+    }
+
+    public RadonTransformConfiguration setDyadicMemoryBudgetInBytes(long dyadicMemoryBudgetInBytes) {
+        this.dyadicMemoryBudgetInBytes = dyadicMemoryBudgetInBytes;
+        return this;
+    }
+
+    public double getSparseVotingThreshold() {
+        return sparseVotingThreshold;
+    }
+
+    public RadonTransformConfiguration setSparseVotingThreshold(double sparseVotingThreshold) {
+        this.sparseVotingThreshold = sparseVotingThreshold;
+        return this;
+    }
+
+    public ForkJoinPool getForkJoinPool() {
+        return forkJoinPool;
+    }
+
+    public RadonTransformConfiguration setForkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+        return this;
+    }
+
+    public int getPyramidDownsamplingFactor() {
+        return pyramidDownsamplingFactor;
+    }
+
+    public RadonTransformConfiguration setPyramidDownsamplingFactor(int pyramidDownsamplingFactor) {
+        this.pyramidDownsamplingFactor = pyramidDownsamplingFactor;
+        return this;
+    }
+
+    public RadonDownsamplingMode getPyramidDownsamplingMode() {
+        return pyramidDownsamplingMode;
+    }
+
+    public RadonTransformConfiguration setPyramidDownsamplingMode(RadonDownsamplingMode pyramidDownsamplingMode) {
+        this.pyramidDownsamplingMode = pyramidDownsamplingMode;
+        return this;
+    }
+
+    public int getPyramidNumCandidates() {
+        return pyramidNumCandidates;
+    }
+
+    public RadonTransformConfiguration setPyramidNumCandidates(int pyramidNumCandidates) {
+        this.pyramidNumCandidates = pyramidNumCandidates;
+        return this;
+    }
+
+    public double getPyramidWindowRadius() {
+        return pyramidWindowRadius;
+    }
+
+    public RadonTransformConfiguration setPyramidWindowRadius(double pyramidWindowRadius) {
+        this.pyramidWindowRadius = pyramidWindowRadius;
+        return this;
+    }
+
+    public RadonTransformAlgorithm getPyramidCoarseAlgorithm() {
+        return pyramidCoarseAlgorithm;
+    }
+
+    public RadonTransformConfiguration setPyramidCoarseAlgorithm(RadonTransformAlgorithm pyramidCoarseAlgorithm) {
+        this.pyramidCoarseAlgorithm = pyramidCoarseAlgorithm;
+        return this;
+    }
+
+    public int getPlanCacheSize() {
+        return planCacheSize;
+    }
+
+    public RadonTransformConfiguration setPlanCacheSize(int planCacheSize) {
+        this.planCacheSize = planCacheSize;
+        return this;
+    }
+
+    public int getSnapshotIntervalMs() {
+        return snapshotIntervalMs;
+    }
+
+    public RadonTransformConfiguration setSnapshotIntervalMs(int snapshotIntervalMs) {
+        this.snapshotIntervalMs = snapshotIntervalMs;
+        return this;
+    }
+
+    public int getSnapshotTopK() {
+        return snapshotTopK;
+    }
+
+    public RadonTransformConfiguration setSnapshotTopK(int snapshotTopK) {
+        this.snapshotTopK = snapshotTopK;
+        return this;
+    }
+
+    public boolean isSnapshotWithSinogram() {
+        return snapshotWithSinogram;
+    }
+
+    public RadonTransformConfiguration setSnapshotWithSinogram(boolean snapshotWithSinogram) {
+        this.snapshotWithSinogram = snapshotWithSinogram;
+        return this;
+    }
+
+    public double getEarlyStopStableFraction() {
+        return earlyStopStableFraction;
+    }
+
+    public RadonTransformConfiguration setEarlyStopStableFraction(double earlyStopStableFraction) {
+        this.earlyStopStableFraction = earlyStopStableFraction;
+        return this;
+    }
+
+    public RadonTaskScheduling getTaskScheduling() {
+        return taskScheduling;
+    }
+
+    public RadonTransformConfiguration setTaskScheduling(RadonTaskScheduling taskScheduling) {
+        this.taskScheduling = taskScheduling;
+        return this;
+    }
+
+    public int getDeadlineCoarseThetaStride() {
+        return deadlineCoarseThetaStride;
+    }
+
+    public RadonTransformConfiguration setDeadlineCoarseThetaStride(int deadlineCoarseThetaStride) {
+        this.deadlineCoarseThetaStride = deadlineCoarseThetaStride;
+        return this;
+    }
+
+    public int getDeadlineDrainTimeoutMs() {
+        return deadlineDrainTimeoutMs;
+    }
+
+    public RadonTransformConfiguration setDeadlineDrainTimeoutMs(int deadlineDrainTimeoutMs) {
+        this.deadlineDrainTimeoutMs = deadlineDrainTimeoutMs;
+        return this;
+    }
+
+    public long getOffHeapThresholdInBytes() {
+        return offHeapThresholdInBytes;
+    }
+
+    public RadonTransformConfiguration setOffHeapThresholdInBytes(long offHeapThresholdInBytes) {
+        this.offHeapThresholdInBytes = offHeapThresholdInBytes;
+        return this;
+    }
+
+    public String getOffHeapDirectory() {
+        return offHeapDirectory;
+    }
+
+    public RadonTransformConfiguration setOffHeapDirectory(String offHeapDirectory) {
+        this.offHeapDirectory = offHeapDirectory;
+        return this;
+    }
+
+    public RadonElementType getElementType() {
+        return elementType;
+    }
+
+    public RadonTransformConfiguration setElementType(RadonElementType elementType) {
+        this.elementType = elementType;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "RadonTransformConfiguration{" +
+                "accumulationMode=" + accumulationMode +
+                ", shardsMemoryBudgetInBytes=" + shardsMemoryBudgetInBytes +
+                ", integrationMode=" + integrationMode +
+                ", algorithm=" + algorithm +
+                ", fourierOversampling=" + fourierOversampling +
+                ", dyadicMemoryBudgetInBytes=" + dyadicMemoryBudgetInBytes +
+                ", sparseVotingThreshold=" + sparseVotingThreshold +
+                ", forkJoinPool=" + forkJoinPool +
+                ", pyramidDownsamplingFactor=" + pyramidDownsamplingFactor +
+                ", pyramidDownsamplingMode=" + pyramidDownsamplingMode +
+                ", pyramidNumCandidates=" + pyramidNumCandidates +
+                ", pyramidWindowRadius=" + pyramidWindowRadius +
+                ", pyramidCoarseAlgorithm=" + pyramidCoarseAlgorithm +
+                ", planCacheSize=" + planCacheSize +
+                ", snapshotIntervalMs=" + snapshotIntervalMs +
+                ", snapshotTopK=" + snapshotTopK +
+                ", snapshotWithSinogram=" + snapshotWithSinogram +
+                ", earlyStopStableFraction=" + earlyStopStableFraction +
+                ", taskScheduling=" + taskScheduling +
+                ", deadlineCoarseThetaStride=" + deadlineCoarseThetaStride +
+                ", deadlineDrainTimeoutMs=" + deadlineDrainTimeoutMs +
+                ", offHeapThresholdInBytes=" + offHeapThresholdInBytes +
+                ", offHeapDirectory=" + offHeapDirectory +
+                ", elementType=" + elementType +
+                '}';
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.deadline;
+
+import com.frojasg1.gen.concurrent.BasicFuture;
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.config.RadonAccumulationMode;
+import com.frojasg1.image.processing.radon.config.RadonTransformAlgorithm;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.result.RadonCoverageMap;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Anytime calculator: DENSE_BINS with the most informative lines first (see RadonDeadlineDenseBinsEngine),
+// which stops at the deadline (the timeout, counted from the call to process) and returns the partial result.
+// At the deadline, no more tasks are dispatched, and the pending ones return without working
+// (tasks check the deadline themselves too, before every line). They are waited for before finishing the result,
+// but only for deadlineDrainTimeoutMs: if the executor is busy with other work, tasks not started yet
+// would keep the future waiting with no bound. Those tasks return without working when they start,
+// and the running ones after the line they are integrating (see wasDrained).
+// The coverage map tells which bins were processed, and getCompleteness the fraction of them
+public class RadonDeadlineCalculator extends RadonTransformCalculator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RadonDeadlineCalculator.class);
+
+    protected RadonCoverageMap coverageMap;
+    protected RadonDeadlineDenseBinsEngine deadlineEngine;
+
+    protected volatile long deadline;
+    protected volatile boolean deadlineReached;
+    protected volatile boolean drained;
+
+    public RadonDeadlineCalculator(BasicFuture<RadonTransformCalculator> future, Consumer<Runnable> executor,
+                                   RadonTransformConfiguration configuration) {
+        // rows are read between the waves, so private shards are not possible
+        super(future, executor, configuration.createCopy()
+                .setAlgorithm(RadonTransformAlgorithm.DENSE_BINS)
+                .setAccumulationMode(RadonAccumulationMode.SHARED));
+    }
+
+    @Override
+    protected void process(BufferedImage image, My2dContainer normalizedImage, int timeoutMs) {
+        this.deadline = System.currentTimeMillis() + timeoutMs;
+
+        super.process(image, normalizedImage, timeoutMs);
+    }
+
+    @Override
+    protected void resetForStarting() {
+        super.resetForStarting();
+
+        this.deadlineReached = false;
+        this.drained = true;
+        this.coverageMap = null;
+        this.deadlineEngine = null;
+    }
+
+    @Override
+    protected int dispatchTasks() {
+        coverageMap = createCoverageMap();
+        deadlineEngine = createDeadlineEngine(coverageMap);
+
+        return deadlineEngine.dispatchTasks(this);
+    }
+
+    protected RadonCoverageMap createCoverageMap() {
+        return new RadonCoverageMap(getResult().getNumElementsForTheta()).init();
+    }
+
+    protected RadonDeadlineDenseBinsEngine createDeadlineEngine(RadonCoverageMap coverageMap) {
+        return new RadonDeadlineDenseBinsEngine(coverageMap, getConfiguration().getDeadlineCoarseThetaStride());
+    }
+
+    @Override
+    protected boolean waitForTasks(int numTasks, int timeoutMs) throws InterruptedException {
+        int numPendingTasks = numTasks;
+        boolean inTime = semaphore.tryAcquire(numPendingTasks, getRemainingMs(), TimeUnit.MILLISECONDS);
+        if (inTime && !hasToStopImmediately()) {
+            numPendingTasks = deadlineEngine.dispatchRefinementTasks(this);
+            semaphoreNumPermits += numPendingTasks;
+            inTime = semaphore.tryAcquire(numPendingTasks, getRemainingMs(), TimeUnit.MILLISECONDS);
+        }
+        if (!inTime) {
+            deadlineReached = true;
+            // pending tasks return without working
+            drained = semaphore.tryAcquire(numPendingTasks, getConfiguration().getDeadlineDrainTimeoutMs(),
+                    TimeUnit.MILLISECONDS);
+            if (!drained) {
+                LOGGER.warn("Tasks still pending {} ms after the deadline, completing without them",
+                        getConfiguration().getDeadlineDrainTimeoutMs());
+            }
+        }
+
+        return inTime && !deadlineReached;
+    }
+
+    protected long getRemainingMs() {
+        return Math.max(0L, deadline - System.currentTimeMillis());
+    }
+
+    @Override
+    protected boolean hasToStopImmediately() {
+        if (!deadlineReached && System.currentTimeMillis() >= deadline) {
+            deadlineReached = true;
+        }
+        return deadlineReached || super.hasToStopImmediately();
+    }
+
+    // a partial result is not successful, but it is not an error either
+    @Override
+    protected boolean checkSuccessful() {
+        boolean result;
+        if (wasTimeout() && (!drained || successesCnt.get() == semaphoreNumPermits) && !isCancelled()) {
+            LOGGER.info("Deadline reached after {} ms, with {} of the bins",
+                    System.currentTimeMillis() - startTime, getCompleteness());
+            result = false;
+        } else {
+            result = super.checkSuccessful();
+        }
+        return result;
+    }
+
+    public RadonCoverageMap getCoverageMap() {
+        return coverageMap;
+    }
+
+    // fraction of the bins which were processed before the deadline
+    public double getCompleteness() {
+        return (coverageMap == null) ? 0.0d : coverageMap.getCompleteness();
+    }
+
+    public boolean wasDeadlineReached() {
+        return deadlineReached;
+    }
+
+    // false if some tasks had not finished deadlineDrainTimeoutMs after the deadline.
+    // They do not process more lines, but the one each of them was integrating can still be stored
+    public boolean wasDrained() {
+        return drained;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.deadline;
+
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.engine.RadonDenseBinsEngine;
+import com.frojasg1.image.processing.radon.result.RadonBinsSelection;
+import com.frojasg1.image.processing.radon.result.RadonCoverageMap;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// DENSE_BINS in two waves, so the most informative lines are calculated first:
+// the coarse wave calculates one of every coarseThetaStride theta rows, spread over the whole theta range
+// as soon as possible (coarse to fine order), and the refinement wave calculates the rest of rows,
+// the ones next to the coarse rows with the highest values first.
+// Processed bins are recorded in the coverage map
+public class RadonDeadlineDenseBinsEngine extends RadonDenseBinsEngine {
+
+    protected RadonCoverageMap coverageMap;
+    protected int coarseThetaStride;
+
+    protected List<Integer> thetaRowsToProcess;
+
+    public RadonDeadlineDenseBinsEngine(RadonCoverageMap coverageMap, int coarseThetaStride) {
+        this.coverageMap = coverageMap;
+        this.coarseThetaStride = Math.max(1, coarseThetaStride);
+    }
+
+    // coarse wave
+    @Override
+    public int dispatchTasks(RadonTransformCalculator calculator) {
+        thetaRowsToProcess = new ArrayList<>();
+        // last theta row is theta = PI, which is the same as theta = 0
+        int numThetaRows = calculator.getResult().getNumElementsForTheta() - 1;
+        for (int thetaIndex = 0; thetaIndex < numThetaRows; thetaIndex++) {
+            if (isThetaRowToProcess(calculator, thetaIndex)) {
+                thetaRowsToProcess.add(thetaIndex);
+                coverageMap.setNumBinsToProcess(thetaIndex, countBinsToProcess(calculator, thetaIndex));
+            }
+        }
+
+        List<Integer> coarseThetaRows = new ArrayList<>();
+        for (int position = 0; position < thetaRowsToProcess.size(); position += coarseThetaStride) {
+            coarseThetaRows.add(thetaRowsToProcess.get(position));
+        }
+        return submitThetaRows(calculator, coarseToFineOrder(coarseThetaRows));
+    }
+
+    // refinement wave, to be dispatched when the coarse one has finished
+    public int dispatchRefinementTasks(RadonTransformCalculator calculator) {
+        RadonTransformResult result = calculator.getResult();
+        int numCoarseRows = (thetaRowsToProcess.size() + coarseThetaStride - 1) / coarseThetaStride;
+        double[] coarseRowMax = new double[numCoarseRows];
+        for (int ii = 0; ii < numCoarseRows; ii++) {
+            coarseRowMax[ii] = result.getThetaRowMax(thetaRowsToProcess.get(ii * coarseThetaStride));
+        }
+
+        List<Integer> refinementPositions = new ArrayList<>();
+        double[] priority = new double[thetaRowsToProcess.size()];
+        for (int position = 0; position < thetaRowsToProcess.size(); position++) {
+            int coarseIndex = position / coarseThetaStride;
+            if (position % coarseThetaStride != 0) {
+                refinementPositions.add(position);
+                // theta wraps around at PI
+                priority[position] = Math.max(coarseRowMax[coarseIndex], coarseRowMax[(coarseIndex + 1) % numCoarseRows]);
+            }
+        }
+        refinementPositions.sort(Comparator.comparingDouble(position -> -priority[position]));
+
+        List<Integer> refinementThetaRows = new ArrayList<>(refinementPositions.size());
+        for (Integer position: refinementPositions) {
+            refinementThetaRows.add(thetaRowsToProcess.get(position));
+        }
+        return submitThetaRows(calculator, refinementThetaRows);
+    }
+
+    protected int submitThetaRows(RadonTransformCalculator calculator, List<Integer> thetaRows) {
+        int numTasks = 0;
+        boolean keepGoing = true;
+        for (int ii = 0; keepGoing && ii < thetaRows.size(); ii++) {
+            numTasks++;
+            keepGoing = submitThetaRow(calculator, thetaRows.get(ii));
+        }
+        return numTasks;
+    }
+
+    // tasks pending at the deadline return before creating their contexts
+    @Override
+    protected boolean submitThetaRow(RadonTransformCalculator calculator, int thetaIndex) {
+        return calculator.submitTask(() -> {
+            if (!calculator.hasToStop()) {
+                processThetaRow(calculator, thetaIndex);
+            }
+        });
+    }
+
+    // order of the bit reversed positions, so every prefix of the list is spread over the whole list
+    protected List<Integer> coarseToFineOrder(List<Integer> list) {
+        List<Integer> result = new ArrayList<>(list.size());
+        int numBits = 32 - Integer.numberOfLeadingZeros(Math.max(1, list.size() - 1));
+        for (int ii = 0; ii < (1 << numBits); ii++) {
+            int position = Integer.reverse(ii) >>> (32 - numBits);
+            if (position < list.size()) {
+                result.add(list.get(position));
+            }
+        }
+        return result;
+    }
+
+    protected int countBinsToProcess(RadonTransformCalculator calculator, int thetaIndex) {
+        RadonTransformResult result = calculator.getResult();
+        RadonBinsSelection binsSelection = calculator.getBinsSelection();
+        int numBins = 0;
+        for (int rhoIndex = result.getWindowRhoIndexFrom(); rhoIndex <= result.getWindowRhoIndexTo(); rhoIndex++) {
+            if (binsSelection == null || binsSelection.isSelected(rhoIndex, thetaIndex)) {
+                numBins++;
+            }
+        }
+        return numBins;
+    }
+
+    @Override
+    protected void binProcessed(int rhoIndex, int thetaIndex) {
+        coverageMap.binProcessed(rhoIndex, thetaIndex);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.engine;
+
+import com.frojasg1.image.Point2d;
+import com.frojasg1.image.gen.geometry.GeometryFunctions;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+
+// Calculates the integer ends of the line of a (rho, theta) bin, inside the inner frame of the image
+// [1, width-2] x [1, height-2], which is the same frame the boundary pixels are taken from.
+// Not thread safe: one instance per task
+public class RadonBinLineClipper {
+    protected Point2d center;
+    protected int xMax;
+    protected int yMax;
+
+    protected double[] doubleSegment = new double[4];
+
+    public RadonBinLineClipper(RadonTransformCalculator calculator) {
+        this.center = calculator.getImageCenter();
+        this.xMax = calculator.getMyNormalizedImage().getWidth() - 2;
+        this.yMax = calculator.getMyNormalizedImage().getHeight() - 2;
+    }
+
+    // segment: (x1, y1, x2, y2). Returns false if the line does not cross the frame, or if it is a single pixel
+    public boolean clip(double rho, double cosTheta, double sinTheta, int[] segment) {
+        boolean result = getGeometryFunctions().clipRhoThetaLine(center.x, center.y, rho, cosTheta, sinTheta,
+                1, 1, xMax, yMax, doubleSegment);
+        if (result) {
+            segment[0] = limit((int) Math.round(doubleSegment[0]), 1, xMax);
+            segment[1] = limit((int) Math.round(doubleSegment[1]), 1, yMax);
+            segment[2] = limit((int) Math.round(doubleSegment[2]), 1, xMax);
+            segment[3] = limit((int) Math.round(doubleSegment[3]), 1, yMax);
+
+            // the boundary pairs algorithm does not integrate single pixels either
+            result = (segment[0] != segment[2]) || (segment[1] != segment[3]);
+        }
+        return result;
+    }
+
+    // number of pixels the line browser visits for the segment
+    public int countPixels(int[] segment) {
+        return Math.max(Math.abs(segment[2] - segment[0]), Math.abs(segment[3] - segment[1])) + 1;
+    }
+
+    protected int limit(int value, int lowerBound, int upperBound) {
+        return Math.max(lowerBound, Math.min(upperBound, value));
+    }
+
+    protected GeometryFunctions getGeometryFunctions() {
+        return GeometryFunctions.instance();
+    }
+}
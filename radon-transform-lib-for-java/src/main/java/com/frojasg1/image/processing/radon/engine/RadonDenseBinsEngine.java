@@ -0,0 +1,120 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.engine;
+
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.pixel.RadonIntegrationContext;
+import com.frojasg1.image.processing.radon.result.RadonBinsSelection;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+
+// Iterates the (rho, theta) grid of the result, and integrates exactly one line per bin:
+// the one through the center of the bin, clipped to the same inner frame the boundary pixels are taken from.
+// Work is proportional to bins x line length, and there is one task per theta row.
+// If the calculator has a bins selection or a window, only those bins are calculated
+public class RadonDenseBinsEngine implements RadonTransformEngine {
+
+    @Override
+    public int dispatchTasks(RadonTransformCalculator calculator) {
+        RadonTransformResult result = calculator.getResult();
+
+        int numTasks = 0;
+        boolean keepGoing = true;
+        // last theta row is theta = PI, which is the same as theta = 0 (and is never set by the other algorithm)
+        int numThetaRows = result.getNumElementsForTheta() - 1;
+        for (int thetaIndex = 0; keepGoing && thetaIndex < numThetaRows; thetaIndex++) {
+            if (isThetaRowToProcess(calculator, thetaIndex)) {
+                numTasks++;
+                keepGoing = submitThetaRow(calculator, thetaIndex);
+            }
+        }
+        return numTasks;
+    }
+
+    protected boolean isThetaRowToProcess(RadonTransformCalculator calculator, int thetaIndex) {
+        RadonBinsSelection binsSelection = calculator.getBinsSelection();
+        return calculator.getResult().isThetaIndexInWindow(thetaIndex)
+                && (binsSelection == null || binsSelection.isThetaRowSelected(thetaIndex));
+    }
+
+    // returns false when no more tasks should be submitted
+    protected boolean submitThetaRow(RadonTransformCalculator calculator, int thetaIndex) {
+        return calculator.submitTask(() -> processThetaRow(calculator, thetaIndex));
+    }
+
+    // all the theta rows in the calling thread, with the same context, clipper and segment
+    public void processThetaRows(RadonTransformCalculator calculator, RadonIntegrationContext integrationContext,
+                                 RadonBinLineClipper clipper, int[] segment) {
+        int numThetaRows = calculator.getResult().getNumElementsForTheta() - 1;
+        for (int thetaIndex = 0; thetaIndex < numThetaRows; thetaIndex++) {
+            if (isThetaRowToProcess(calculator, thetaIndex)) {
+                processThetaRow(calculator, thetaIndex, integrationContext, clipper, segment);
+            }
+        }
+    }
+
+    protected void processThetaRow(RadonTransformCalculator calculator, int thetaIndex) {
+        processThetaRow(calculator, thetaIndex, calculator.createIntegrationContext(), createClipper(calculator), new int[4]);
+    }
+
+    protected void processThetaRow(RadonTransformCalculator calculator, int thetaIndex,
+                                   RadonIntegrationContext integrationContext,
+                                   RadonBinLineClipper clipper, int[] segment) {
+        RadonTransformResult result = calculator.getResult();
+
+        double theta = result.getThetaBinCenter(thetaIndex);
+        double cosTheta = Math.cos(theta);
+        double sinTheta = Math.sin(theta);
+
+        RadonBinsSelection binsSelection = calculator.getBinsSelection();
+        for (int rhoIndex = result.getWindowRhoIndexFrom(); rhoIndex <= result.getWindowRhoIndexTo(); rhoIndex++) {
+            if (calculator.hasToStop()) {
+                break;
+            }
+            if (binsSelection != null && !binsSelection.isSelected(rhoIndex, thetaIndex)) {
+                continue;
+            }
+            double rho = result.getRhoBinCenter(rhoIndex);
+            if (clipper.clip(rho, cosTheta, sinTheta, segment)) {
+                calculator.integrateLine(integrationContext, segment[0], segment[1], segment[2], segment[3]);
+
+                result.setByIndex(rhoIndex, thetaIndex,
+                        integrationContext.getAccumulation(), integrationContext.getCount());
+            }
+            binProcessed(rhoIndex, thetaIndex);
+        }
+    }
+
+    // called after every bin of the selection is processed (bins of a theta row in increasing rho order)
+    protected void binProcessed(int rhoIndex, int thetaIndex) {
+    }
+
+    protected RadonBinLineClipper createClipper(RadonTransformCalculator calculator) {
+        return new RadonBinLineClipper(calculator);
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.engine;
+
+import com.frojasg1.gen.math.FastFourierTransform;
+import com.frojasg1.image.Point2d;
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+// Fast discrete Radon transform (Brady, Gotz-Druckmuller), exact on its dyadic digital lines.
+// For every orientation, the (inner frame of the) image is seen as an image whose lines go from column 0 to
+// column size-1 (size is the next power of two of the width) rising s rows, with s in [0, size-1].
+// Blocks of n columns are merged into blocks of 2n columns:
+//     D2n(h, s) = Dn_left(h, s/2) + Dn_right(h + ceil(s/2), s/2)
+// so the sums of all the lines are calculated in O(rows x size x log(size)).
+// The four orientations (mostly horizontal or mostly vertical, rising or falling) are independent,
+// and they run in parallel as long as their scratch buffers fit the memory budget.
+// Every level is parallelized by rows. Sums are written into the bins with the usual max rule
+public class RadonDyadicEngine implements RadonTransformEngine {
+    // some virtual machines reserve a few header words in arrays
+    protected static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    protected RadonTransformCalculator calculator;
+    protected RadonTransformResult result;
+
+    // size of the inner frame of the image
+    protected int frameWidth;
+    protected int frameHeight;
+
+    protected AtomicInteger nextOrientationIndex = new AtomicInteger();
+
+    @Override
+    public int dispatchTasks(RadonTransformCalculator calculator) {
+        // images too big for the buffers fail before any task is submitted
+        RadonTransformResult result = calculator.getResult();
+        calculateBufferLength(result.getImageWidth() - 2, result.getImageHeight() - 2);
+
+        // the parallelism is inside, in the fork join pool
+        calculator.submitTask(() -> process(calculator));
+        return 1;
+    }
+
+    protected void process(RadonTransformCalculator calculator) {
+        ForkJoinPool pool = getForkJoinPool(calculator.getConfiguration());
+        try {
+            pool.submit(() -> processInternal(calculator)).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted calculating the dyadic Radon transform", ie);
+        } catch (ExecutionException ee) {
+            throw new RuntimeException("Error calculating the dyadic Radon transform", ee.getCause());
+        }
+    }
+
+    protected ForkJoinPool getForkJoinPool(RadonTransformConfiguration configuration) {
+        ForkJoinPool result = configuration.getForkJoinPool();
+        if (result == null) {
+            result = ForkJoinPool.commonPool();
+        }
+        return result;
+    }
+
+    protected void processInternal(RadonTransformCalculator calculator) {
+        this.calculator = calculator;
+        this.result = calculator.getResult();
+        this.frameWidth = calculator.getMyNormalizedImage().getWidth() - 2;
+        this.frameHeight = calculator.getMyNormalizedImage().getHeight() - 2;
+
+        int bufferLength = calculateBufferLength(frameWidth, frameHeight);
+        int numWorkers = calculateNumParallelOrientations(bufferLength,
+                calculator.getConfiguration().getDyadicMemoryBudgetInBytes());
+
+        // every worker reuses its two buffers for all the levels of the orientations it takes
+        nextOrientationIndex.set(0);
+        IntStream.range(0, numWorkers)
+                .parallel()
+                .forEach(worker -> processOrientations(new double[bufferLength], new double[bufferLength]));
+    }
+
+    protected int calculateNumParallelOrientations(int bufferLength, long memoryBudgetInBytes) {
+        long orientationSizeInBytes = 2L * Double.BYTES * bufferLength;
+        long result = memoryBudgetInBytes / orientationSizeInBytes;
+        return (int) Math.max(1, Math.min(DyadicOrientation.values().length, result));
+    }
+
+    protected void processOrientations(double[] buffer1, double[] buffer2) {
+        DyadicOrientation[] orientations = DyadicOrientation.values();
+        int index;
+        while (!calculator.hasToStop() && (index = nextOrientationIndex.getAndIncrement()) < orientations.length) {
+            if (isOrientationInWindow(orientations[index])) {
+                processOrientation(orientations[index], buffer1, buffer2);
+            }
+        }
+    }
+
+    // lines of an orientation go from rise 0 to rise size-1 (45 degrees)
+    protected boolean isOrientationInWindow(DyadicOrientation orientation) {
+        int width = orientation.isTransposed() ? frameHeight : frameWidth;
+        int last = calculateSize(width) - 1;
+        Point2d origin = toImagePoint(orientation, 0, 0);
+        return calculator.isDirectionsSweepInWindow(toImagePoint(orientation, last, 0).subtract(origin),
+                toImagePoint(orientation, last, last).subtract(origin));
+    }
+
+    protected int calculateSize(int width) {
+        return FastFourierTransform.nextPowerOfTwo(width);
+    }
+
+    // lines can start above the image, up to size-1 rows
+    protected int calculateNumRows(int width, int height) {
+        return height + calculateSize(width) - 1;
+    }
+
+    // length of the buffers, enough for the orientations of both axes. It has to fit in an array
+    protected int calculateBufferLength(int frameWidth, int frameHeight) {
+        long result = Math.max(calculateOrientationBufferLength(frameWidth, frameHeight),
+                calculateOrientationBufferLength(frameHeight, frameWidth));
+        if (result > MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException(String.format(
+                    "Image too big for DYADIC: a frame of %d x %d needs buffers of %d elements (max %d)",
+                    frameWidth, frameHeight, result, MAX_ARRAY_LENGTH));
+        }
+        return (int) result;
+    }
+
+    // same as calculateNumRows x calculateSize, without overflows
+    protected long calculateOrientationBufferLength(int width, int height) {
+        long size = calculateSize(width);
+        return (height + size - 1) * size;
+    }
+
+    protected void processOrientation(DyadicOrientation orientation, double[] buffer1, double[] buffer2) {
+        int width = orientation.isTransposed() ? frameHeight : frameWidth;
+        int height = orientation.isTransposed() ? frameWidth : frameHeight;
+        int size = calculateSize(width);
+        int numRows = calculateNumRows(width, height);
+        if (size < 2) {
+            return;
+        }
+
+        fillFirstLevel(orientation, width, height, size, numRows, buffer1);
+
+        double[] current = buffer1;
+        double[] next = buffer2;
+        for (int blockSize = 1; blockSize < size; blockSize <<= 1) {
+            if (calculator.hasToStop()) {
+                return;
+            }
+            int finalBlockSize = blockSize;
+            double[] finalCurrent = current;
+            double[] finalNext = next;
+            IntStream.range(0, numRows)
+                    .parallel()
+                    .forEach(row -> mergeBlocks(finalCurrent, finalNext, row, finalBlockSize, size, numRows));
+
+            current = finalNext;
+            next = finalCurrent;
+        }
+
+        double[] sums = current;
+        IntStream.range(0, numRows)
+                .parallel()
+                .forEach(row -> setLines(orientation, sums, row, width, height, size));
+    }
+
+    protected void fillFirstLevel(DyadicOrientation orientation, int width, int height,
+                                  int size, int numRows, double[] buffer) {
+        My2dContainer image = calculator.getMyNormalizedImage();
+        IntStream.range(0, numRows)
+                .parallel()
+                .forEach(row -> {
+                    int offset = row * size;
+                    int yy = row - (size - 1);
+                    for (int xx = 0; xx < size; xx++) {
+                        double value = 0.0d;
+                        if (yy >= 0 && yy < height && xx < width) {
+                            value = image.getDouble(orientation.toFrameX(xx, yy, frameWidth, frameHeight) + 1,
+                                    orientation.toFrameY(xx, yy, frameWidth, frameHeight) + 1);
+                        }
+                        buffer[offset + xx] = value;
+                    }
+                });
+    }
+
+    // merges the pairs of blocks of blockSize columns of the row, into blocks of 2 x blockSize columns
+    protected void mergeBlocks(double[] current, double[] next, int row, int blockSize, int size, int numRows) {
+        int offset = row * size;
+        int doubleBlockSize = blockSize << 1;
+        for (int blockStart = 0; blockStart < size; blockStart += doubleBlockSize) {
+            for (int rise = 0; rise < doubleBlockSize; rise++) {
+                int halfRise = rise >> 1;
+                int rightRow = row + rise - halfRise;
+
+                double value = current[offset + blockStart + halfRise];
+                if (rightRow < numRows) {
+                    value += current[rightRow * size + blockStart + blockSize + halfRise];
+                }
+                next[offset + blockStart + rise] = value;
+            }
+        }
+    }
+
+    // line of the row and rise goes from (0, yy) to (size-1, yy + rise)
+    protected void setLines(DyadicOrientation orientation, double[] sums, int row, int width, int height, int size) {
+        int yy = row - (size - 1);
+        int offset = row * size;
+        for (int rise = 0; rise < size; rise++) {
+            int count = calculateCount(yy, rise, width, height, size);
+            if (count > 1) {
+                Point2d start = toImagePoint(orientation, 0, yy);
+                Point2d end = toImagePoint(orientation, size - 1, yy + rise);
+                Point2d rhoTheta = calculator.calculateRhoTheta(start, end);
+
+                result.set(rhoTheta.x, rhoTheta.y, sums[offset + rise], count);
+            }
+        }
+    }
+
+    // number of columns of the line whose (rounded) row is inside the image
+    protected int calculateCount(int yy, int rise, int width, int height, int size) {
+        int xFrom = 0;
+        int xTo = width - 1;
+        if (rise == 0) {
+            if (yy < 0 || yy >= height) {
+                xTo = -1;
+            }
+        } else {
+            double slope = ((double) rise) / (size - 1);
+            xFrom = Math.max(xFrom, (int) Math.ceil((-0.5d - yy) / slope));
+            xTo = Math.min(xTo, (int) Math.ceil((height - 0.5d - yy) / slope) - 1);
+        }
+        return Math.max(0, xTo - xFrom + 1);
+    }
+
+    protected Point2d toImagePoint(DyadicOrientation orientation, double xx, double yy) {
+        return Point2d.create(orientation.toFrameX(xx, yy, frameWidth, frameHeight) + 1,
+                orientation.toFrameY(xx, yy, frameWidth, frameHeight) + 1);
+    }
+
+    // how the lines of the dyadic transform (rising from left to right, slope in [0, 1]) are laid on the image
+    protected enum DyadicOrientation {
+        // mostly horizontal, going down
+        HORIZONTAL_DESCENDING(false) {
+            @Override
+            public double toFrameX(double xx, double yy, int frameWidth, int frameHeight) {
+                return xx;
+            }
+
+            @Override
+            public double toFrameY(double xx, double yy, int frameWidth, int frameHeight) {
+                return yy;
+            }
+        },
+        // mostly horizontal, going up
+        HORIZONTAL_ASCENDING(false) {
+            @Override
+            public double toFrameX(double xx, double yy, int frameWidth, int frameHeight) {
+                return xx;
+            }
+
+            @Override
+            public double toFrameY(double xx, double yy, int frameWidth, int frameHeight) {
+                return frameHeight - 1 - yy;
+            }
+        },
+        // mostly vertical, going right
+        VERTICAL_RIGHTWARDS(true) {
+            @Override
+            public double toFrameX(double xx, double yy, int frameWidth, int frameHeight) {
+                return yy;
+            }
+
+            @Override
+            public double toFrameY(double xx, double yy, int frameWidth, int frameHeight) {
+                return xx;
+            }
+        },
+        // mostly vertical, going left
+        VERTICAL_LEFTWARDS(true) {
+            @Override
+            public double toFrameX(double xx, double yy, int frameWidth, int frameHeight) {
+                return frameWidth - 1 - yy;
+            }
+
+            @Override
+            public double toFrameY(double xx, double yy, int frameWidth, int frameHeight) {
+                return xx;
+            }
+        };
+
+        protected boolean transposed;
+
+        DyadicOrientation(boolean transposed) {
+            this.transposed = transposed;
+        }
+
+        public boolean isTransposed() {
+            return transposed;
+        }
+
+        public int toFrameX(int xx, int yy, int frameWidth, int frameHeight) {
+            return (int) toFrameX((double) xx, yy, frameWidth, frameHeight);
+        }
+
+        public int toFrameY(int xx, int yy, int frameWidth, int frameHeight) {
+            return (int) toFrameY((double) xx, yy, frameWidth, frameHeight);
+        }
+
+        public abstract double toFrameX(double xx, double yy, int frameWidth, int frameHeight);
+
+        public abstract double toFrameY(double xx, double yy, int frameWidth, int frameHeight);
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.engine;
+
+import com.frojasg1.image.Point2d;
+import com.frojasg1.image.browsers.BoundingEdge;
+import com.frojasg1.image.browsers.BoundingEdgePixelBrowser;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.pixel.RadonIntegrationContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Boundary pairs algorithm with work units of similar cost, in the fork join pool of the configuration.
+// The cost of a (start pixel, target edge) pair is the number of pixels of its lines, which goes from a few pixels
+// near the corners to whole crossings of the image in the middle of the edges.
+// Pairs are grouped in consecutive ranges of about a threshold of cost (total cost / (parallelism x UNITS_PER_WORKER)),
+// and every range is a task of the calculator (so progress is reported by ranges), which runs directly in the pool
+// (no thread of the executor waits for it). Pairs which are over the threshold on their own are split
+// in halves of their end pixels, and idle workers steal the pending halves
+public class RadonForkJoinBoundaryPairsEngine implements RadonTransformEngine {
+    protected static final int UNITS_PER_WORKER = 16;
+
+    protected RadonTransformCalculator calculator;
+    protected BoundingEdgePixelBrowser edgePixelBrowser;
+
+    protected List<BoundaryPair> pairs;
+    // cost of the pairs [0, index)
+    protected long[] cumulativeCosts;
+    protected long costThreshold;
+
+    @Override
+    public int dispatchTasks(RadonTransformCalculator calculator) {
+        ForkJoinPool pool = getForkJoinPool(calculator.getConfiguration());
+        init(calculator, pool.getParallelism());
+
+        int numTasks = 0;
+        boolean keepGoing = true;
+        for (int from = 0; keepGoing && from < pairs.size(); ) {
+            int to = findRangeEnd(from);
+            PairsAction action = new PairsAction(from, to);
+            numTasks++;
+            keepGoing = calculator.submitTask(action::invoke, pool::execute);
+            from = to;
+        }
+        return numTasks;
+    }
+
+    protected ForkJoinPool getForkJoinPool(RadonTransformConfiguration configuration) {
+        ForkJoinPool result = configuration.getForkJoinPool();
+        if (result == null) {
+            result = ForkJoinPool.commonPool();
+        }
+        return result;
+    }
+
+    protected void init(RadonTransformCalculator calculator, int parallelism) {
+        this.calculator = calculator;
+        this.edgePixelBrowser = createBoundingEdgePixelBrowser(calculator.getMyNormalizedImage().getWidth(),
+                calculator.getMyNormalizedImage().getHeight());
+
+        this.pairs = createPairs(calculator.getBoundingEdgePairs());
+        this.cumulativeCosts = new long[pairs.size() + 1];
+        for (int ii = 0; ii < pairs.size(); ii++) {
+            cumulativeCosts[ii + 1] = cumulativeCosts[ii] + pairs.get(ii).cost;
+        }
+        this.costThreshold = Math.max(1, cumulativeCosts[pairs.size()] / ((long) parallelism * UNITS_PER_WORKER));
+    }
+
+    // end of the range of pairs from the pair at from, which reaches the cost threshold (or the last pair)
+    protected int findRangeEnd(int from) {
+        int index = Arrays.binarySearch(cumulativeCosts, from + 1, pairs.size() + 1, cumulativeCosts[from] + costThreshold);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Math.min(pairs.size(), index);
+    }
+
+    protected List<BoundaryPair> createPairs(BoundingEdge[] edgePairs) {
+        List<BoundaryPair> result = new ArrayList<>();
+        for (int ii = 0; ii + 1 < edgePairs.length; ii += 2) {
+            BoundingEdge startEdge = edgePairs[ii];
+            BoundingEdge targetEdge = edgePairs[ii + 1];
+            int numStarts = edgePixelBrowser.getNumPoints(startEdge);
+            for (int startIndex = 0; startIndex < numStarts; startIndex++) {
+                Point2d start = edgePixelBrowser.getPoint(startEdge, startIndex);
+                if (isInWindow(start, targetEdge, 0, edgePixelBrowser.getNumPoints(targetEdge))) {
+                    result.add(new BoundaryPair(start, targetEdge, calculateCost(start, targetEdge)));
+                }
+            }
+        }
+        return result;
+    }
+
+    // pixels of all the lines from the start to the pixels of the target edge
+    protected long calculateCost(Point2d start, BoundingEdge targetEdge) {
+        long result = 0;
+        int numEnds = edgePixelBrowser.getNumPoints(targetEdge);
+        Point2d first = edgePixelBrowser.getFirstPoint(targetEdge);
+        int stepX = (targetEdge == BoundingEdge.NORTH || targetEdge == BoundingEdge.SOUTH) ? 1 : 0;
+        int stepY = 1 - stepX;
+        for (int index = 0; index < numEnds; index++) {
+            int dx = Math.abs(first.getIntX() + index * stepX - start.getIntX());
+            int dy = Math.abs(first.getIntY() + index * stepY - start.getIntY());
+            result += Math.max(dx, dy) + 1;
+        }
+        return result;
+    }
+
+    protected boolean isInWindow(Point2d start, BoundingEdge targetEdge, int endFrom, int endTo) {
+        return calculator.isDirectionsSweepInWindow(
+                edgePixelBrowser.getPoint(targetEdge, endFrom).subtract(start),
+                edgePixelBrowser.getPoint(targetEdge, endTo - 1).subtract(start));
+    }
+
+    protected void processEnds(BoundaryPair pair, int endFrom, int endTo) {
+        RadonIntegrationContext integrationContext = calculator.createIntegrationContext();
+        boolean keepGoing = !calculator.hasToStop();
+        for (int index = endFrom; keepGoing && index < endTo; index++) {
+            keepGoing = calculator.processBoundaryPair(integrationContext, pair.start,
+                    edgePixelBrowser.getPoint(pair.targetEdge, index));
+        }
+    }
+
+    protected BoundingEdgePixelBrowser createBoundingEdgePixelBrowser(int width, int height) {
+        return new BoundingEdgePixelBrowser(width, height);
+    }
+
+    protected static class BoundaryPair {
+        protected Point2d start;
+        protected BoundingEdge targetEdge;
+        protected long cost;
+
+        public BoundaryPair(Point2d start, BoundingEdge targetEdge, long cost) {
+            this.start = start;
+            this.targetEdge = targetEdge;
+            this.cost = cost;
+        }
+    }
+
+    // pairs [from, to)
+    protected class PairsAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        protected int from;
+        protected int to;
+
+        public PairsAction(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (calculator.hasToStop()) {
+                return;
+            }
+            long cost = cumulativeCosts[to] - cumulativeCosts[from];
+            if (to - from > 1 && cost > costThreshold) {
+                int middle = findMiddle(cumulativeCosts[from] + cost / 2);
+                invokeAll(new PairsAction(from, middle), new PairsAction(middle, to));
+            } else if (to - from == 1 && cost > costThreshold) {
+                BoundaryPair pair = pairs.get(from);
+                new EndsAction(pair, 0, edgePixelBrowser.getNumPoints(pair.targetEdge)).compute();
+            } else {
+                for (int index = from; index < to; index++) {
+                    BoundaryPair pair = pairs.get(index);
+                    processEnds(pair, 0, edgePixelBrowser.getNumPoints(pair.targetEdge));
+                }
+            }
+        }
+
+        // first pair whose cumulative cost reaches the half, so that both halves are not empty
+        protected int findMiddle(long halfCost) {
+            int index = Arrays.binarySearch(cumulativeCosts, from, to + 1, halfCost);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return Math.max(from + 1, Math.min(to - 1, index));
+        }
+    }
+
+    // end pixels [endFrom, endTo) of a pair
+    protected class EndsAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        protected BoundaryPair pair;
+        protected int endFrom;
+        protected int endTo;
+
+        public EndsAction(BoundaryPair pair, int endFrom, int endTo) {
+            this.pair = pair;
+            this.endFrom = endFrom;
+            this.endTo = endTo;
+        }
+
+        @Override
+        protected void compute() {
+            if (calculator.hasToStop()) {
+                return;
+            }
+            int numEnds = edgePixelBrowser.getNumPoints(pair.targetEdge);
+            long cost = pair.cost * (endTo - endFrom) / Math.max(1, numEnds);
+            if (endTo - endFrom > 1 && cost > costThreshold) {
+                int middle = (endFrom + endTo) >>> 1;
+                invokeAll(new EndsAction(pair, endFrom, middle), new EndsAction(pair, middle, endTo));
+            } else if (isInWindow(pair.start, pair.targetEdge, endFrom, endTo)) {
+                processEnds(pair, endFrom, endTo);
+            }
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.engine;
+
+import com.frojasg1.gen.math.FastFourierTransform;
+import com.frojasg1.image.Point2d;
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Projection-slice theorem: the 1D Fourier transform of the projection at angle theta is the slice of the
+// 2D Fourier transform of the image along the direction of theta.
+// The image (inner frame) is zero padded into a size x size grid (power of two), centered at the origin,
+// and transformed (rows, then columns). Then, for every theta row of the result, the spectrum is sampled
+// along the slice with bilinear interpolation, and a 1D inverse FFT yields the projection for all the rhos.
+// Cost is O(N^2 log N), and memory is 16 x size^2 bytes.
+//
+// The projection is the integral along the line, so it is multiplied by max(|cos|, |sin|) to match the
+// pixel count of the digital lines of the other algorithms. Accuracy is limited by the interpolation
+// of the spectrum (see README)
+//
+// One instance per calculation
+public class RadonFourierSliceEngine implements RadonTransformEngine {
+    // some virtual machines reserve a few header words in arrays
+    protected static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    protected RadonTransformCalculator calculator;
+    protected RadonTransformResult result;
+
+    protected int size;
+    protected FastFourierTransform fft;
+    protected double[] spectrumRe;
+    protected double[] spectrumIm;
+
+    // pixel of the image that is placed at the origin of the grid
+    protected int originX;
+    protected int originY;
+
+    @Override
+    public int dispatchTasks(RadonTransformCalculator calculator) {
+        // images too big for the grid fail before any task is submitted
+        calculateSize(calculator.getResult(), calculator.getConfiguration().getFourierOversampling());
+
+        // the parallelism is inside, in the fork join pool
+        calculator.submitTask(() -> process(calculator));
+        return 1;
+    }
+
+    protected void process(RadonTransformCalculator calculator) {
+        ForkJoinPool pool = getForkJoinPool(calculator.getConfiguration());
+        try {
+            pool.submit(() -> processInternal(calculator)).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted calculating the Fourier slice Radon transform", ie);
+        } catch (ExecutionException ee) {
+            throw new RuntimeException("Error calculating the Fourier slice Radon transform", ee.getCause());
+        }
+    }
+
+    protected ForkJoinPool getForkJoinPool(RadonTransformConfiguration configuration) {
+        ForkJoinPool result = configuration.getForkJoinPool();
+        if (result == null) {
+            result = ForkJoinPool.commonPool();
+        }
+        return result;
+    }
+
+    protected void processInternal(RadonTransformCalculator calculator) {
+        this.calculator = calculator;
+        this.result = calculator.getResult();
+        this.size = calculateSize(result, calculator.getConfiguration().getFourierOversampling());
+        this.fft = new FastFourierTransform(size).init();
+
+        calculateSpectrum();
+
+        IntStream.range(0, result.getNumElementsForTheta() - 1)
+                .filter(result::isThetaIndexInWindow)
+                .parallel()
+                .forEach(this::processThetaRow);
+
+        spectrumRe = null;
+        spectrumIm = null;
+    }
+
+    // enough for the whole range of rho without circular aliasing. The size x size grid has to fit in an array
+    protected int calculateSize(RadonTransformResult result, double oversampling) {
+        double minSize = Math.ceil(result.getNumElementsForRho() * Math.max(1.0d, oversampling));
+        long size = 1;
+        while (size < minSize) {
+            size <<= 1;
+        }
+        long gridLength = size * size;
+        if (gridLength > MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException(String.format(
+                    "Image too big for FOURIER_SLICE: %d rhos with oversampling %.2f need a grid of %d x %d = %d elements (max %d)",
+                    result.getNumElementsForRho(), oversampling, size, size, gridLength, MAX_ARRAY_LENGTH));
+        }
+        return (int) size;
+    }
+
+    protected int wrap(int index) {
+        return index & (size - 1);
+    }
+
+    protected void calculateSpectrum() {
+        My2dContainer image = calculator.getMyNormalizedImage();
+        Point2d center = calculator.getImageCenter();
+        originX = (int) Math.round(center.x);
+        originY = (int) Math.round(center.y);
+
+        // checked in calculateSize
+        int gridLength = size * size;
+        spectrumRe = new double[gridLength];
+        spectrumIm = new double[gridLength];
+
+        int xMax = image.getWidth() - 2;
+        int yMax = image.getHeight() - 2;
+        // the rest of the rows are zero, and so are their transforms
+        IntStream.rangeClosed(1, yMax)
+                .parallel()
+                .forEach(yy -> {
+                    int offset = wrap(yy - originY) * size;
+                    for (int xx = 1; xx <= xMax; xx++) {
+                        spectrumRe[offset + wrap(xx - originX)] = image.getDouble(xx, yy);
+                    }
+                    fft.transform(spectrumRe, spectrumIm, offset);
+                });
+
+        IntStream.range(0, size)
+                .parallel()
+                .forEach(this::transformColumn);
+    }
+
+    protected void transformColumn(int column) {
+        double[] re = new double[size];
+        double[] im = new double[size];
+        for (int ii = 0, index = column; ii < size; ii++, index += size) {
+            re[ii] = spectrumRe[index];
+            im[ii] = spectrumIm[index];
+        }
+        fft.transform(re, im);
+        for (int ii = 0, index = column; ii < size; ii++, index += size) {
+            spectrumRe[index] = re[ii];
+            spectrumIm[index] = im[ii];
+        }
+    }
+
+    protected void processThetaRow(int thetaIndex) {
+        if (calculator.hasToStop()) {
+            return;
+        }
+
+        double theta = result.getThetaBinCenter(thetaIndex);
+        double cosTheta = Math.cos(theta);
+        double sinTheta = Math.sin(theta);
+
+        double[] re = new double[size];
+        double[] im = new double[size];
+        calculateSlice(cosTheta, sinTheta, re, im);
+        fft.inverseTransform(re, im);
+
+        double scale = Math.max(Math.abs(cosTheta), Math.abs(sinTheta));
+        RadonBinLineClipper clipper = createClipper(calculator);
+        int[] segment = new int[4];
+        for (int rhoIndex = result.getWindowRhoIndexFrom(); rhoIndex <= result.getWindowRhoIndexTo(); rhoIndex++) {
+            double rho = result.getRhoBinCenter(rhoIndex);
+            if (clipper.clip(rho, cosTheta, sinTheta, segment)) {
+                // the image is not negative, so negative values are just ringing
+                double accumulation = Math.max(0.0d, re[wrap((int) Math.floor(rho))]) * scale;
+
+                result.setByIndex(rhoIndex, thetaIndex, accumulation, clipper.countPixels(segment));
+            }
+        }
+    }
+
+    // slice of the spectrum, shifted so that the projection at index n is the one of rho = n + 0.5 (center of the bin)
+    protected void calculateSlice(double cosTheta, double sinTheta, double[] re, double[] im) {
+        Point2d center = calculator.getImageCenter();
+        double shift = (center.x - originX) * cosTheta + (center.y - originY) * sinTheta + 0.5d;
+        int half = size / 2;
+        for (int ii = 0; ii < size; ii++) {
+            int frequency = (ii < half) ? ii : ii - size;
+            sampleSpectrum(frequency * cosTheta, frequency * sinTheta, re, im, ii);
+
+            double angle = 2.0d * Math.PI * frequency * shift / size;
+            double cos = Math.cos(angle);
+            double sin = Math.sin(angle);
+            double sampleRe = re[ii];
+            double sampleIm = im[ii];
+            re[ii] = sampleRe * cos - sampleIm * sin;
+            im[ii] = sampleRe * sin + sampleIm * cos;
+        }
+    }
+
+    // bilinear interpolation of the spectrum, which is periodic
+    protected void sampleSpectrum(double kx, double ky, double[] re, double[] im, int index) {
+        int x0 = (int) Math.floor(kx);
+        int y0 = (int) Math.floor(ky);
+        double fx = kx - x0;
+        double fy = ky - y0;
+
+        int column0 = wrap(x0);
+        int column1 = wrap(x0 + 1);
+        int row0 = wrap(y0) * size;
+        int row1 = wrap(y0 + 1) * size;
+
+        double w00 = (1.0d - fx) * (1.0d - fy);
+        double w10 = fx * (1.0d - fy);
+        double w01 = (1.0d - fx) * fy;
+        double w11 = fx * fy;
+
+        re[index] = w00 * spectrumRe[row0 + column0] + w10 * spectrumRe[row0 + column1]
+                + w01 * spectrumRe[row1 + column0] + w11 * spectrumRe[row1 + column1];
+        im[index] = w00 * spectrumIm[row0 + column0] + w10 * spectrumIm[row0 + column1]
+                + w01 * spectrumIm[row1 + column0] + w11 * spectrumIm[row1 + column1];
+    }
+
+    protected RadonBinLineClipper createClipper(RadonTransformCalculator calculator) {
+        return new RadonBinLineClipper(calculator);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.engine;
+
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.normalized.impl.My2dContainerDoubleArrayImpl;
+import com.frojasg1.image.normalized.view.My2dContainerReadOnlyAbstract;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.operator.RadonSparseOperator;
+import com.frojasg1.image.processing.radon.plan.RadonPlanKey;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.util.stream.IntStream;
+
+// Applies the precompiled sparse operator of the calculator: a sparse matrix x vector product over the
+// row major pixels of the image, with one task per block of rows (lines), and the max rule per bin
+public class RadonSparseOperatorEngine implements RadonTransformEngine {
+    protected static final int ROWS_PER_TASK = 4096;
+
+    @Override
+    public int dispatchTasks(RadonTransformCalculator calculator) {
+        RadonSparseOperator operator = calculator.getSparseOperator();
+        RadonTransformResult result = calculator.getResult();
+        RadonPlanKey key = RadonPlanKey.create(result);
+        if (!key.equals(operator.getKey())) {
+            throw new IllegalArgumentException(String.format("Sparse operator %s does not fit the image %s",
+                    operator.getKey(), key));
+        }
+
+        double[] pixels = getPixels(calculator.getMyNormalizedImage());
+
+        int numTasks = 0;
+        boolean keepGoing = true;
+        for (int fromRow = 0; keepGoing && fromRow < operator.getNumRows(); fromRow += ROWS_PER_TASK) {
+            int finalFromRow = fromRow;
+            int toRow = Math.min(operator.getNumRows(), fromRow + ROWS_PER_TASK);
+            numTasks++;
+            keepGoing = calculator.submitTask(() -> processRows(calculator, operator, pixels, finalFromRow, toRow));
+        }
+        return numTasks;
+    }
+
+    protected double[] getPixels(My2dContainer image) {
+        double[] result;
+        if (image instanceof My2dContainerDoubleArrayImpl) {
+            result = ((My2dContainerDoubleArrayImpl) image).getContainer();
+        } else {
+            int width = image.getWidth();
+            double[] pixels = new double[width * image.getHeight()];
+            IntStream.range(0, image.getHeight())
+                    .parallel()
+                    .forEach(yy -> readRow(image, yy, pixels, yy * width));
+            result = pixels;
+        }
+        return result;
+    }
+
+    protected void readRow(My2dContainer image, int yy, double[] target, int offset) {
+        if (image instanceof My2dContainerReadOnlyAbstract) {
+            ((My2dContainerReadOnlyAbstract) image).readRow(yy, target, offset);
+        } else {
+            for (int xx = 0; xx < image.getWidth(); xx++) {
+                target[offset + xx] = image.getDouble(xx, yy);
+            }
+        }
+    }
+
+    protected void processRows(RadonTransformCalculator calculator, RadonSparseOperator operator,
+                               double[] pixels, int fromRow, int toRow) {
+        RadonTransformResult result = calculator.getResult();
+        long start = operator.getRowStart(fromRow);
+        for (int row = fromRow; row < toRow && !calculator.hasToStop(); row++) {
+            long end = operator.getRowStart(row + 1);
+            double accumulation = 0.0d;
+            for (long index = start; index < end; index++) {
+                accumulation += pixels[operator.getColumn(index)];
+            }
+            result.setByBinIndex(operator.getBin(row), accumulation, (int) (end - start));
+            start = end;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.incremental;
+
+import com.frojasg1.image.Point2d;
+import com.frojasg1.image.browsers.LinePixelsBrowser;
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.normalized.impl.My2dContainerDoubleArrayImpl;
+import com.frojasg1.image.normalized.view.My2dContainerReadOnlyAbstract;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.config.RadonTransformAlgorithm;
+import com.frojasg1.image.processing.radon.engine.RadonBinLineClipper;
+import com.frojasg1.image.processing.radon.result.RadonBinsSelection;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+// Updates in place the result of a finished DENSE_BINS calculation, for a new image (next frame of a video)
+// in which only some pixels changed. Every bin is the sum of the pixels of its line, so only the bins whose
+// lines go through a changed pixel are updated, by adding the difference of the pixel.
+// init calculates the lines of all the bins once (the same segments DENSE_BINS integrates). Then, in every theta row,
+// the lines through a pixel can only be the ones of the few rho bins around the projection of the pixel,
+// and LinePixelsBrowser tells in constant time if the pixel is in the walk of one of them,
+// so the cost of an update is proportional to the number of changed pixels.
+// The normalized image of the calculator is updated as well (or a copy, if it is a read only view), so that updates can be chained
+public class RadonIncrementalUpdater {
+    // distance in rho from the pixels of the walk of a line to its bin center is less than 1
+    protected static final double MAX_RHO_DEVIATION = 1.5d;
+
+    protected RadonTransformCalculator calculator;
+
+    protected RadonTransformResult result;
+    protected My2dContainer image;
+    protected Point2d center;
+    protected int width;
+    protected int height;
+
+    // per theta row: x1, y1, x2, y2 of the line of every rho bin (x1 = 0 if the bin has no line), and its pixel count
+    protected int[][] segments;
+    protected int[][] counts;
+    protected double[] cosThetas;
+    protected double[] sinThetas;
+
+    public RadonIncrementalUpdater(RadonTransformCalculator calculator) {
+        this.calculator = calculator;
+    }
+
+    public RadonIncrementalUpdater init() {
+        if (calculator.getConfiguration().getAlgorithm() != RadonTransformAlgorithm.DENSE_BINS) {
+            throw new IllegalArgumentException("Only DENSE_BINS results can be updated: "
+                    + calculator.getConfiguration().getAlgorithm());
+        }
+        result = calculator.getResult();
+        if (result == null || !result.isFinished()) {
+            throw new IllegalStateException("The calculation has not finished");
+        }
+        image = toWritableImage(calculator.getMyNormalizedImage());
+        center = calculator.getImageCenter();
+        width = image.getWidth();
+        height = image.getHeight();
+
+        int numThetaRows = result.getNumElementsForTheta();
+        segments = new int[numThetaRows][];
+        counts = new int[numThetaRows][];
+        cosThetas = new double[numThetaRows];
+        sinThetas = new double[numThetaRows];
+        getThetaRowsToUpdate()
+                .parallel()
+                .forEach(this::initThetaRow);
+
+        return this;
+    }
+
+    // read only views (of a raster, or of a region) are copied once, as updates write the image
+    protected My2dContainer toWritableImage(My2dContainer image) {
+        My2dContainer result = image;
+        if (image instanceof My2dContainerReadOnlyAbstract) {
+            My2dContainerDoubleArrayImpl copy = new My2dContainerDoubleArrayImpl(image.getWidth(), image.getHeight()).init();
+            ((My2dContainerReadOnlyAbstract) image).readRows(copy.getContainer());
+            result = copy;
+        }
+        return result;
+    }
+
+    // last theta row is theta = PI, which is never set by DENSE_BINS
+    protected IntStream getThetaRowsToUpdate() {
+        RadonBinsSelection binsSelection = calculator.getBinsSelection();
+        return IntStream.range(0, result.getNumElementsForTheta() - 1)
+                .filter(result::isThetaIndexInWindow)
+                .filter(thetaIndex -> binsSelection == null || binsSelection.isThetaRowSelected(thetaIndex));
+    }
+
+    protected void initThetaRow(int thetaIndex) {
+        double theta = result.getThetaBinCenter(thetaIndex);
+        cosThetas[thetaIndex] = Math.cos(theta);
+        sinThetas[thetaIndex] = Math.sin(theta);
+
+        RadonBinsSelection binsSelection = calculator.getBinsSelection();
+        RadonBinLineClipper clipper = createClipper();
+        int numRhos = result.getNumElementsForRho();
+        int[] rowSegments = new int[4 * numRhos];
+        int[] rowCounts = new int[numRhos];
+        int[] segment = new int[4];
+        for (int rhoIndex = result.getWindowRhoIndexFrom(); rhoIndex <= result.getWindowRhoIndexTo(); rhoIndex++) {
+            if ((binsSelection == null || binsSelection.isSelected(rhoIndex, thetaIndex))
+                    && clipper.clip(result.getRhoBinCenter(rhoIndex), cosThetas[thetaIndex], sinThetas[thetaIndex], segment)) {
+                System.arraycopy(segment, 0, rowSegments, 4 * rhoIndex, 4);
+                rowCounts[rhoIndex] = clipper.countPixels(segment);
+            }
+        }
+        segments[thetaIndex] = rowSegments;
+        counts[thetaIndex] = rowCounts;
+    }
+
+    // index of the pixel in the bitmap of changed pixels
+    public int getPixelIndex(int xx, int yy) {
+        return yy * width + xx;
+    }
+
+    public BitSet calculateChangedPixels(My2dContainer newImage) {
+        checkImage(newImage);
+
+        BitSet result = new BitSet(width * height);
+        for (int yy = 0; yy < height; yy++) {
+            for (int xx = 0; xx < width; xx++) {
+                if (newImage.getDouble(xx, yy) != image.getDouble(xx, yy)) {
+                    result.set(getPixelIndex(xx, yy));
+                }
+            }
+        }
+        return result;
+    }
+
+    public void update(My2dContainer newImage) {
+        update(newImage, calculateChangedPixels(newImage));
+    }
+
+    public void update(My2dContainer newImage, BitSet changedPixels) {
+        update(newImage, changedPixels.stream().toArray());
+    }
+
+    // changedPixelIndices: yy * width + xx. Values of other pixels of newImage are not read
+    public void update(My2dContainer newImage, int[] changedPixelIndices) {
+        checkImage(newImage);
+        // nothing is updated if a pixel could overflow the sinogram
+        for (int pixelIndex: changedPixelIndices) {
+            result.checkPixelValue(newImage.getDouble(pixelIndex % width, pixelIndex / width));
+        }
+
+        ChangedPixels changedPixels = new ChangedPixels(changedPixelIndices.length);
+        for (int pixelIndex: changedPixelIndices) {
+            int xx = pixelIndex % width;
+            int yy = pixelIndex / width;
+            double newValue = newImage.getDouble(xx, yy);
+            double delta = newValue - image.getDouble(xx, yy);
+            image.setDouble(xx, yy, newValue);
+
+            // lines are only integrated in the inner frame
+            if (delta != 0.0d && xx >= 1 && xx <= width - 2 && yy >= 1 && yy <= height - 2) {
+                changedPixels.add(xx - center.x, yy - center.y, xx, yy, delta);
+            }
+        }
+
+        if (changedPixels.size > 0) {
+            getThetaRowsToUpdate()
+                    .parallel()
+                    .forEach(thetaIndex -> updateThetaRow(thetaIndex, changedPixels));
+
+            result.updated();
+        }
+    }
+
+    protected void checkImage(My2dContainer newImage) {
+        if (newImage == image) {
+            throw new IllegalArgumentException("The new image must not be the image of the calculation");
+        }
+        if (newImage.getWidth() != width || newImage.getHeight() != height) {
+            throw new IllegalArgumentException(String.format("Images of different sizes: %d x %d and %d x %d",
+                    width, height, newImage.getWidth(), newImage.getHeight()));
+        }
+    }
+
+    protected void updateThetaRow(int thetaIndex, ChangedPixels changedPixels) {
+        double cosTheta = cosThetas[thetaIndex];
+        double sinTheta = sinThetas[thetaIndex];
+        int[] rowSegments = segments[thetaIndex];
+        int[] rowCounts = counts[thetaIndex];
+
+        // rho index (not rounded) of the bin centers is rho - minRho - 0.5
+        double rhoIndexOffset = result.getMinRho() + 0.5d;
+        int rhoIndexFrom = result.getWindowRhoIndexFrom();
+        int rhoIndexTo = result.getWindowRhoIndexTo();
+        double[] deltas = new double[result.getNumElementsForRho()];
+        boolean[] touched = new boolean[deltas.length];
+        LinePixelsBrowser linePixelsBrowser = getLinePixelsBrowser();
+        for (int ii = 0; ii < changedPixels.size; ii++) {
+            int xx = changedPixels.xs[ii];
+            int yy = changedPixels.ys[ii];
+            double rhoIndex = changedPixels.relativeXs[ii] * cosTheta + changedPixels.relativeYs[ii] * sinTheta
+                    - rhoIndexOffset;
+            int from = Math.max(rhoIndexFrom, (int) Math.ceil(rhoIndex - MAX_RHO_DEVIATION));
+            int to = Math.min(rhoIndexTo, (int) Math.floor(rhoIndex + MAX_RHO_DEVIATION));
+            for (int candidate = from; candidate <= to; candidate++) {
+                int offset = 4 * candidate;
+                if (rowCounts[candidate] > 0
+                        && linePixelsBrowser.isPixelOfLine(rowSegments[offset], rowSegments[offset + 1],
+                                rowSegments[offset + 2], rowSegments[offset + 3], xx, yy)) {
+                    touched[candidate] = true;
+                    deltas[candidate] += changedPixels.deltas[ii];
+                }
+            }
+        }
+
+        for (int rhoIndex = rhoIndexFrom; rhoIndex <= rhoIndexTo; rhoIndex++) {
+            if (touched[rhoIndex]) {
+                result.addByIndex(rhoIndex, thetaIndex, deltas[rhoIndex], rowCounts[rhoIndex]);
+            }
+        }
+    }
+
+    protected RadonBinLineClipper createClipper() {
+        return new RadonBinLineClipper(calculator);
+    }
+
+    protected LinePixelsBrowser getLinePixelsBrowser() {
+        return LinePixelsBrowser.instance();
+    }
+
+    protected static class ChangedPixels {
+        protected double[] relativeXs;
+        protected double[] relativeYs;
+        protected int[] xs;
+        protected int[] ys;
+        protected double[] deltas;
+        protected int size;
+
+        public ChangedPixels(int capacity) {
+            relativeXs = new double[capacity];
+            relativeYs = new double[capacity];
+            xs = new int[capacity];
+            ys = new int[capacity];
+            deltas = new double[capacity];
+        }
+
+        public void add(double relativeX, double relativeY, int xx, int yy, double delta) {
+            relativeXs[size] = relativeX;
+            relativeYs[size] = relativeY;
+            xs[size] = xx;
+            ys[size] = yy;
+            deltas[size] = delta;
+            size++;
+        }
+    }
+}
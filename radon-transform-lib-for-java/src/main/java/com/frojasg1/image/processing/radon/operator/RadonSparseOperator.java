@@ -0,0 +1,187 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.operator;
+
+import com.frojasg1.image.processing.radon.plan.RadonPlanKey;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Precompiled boundary pairs transform of a frame size, as a sparse matrix in CSR format (read only, memory mapped).
+// Every row is a line: the bin it goes into (with the max rule), and the row major offsets of its pixels
+// (all the weights are 1.0, so there are no values).
+// File layout (little endian):
+//     header (HEADER_SIZE bytes): magic, version, width, height, numElementsForRho, numElementsForTheta, numRows,
+//         (unused int), numNonZeros (long)
+//     bins: int[numRows]
+//     row pointers (8 bytes aligned): long[numRows + 1]
+//     columns: int[numNonZeros]
+// Columns are mapped in chunks, as a single mapping can not be bigger than 2 GB.
+// Mapped buffers are only read with absolute gets, so it can be shared by any number of threads
+public class RadonSparseOperator implements Closeable {
+    public static final int MAGIC = 0x4F4E4452;
+    // 2: pixels of the lines as walked with the exact integer steps of LinePixelsBrowser
+    public static final int VERSION = 2;
+    public static final int HEADER_SIZE = 64;
+    // row pointers are a single mapping, which can not be bigger than 2 GB
+    public static final int MAX_NUM_ROWS = Integer.MAX_VALUE / 8 - 1;
+
+    public static final int DEFAULT_COLUMNS_CHUNK_SHIFT = 28;
+
+    protected Path path;
+    protected FileChannel channel;
+
+    protected RadonPlanKey key;
+    protected int numRows;
+    protected long numNonZeros;
+
+    protected IntBuffer bins;
+    protected LongBuffer rowPointers;
+    protected IntBuffer[] columnsChunks;
+    protected int columnsChunkShift = DEFAULT_COLUMNS_CHUNK_SHIFT;
+    protected long columnsChunkMask;
+
+    public RadonSparseOperator(Path path) {
+        this.path = path;
+    }
+
+    // chunks of columns have 2^columnsChunkShift elements (1 GB by default). It has to be set before init
+    public RadonSparseOperator setColumnsChunkShift(int columnsChunkShift) {
+        if (columnsChunkShift < 0 || columnsChunkShift > DEFAULT_COLUMNS_CHUNK_SHIFT) {
+            throw new IllegalArgumentException("Columns chunk shift out of [0, " + DEFAULT_COLUMNS_CHUNK_SHIFT
+                    + "]: " + columnsChunkShift);
+        }
+        this.columnsChunkShift = columnsChunkShift;
+        return this;
+    }
+
+    public RadonSparseOperator init() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            readHeader();
+
+            bins = map(getBinsOffset(), 4L * numRows).asIntBuffer();
+            rowPointers = map(getRowPointersOffset(numRows), 8L * (numRows + 1)).asLongBuffer();
+            columnsChunks = mapColumns();
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+
+        return this;
+    }
+
+    protected void readHeader() throws IOException {
+        ByteBuffer header = map(0, HEADER_SIZE);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IOException("Not a Radon sparse operator file: " + path);
+        }
+        key = new RadonPlanKey(header.getInt(8), header.getInt(12), header.getInt(16), header.getInt(20));
+        numRows = header.getInt(24);
+        numNonZeros = header.getLong(32);
+    }
+
+    protected IntBuffer[] mapColumns() throws IOException {
+        long columnsOffset = getColumnsOffset(numRows);
+        columnsChunkMask = (1L << columnsChunkShift) - 1;
+        long numChunks = (numNonZeros + columnsChunkMask) >>> columnsChunkShift;
+        if (numChunks >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many chunks of columns: " + numChunks);
+        }
+        IntBuffer[] result = new IntBuffer[(int) numChunks];
+        for (int ii = 0; ii < numChunks; ii++) {
+            long from = ((long) ii) << columnsChunkShift;
+            long size = Math.min(numNonZeros - from, 1L << columnsChunkShift);
+            result[ii] = map(columnsOffset + 4L * from, 4L * size).asIntBuffer();
+        }
+        return result;
+    }
+
+    protected ByteBuffer map(long offset, long size) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, size)
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public static long getBinsOffset() {
+        return HEADER_SIZE;
+    }
+
+    public static long getRowPointersOffset(int numRows) {
+        return (getBinsOffset() + 4L * numRows + 7L) & ~7L;
+    }
+
+    public static long getColumnsOffset(int numRows) {
+        return getRowPointersOffset(numRows) + 8L * (numRows + 1);
+    }
+
+    public RadonPlanKey getKey() {
+        return key;
+    }
+
+    public int getNumRows() {
+        return numRows;
+    }
+
+    public long getNumNonZeros() {
+        return numNonZeros;
+    }
+
+    public int getBin(int row) {
+        return bins.get(row);
+    }
+
+    // first element of the row. The row ends where the next one starts
+    public long getRowStart(int row) {
+        return rowPointers.get(row);
+    }
+
+    public int getColumn(long index) {
+        return columnsChunks[(int) (index >>> columnsChunkShift)].get((int) (index & columnsChunkMask));
+    }
+
+    public int getNumColumnsChunks() {
+        return columnsChunks.length;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    // mappings stay valid until they are garbage collected
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
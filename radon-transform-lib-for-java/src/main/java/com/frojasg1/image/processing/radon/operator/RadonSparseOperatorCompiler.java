@@ -0,0 +1,190 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.operator;
+
+import com.frojasg1.gen.fun.IntIntConsumer;
+import com.frojasg1.image.browsers.LinePixelsBrowser;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.plan.RadonPlan;
+import com.frojasg1.image.processing.radon.plan.RadonPlanKey;
+import com.frojasg1.image.processing.radon.plan.RadonPlanTask;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Writes the RadonSparseOperator file of the frame size of a calculator (which only needs its geometry).
+// Lines are written in the order of the plan, and pixels in the order they are walked,
+// so applying the operator gives the same sums as the boundary pairs algorithm
+public class RadonSparseOperatorCompiler {
+    protected static final int BUFFER_SIZE = 1 << 20;
+
+    protected int bufferSize = BUFFER_SIZE;
+
+    // bytes buffered by each of the writers of bins, row pointers and columns
+    public RadonSparseOperatorCompiler setBufferSize(int bufferSize) {
+        if (bufferSize < 8) {
+            throw new IllegalArgumentException("Buffer size smaller than a long: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    // bins, row pointers and columns are streamed to their sections of the file, so nothing grows with the plan
+    public void compile(RadonTransformCalculator calculator, Path path) throws IOException {
+        RadonPlan plan = calculator.createPlan();
+        int numRows = checkNumRows(plan.getNumLines());
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ChannelWriter binsWriter = new ChannelWriter(channel, RadonSparseOperator.getBinsOffset(), bufferSize);
+            ChannelWriter rowPointersWriter = new ChannelWriter(channel,
+                    RadonSparseOperator.getRowPointersOffset(numRows), bufferSize);
+            ColumnsWriter columnsWriter = new ColumnsWriter(channel, RadonSparseOperator.getColumnsOffset(numRows),
+                    bufferSize, plan.getKey().getWidth());
+            rowPointersWriter.putLong(0L);
+            for (RadonPlanTask task: plan.getTasks()) {
+                for (int ii = 0; ii < task.size(); ii++) {
+                    getLinePixelsBrowser().browseLinePixels(task.getStartX(), task.getStartY(),
+                            task.getEndX(ii), task.getEndY(ii), columnsWriter);
+                    binsWriter.putInt(task.getBin(ii));
+                    rowPointersWriter.putLong(columnsWriter.getCount());
+                }
+            }
+            binsWriter.flush();
+            rowPointersWriter.flush();
+            columnsWriter.flush();
+
+            write(channel, 0, createHeader(plan.getKey(), numRows, columnsWriter.getCount()));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    protected int checkNumRows(long numLines) {
+        if (numLines > RadonSparseOperator.MAX_NUM_ROWS) {
+            throw new IllegalArgumentException(String.format("Too many lines for a sparse operator: %d (max %d)",
+                    numLines, RadonSparseOperator.MAX_NUM_ROWS));
+        }
+        return (int) numLines;
+    }
+
+    protected ByteBuffer createHeader(RadonPlanKey key, int numRows, long numNonZeros) {
+        ByteBuffer result = createByteBuffer(RadonSparseOperator.HEADER_SIZE);
+        result.putInt(RadonSparseOperator.MAGIC)
+                .putInt(RadonSparseOperator.VERSION)
+                .putInt(key.getWidth())
+                .putInt(key.getHeight())
+                .putInt(key.getNumElementsForRho())
+                .putInt(key.getNumElementsForTheta())
+                .putInt(numRows)
+                .putInt(0)
+                .putLong(numNonZeros);
+        result.position(0);
+        return result;
+    }
+
+    protected static ByteBuffer createByteBuffer(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    protected static void write(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+        long pos = position;
+        while (buffer.hasRemaining()) {
+            pos += channel.write(buffer, pos);
+        }
+    }
+
+    protected LinePixelsBrowser getLinePixelsBrowser() {
+        return LinePixelsBrowser.instance();
+    }
+
+    // buffered writes from a position of the channel on. Not thread safe
+    protected static class ChannelWriter {
+        protected FileChannel channel;
+        protected long position;
+        protected ByteBuffer buffer;
+
+        public ChannelWriter(FileChannel channel, long position, int bufferSize) {
+            this.channel = channel;
+            this.position = position;
+            this.buffer = ByteBuffer.allocateDirect(bufferSize).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        public void putInt(int value) {
+            if (buffer.remaining() < 4) {
+                flush();
+            }
+            buffer.putInt(value);
+        }
+
+        public void putLong(long value) {
+            if (buffer.remaining() < 8) {
+                flush();
+            }
+            buffer.putLong(value);
+        }
+
+        public void flush() {
+            try {
+                buffer.flip();
+                long start = position;
+                position += buffer.remaining();
+                write(channel, start, buffer);
+                buffer.clear();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    // not thread safe
+    protected static class ColumnsWriter extends ChannelWriter implements IntIntConsumer {
+        protected int width;
+        protected long count;
+
+        public ColumnsWriter(FileChannel channel, long position, int bufferSize, int width) {
+            super(channel, position, bufferSize);
+            this.width = width;
+        }
+
+        @Override
+        public void accept(int xx, int yy) {
+            putInt(yy * width + xx);
+            count++;
+        }
+
+        public long getCount() {
+            return count;
+        }
+    }
+}
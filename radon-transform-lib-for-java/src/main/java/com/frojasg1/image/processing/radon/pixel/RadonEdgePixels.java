@@ -0,0 +1,104 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.pixel;
+
+import com.frojasg1.image.normalized.My2dContainer;
+import java.util.stream.IntStream;
+
+// Pixels of the inner frame of the image whose value is over a threshold, in primitive arrays.
+// Coordinates are relative to the center of the image
+public class RadonEdgePixels {
+    protected int size;
+    protected double[] xx;
+    protected double[] yy;
+    protected double[] values;
+
+    public RadonEdgePixels init(My2dContainer image, double centerX, double centerY, double threshold) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        // two passes: number of pixels per row, and then every row is filled from its offset
+        int[] rowOffsets = new int[height + 1];
+        IntStream.range(1, height - 1)
+                .parallel()
+                .forEach(row -> rowOffsets[row + 1] = countRow(image, row, threshold));
+        for (int row = 1; row <= height; row++) {
+            rowOffsets[row] += rowOffsets[row - 1];
+        }
+
+        size = rowOffsets[height];
+        xx = new double[size];
+        yy = new double[size];
+        values = new double[size];
+        IntStream.range(1, height - 1)
+                .parallel()
+                .forEach(row -> fillRow(image, row, rowOffsets[row], centerX, centerY, threshold));
+
+        return this;
+    }
+
+    protected int countRow(My2dContainer image, int row, double threshold) {
+        int result = 0;
+        for (int col = 1; col < image.getWidth() - 1; col++) {
+            if (image.getDouble(col, row) > threshold) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    protected void fillRow(My2dContainer image, int row, int offset, double centerX, double centerY, double threshold) {
+        int index = offset;
+        for (int col = 1; col < image.getWidth() - 1; col++) {
+            double value = image.getDouble(col, row);
+            if (value > threshold) {
+                xx[index] = col - centerX;
+                yy[index] = row - centerY;
+                values[index] = value;
+                index++;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double getX(int index) {
+        return xx[index];
+    }
+
+    public double getY(int index) {
+        return yy[index];
+    }
+
+    public double getValue(int index) {
+        return values[index];
+    }
+}
@@ -28,10 +28,13 @@
 package com.frojasg1.image.processing.radon.pixel;
 
 
+import com.frojasg1.gen.fun.IntIntConsumer;
+import com.frojasg1.image.browsers.LinePixelsBrowser;
 import com.frojasg1.image.normalized.My2dContainer;
 
 // not thread safe
-public class RadonIntegrationContext {
+// It is the pixel visitor itself, so that browsing a line does not need any adapter
+public class RadonIntegrationContext implements IntIntConsumer {
 
     protected int count;
     protected double hits;
@@ -48,8 +51,17 @@ public class RadonIntegrationContext {
         hits = 0.0d;
     }
 
+    public void integrateLine(LinePixelsBrowser linePixelsBrowser, int x1, int y1, int x2, int y2) {
+        linePixelsBrowser.browseLinePixels(x1, y1, x2, y2, this);
+    }
+
+    @Override
+    public void accept(int xx, int yy) {
+        processPixel(xx, yy);
+    }
+
     public void processPixel(int xx, int yy) {
-        hits += image.getValue(xx, yy);
+        hits += image.getDouble(xx, yy);
         count++;
     }
 
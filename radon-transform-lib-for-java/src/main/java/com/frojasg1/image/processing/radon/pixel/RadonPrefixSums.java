@@ -0,0 +1,107 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.pixel;
+
+
+import com.frojasg1.image.normalized.My2dContainer;
+
+// Per row and per column prefix sums of an image, for summing a run of pixels in constant time.
+// Row yy:    rowPrefixSums[yy * (width + 1) + xx]     = sum of pixels (0..xx-1, yy)
+// Column xx: columnPrefixSums[xx * (height + 1) + yy] = sum of pixels (xx, 0..yy-1)
+// Immutable once init, so it can be shared by all the workers
+public class RadonPrefixSums {
+    protected int width;
+    protected int height;
+
+    protected double[] rowPrefixSums;
+    protected double[] columnPrefixSums;
+
+    public RadonPrefixSums(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    public RadonPrefixSums init(My2dContainer image) {
+        rowPrefixSums = new double[(width + 1) * height];
+        columnPrefixSums = new double[(height + 1) * width];
+
+        calculate(image);
+
+        return this;
+    }
+
+    // recalculates the sums for another image of the same size, without allocating
+    public RadonPrefixSums update(My2dContainer image) {
+        calculate(image);
+
+        return this;
+    }
+
+    protected void calculate(My2dContainer image) {
+        int rowStride = width + 1;
+        int columnStride = height + 1;
+        for (int yy = 0; yy < height; yy++) {
+            int rowStart = yy * rowStride;
+            double rowAccumulation = 0.0d;
+            for (int xx = 0; xx < width; xx++) {
+                double value = image.getDouble(xx, yy);
+
+                rowAccumulation += value;
+                rowPrefixSums[rowStart + xx + 1] = rowAccumulation;
+
+                int columnIndex = xx * columnStride + yy;
+                columnPrefixSums[columnIndex + 1] = columnPrefixSums[columnIndex] + value;
+            }
+        }
+    }
+
+    // limits inclusive, in any order
+    public double getRowSum(int yy, int xFrom, int xTo) {
+        int rowStart = yy * (width + 1);
+        return (xFrom <= xTo) ?
+                rowPrefixSums[rowStart + xTo + 1] - rowPrefixSums[rowStart + xFrom] :
+                rowPrefixSums[rowStart + xFrom + 1] - rowPrefixSums[rowStart + xTo];
+    }
+
+    // limits inclusive, in any order
+    public double getColumnSum(int xx, int yFrom, int yTo) {
+        int columnStart = xx * (height + 1);
+        return (yFrom <= yTo) ?
+                columnPrefixSums[columnStart + yTo + 1] - columnPrefixSums[columnStart + yFrom] :
+                columnPrefixSums[columnStart + yFrom + 1] - columnPrefixSums[columnStart + yTo];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.pixel;
+
+
+import com.frojasg1.image.browsers.LinePixelsBrowser;
+import com.frojasg1.image.browsers.LineRunsVisitor;
+import com.frojasg1.image.normalized.My2dContainer;
+
+// not thread safe
+// Integrates the line run by run, so the cost of a line is proportional to its short axis.
+// Results match the pixel walking, except for the rounding of the floating point sums
+public class RadonRunLengthIntegrationContext extends RadonIntegrationContext implements LineRunsVisitor {
+
+    protected RadonPrefixSums prefixSums;
+
+    public RadonRunLengthIntegrationContext(My2dContainer image, RadonPrefixSums prefixSums) {
+        super(image);
+
+        this.prefixSums = prefixSums;
+    }
+
+    @Override
+    public void integrateLine(LinePixelsBrowser linePixelsBrowser, int x1, int y1, int x2, int y2) {
+        linePixelsBrowser.browseLineRuns(x1, y1, x2, y2, this);
+    }
+
+    @Override
+    public void visitHorizontalRun(int yy, int xFrom, int xTo) {
+        hits += prefixSums.getRowSum(yy, xFrom, xTo);
+        count += runLength(xFrom, xTo);
+    }
+
+    @Override
+    public void visitVerticalRun(int xx, int yFrom, int yTo) {
+        hits += prefixSums.getColumnSum(xx, yFrom, yTo);
+        count += runLength(yFrom, yTo);
+    }
+
+    protected int runLength(int from, int to) {
+        return (from <= to) ? (to - from + 1) : (from - to + 1);
+    }
+
+    public RadonPrefixSums getPrefixSums() {
+        return prefixSums;
+    }
+}
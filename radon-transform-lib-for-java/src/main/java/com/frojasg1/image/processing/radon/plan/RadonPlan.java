@@ -0,0 +1,64 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.plan;
+
+import java.util.List;
+
+// The geometry of the boundary pairs algorithm, which only depends on the size of the image:
+// the pairs of boundary pixels, and the bin of the line of every pair.
+// It is immutable, so it can be replayed by any number of calculations at the same time
+public class RadonPlan {
+    protected RadonPlanKey key;
+    protected List<RadonPlanTask> tasks;
+
+    public RadonPlan(RadonPlanKey key, List<RadonPlanTask> tasks) {
+        this.key = key;
+        this.tasks = tasks;
+    }
+
+    public RadonPlanKey getKey() {
+        return key;
+    }
+
+    public List<RadonPlanTask> getTasks() {
+        return tasks;
+    }
+
+    public long getNumLines() {
+        return tasks.stream()
+                .mapToLong(RadonPlanTask::size)
+                .sum();
+    }
+
+    public long getSizeInBytes() {
+        return tasks.stream()
+                .mapToLong(RadonPlanTask::getSizeInBytes)
+                .sum();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.plan;
+
+import com.frojasg1.gen.tuples.Pair;
+import com.frojasg1.image.Point2d;
+import com.frojasg1.image.browsers.BoundingEdge;
+import com.frojasg1.image.browsers.BoundingEdgePixelBrowser;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Browses the boundary pairs the same way the calculator does, but only once per plan.
+// Tasks are built in parallel, and they keep the order of the browsing
+public class RadonPlanBuilder {
+
+    public RadonPlan build(RadonTransformCalculator calculator, BoundingEdge... pairs) {
+        RadonTransformResult result = calculator.getResult();
+        BoundingEdgePixelBrowser edgePixelBrowser = createBoundingEdgePixelBrowser(result);
+
+        List<Pair<Point2d, BoundingEdge>> starts = new ArrayList<>();
+        for (int ii = 0; ii < pairs.length; ii += 2) {
+            BoundingEdge second = pairs[ii + 1];
+            edgePixelBrowser.browse(pairs[ii], pt -> starts.add(new Pair<>(pt, second)));
+        }
+
+        List<RadonPlanTask> tasks = starts.parallelStream()
+                .map(start -> createTask(calculator, edgePixelBrowser, start.getKey(), start.getValue()))
+                .collect(Collectors.toList());
+
+        return new RadonPlan(RadonPlanKey.create(result), tasks);
+    }
+
+    protected BoundingEdgePixelBrowser createBoundingEdgePixelBrowser(RadonTransformResult result) {
+        return new BoundingEdgePixelBrowser(result.getImageWidth(), result.getImageHeight());
+    }
+
+    protected RadonPlanTask createTask(RadonTransformCalculator calculator,
+                                       BoundingEdgePixelBrowser edgePixelBrowser,
+                                       Point2d startPoint, BoundingEdge boundingEdge) {
+        RadonTransformResult result = calculator.getResult();
+        int maxSize = Math.max(result.getImageWidth(), result.getImageHeight());
+        int[] endXs = new int[maxSize];
+        int[] endYs = new int[maxSize];
+        int[] bins = new int[maxSize];
+        int[] size = new int[1];
+
+        edgePixelBrowser.browse(boundingEdge, endPoint -> {
+            if (!startPoint.equals(endPoint)) {
+                Point2d rhoTheta = calculator.calculateRhoTheta(startPoint, endPoint);
+                int bin = result.calculateBinIndex(rhoTheta.x, rhoTheta.y);
+                if (bin >= 0) {
+                    endXs[size[0]] = endPoint.getIntX();
+                    endYs[size[0]] = endPoint.getIntY();
+                    bins[size[0]] = bin;
+                    size[0]++;
+                }
+            }
+            return true;
+        });
+
+        return new RadonPlanTask(startPoint.getIntX(), startPoint.getIntY(),
+                Arrays.copyOf(endXs, size[0]), Arrays.copyOf(endYs, size[0]), Arrays.copyOf(bins, size[0]));
+    }
+}
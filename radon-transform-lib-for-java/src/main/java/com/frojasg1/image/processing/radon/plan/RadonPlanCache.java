@@ -0,0 +1,73 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.plan;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// thread safe, size bounded, least recently used cache of plans
+public class RadonPlanCache {
+    protected int maxSize;
+    protected Map<RadonPlanKey, RadonPlan> plans;
+
+    public RadonPlanCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public RadonPlanCache init() {
+        plans = new LinkedHashMap<RadonPlanKey, RadonPlan>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<RadonPlanKey, RadonPlan> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        return this;
+    }
+
+    public synchronized RadonPlan get(RadonPlanKey key) {
+        return plans.get(key);
+    }
+
+    public synchronized void put(RadonPlanKey key, RadonPlan plan) {
+        plans.put(key, plan);
+    }
+
+    public synchronized int size() {
+        return plans.size();
+    }
+
+    public synchronized void clear() {
+        plans.clear();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.plan;
+
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.util.Objects;
+
+// everything a geometry plan depends on: the size of the image, and the resolution of the (rho, theta) grid
+public class RadonPlanKey {
+    protected int width;
+    protected int height;
+    protected int numElementsForRho;
+    protected int numElementsForTheta;
+
+    public RadonPlanKey(int width, int height, int numElementsForRho, int numElementsForTheta) {
+        this.width = width;
+        this.height = height;
+        this.numElementsForRho = numElementsForRho;
+        this.numElementsForTheta = numElementsForTheta;
+    }
+
+    public static RadonPlanKey create(RadonTransformResult result) {
+        return new RadonPlanKey(result.getImageWidth(), result.getImageHeight(),
+                result.getNumElementsForRho(), result.getNumElementsForTheta());
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getNumElementsForRho() {
+        return numElementsForRho;
+    }
+
+    public int getNumElementsForTheta() {
+        return numElementsForTheta;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(width, height, numElementsForRho, numElementsForTheta);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        RadonPlanKey other = (RadonPlanKey) obj;
+        return width == other.width && height == other.height
+                && numElementsForRho == other.numElementsForRho
+                && numElementsForTheta == other.numElementsForTheta;
+    }
+
+    @Override
+    public String toString() {
+        return "RadonPlanKey{" +
+                "width=" + width +
+                ", height=" + height +
+                ", numElementsForRho=" + numElementsForRho +
+                ", numElementsForTheta=" + numElementsForTheta +
+                '}';
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.plan;
+
+// lines from one start pixel to the pixels of a target edge, with the (row major) bin each of them falls into
+public class RadonPlanTask {
+    protected int startX;
+    protected int startY;
+
+    protected int[] endXs;
+    protected int[] endYs;
+    protected int[] bins;
+
+    public RadonPlanTask(int startX, int startY, int[] endXs, int[] endYs, int[] bins) {
+        this.startX = startX;
+        this.startY = startY;
+        this.endXs = endXs;
+        this.endYs = endYs;
+        this.bins = bins;
+    }
+
+    public int getStartX() {
+        return startX;
+    }
+
+    public int getStartY() {
+        return startY;
+    }
+
+    public int size() {
+        return bins.length;
+    }
+
+    public int getEndX(int index) {
+        return endXs[index];
+    }
+
+    public int getEndY(int index) {
+        return endYs[index];
+    }
+
+    public int getBin(int index) {
+        return bins[index];
+    }
+
+    public long getSizeInBytes() {
+        return 3L * Integer.BYTES * bins.length;
+    }
+}
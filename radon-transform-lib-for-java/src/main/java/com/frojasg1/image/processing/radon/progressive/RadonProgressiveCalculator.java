@@ -0,0 +1,169 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.progressive;
+
+import com.frojasg1.gen.concurrent.BasicFuture;
+import com.frojasg1.gen.tuples.Pair;
+import com.frojasg1.image.Point2d;
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.normalized.impl.My2dContainerDoubleArrayImpl;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.config.RadonAccumulationMode;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Calculator which publishes snapshots of the partial result (completed tasks, top lines, and optionally
+// the sinogram) to a subscriber while it waits for its tasks, and a last one when they finish.
+// The partial values are lower bounds of the final ones (every bin keeps the max of its lines).
+// With an early stop fraction, the calculation stops when the top lines do not change while that fraction
+// of the work pending at their last change is done, and it completes successfully with the result so far.
+// Snapshots need an asynchronous executor, as they are published after every task has been submitted
+public class RadonProgressiveCalculator extends RadonTransformCalculator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RadonProgressiveCalculator.class);
+
+    protected Consumer<RadonTransformSnapshot> subscriber;
+
+    protected volatile boolean earlyStopped;
+    protected int numCompletedTasksAtStop;
+    protected List<Point2d> lastTopLinesKeys;
+    protected double lastTopLinesChangeFraction;
+
+    public RadonProgressiveCalculator(BasicFuture<RadonTransformCalculator> future, Consumer<Runnable> executor,
+                                      RadonTransformConfiguration configuration,
+                                      Consumer<RadonTransformSnapshot> subscriber) {
+        // private shards can not be read while workers write into them
+        super(future, executor, configuration.createCopy()
+                .setAccumulationMode(RadonAccumulationMode.SHARED));
+        this.subscriber = subscriber;
+    }
+
+    @Override
+    protected void resetForStarting() {
+        super.resetForStarting();
+
+        this.earlyStopped = false;
+        this.lastTopLinesKeys = null;
+        this.lastTopLinesChangeFraction = 0.0d;
+    }
+
+    @Override
+    protected boolean waitForTasks(int numTasks, int timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        long interval = Math.max(1, getConfiguration().getSnapshotIntervalMs());
+        long nextSnapshotTime = System.currentTimeMillis() + interval;
+
+        int numCompletedTasks = 0;
+        boolean timeout = false;
+        while (numCompletedTasks < numTasks && !timeout) {
+            long now = System.currentTimeMillis();
+            if (now >= nextSnapshotTime) {
+                publishSnapshot(numCompletedTasks, numTasks, false);
+                nextSnapshotTime = now + interval;
+            }
+            long waitMs = Math.max(0, Math.min(nextSnapshotTime, deadline) - now);
+            if (semaphore.tryAcquire(waitMs, TimeUnit.MILLISECONDS)) {
+                numCompletedTasks += 1 + semaphore.drainPermits();
+            } else {
+                timeout = System.currentTimeMillis() >= deadline;
+            }
+        }
+        publishSnapshot(numCompletedTasks, numTasks, true);
+
+        return !timeout;
+    }
+
+    protected void publishSnapshot(int numCompletedTasks, int numTasks, boolean last) {
+        // tasks finishing after the stop have not done their work
+        int numDoneTasks = earlyStopped ? numCompletedTasksAtStop : numCompletedTasks;
+        RadonTransformSnapshot snapshot = createSnapshot(numDoneTasks, numTasks, last);
+        if (!earlyStopped) {
+            checkEarlyStop(snapshot);
+        }
+
+        try {
+            subscriber.accept(snapshot);
+        } catch (Exception ex) {
+            LOGGER.error("Error publishing Radon transform snapshot", ex);
+        }
+    }
+
+    protected RadonTransformSnapshot createSnapshot(int numDoneTasks, int numTasks, boolean last) {
+        RadonTransformResult myResult = getResult();
+        List<Pair<Point2d, Double>> topLines = myResult.getTopLines(getConfiguration().getSnapshotTopK());
+        My2dContainer sinogram = null;
+        if (getConfiguration().isSnapshotWithSinogram()) {
+            sinogram = copy(myResult.getRadonTransform());
+        }
+        return new RadonTransformSnapshot(numDoneTasks, numTasks, System.currentTimeMillis() - startTime,
+                topLines, sinogram, last);
+    }
+
+    protected void checkEarlyStop(RadonTransformSnapshot snapshot) {
+        List<Point2d> topLinesKeys = snapshot.getTopLines().stream()
+                .map(Pair::getKey)
+                .collect(Collectors.toList());
+        double fraction = snapshot.getCompletedFraction();
+        if (!topLinesKeys.equals(lastTopLinesKeys)) {
+            lastTopLinesKeys = topLinesKeys;
+            lastTopLinesChangeFraction = fraction;
+        } else if (hasToStopEarly(fraction) && !snapshot.isLast()) {
+            LOGGER.info("Top lines stable from {} to {} of the work: early stop", lastTopLinesChangeFraction, fraction);
+            numCompletedTasksAtStop = snapshot.getNumCompletedTasks();
+            earlyStopped = true;
+        }
+    }
+
+    protected boolean hasToStopEarly(double fraction) {
+        double stableFraction = getConfiguration().getEarlyStopStableFraction();
+        return stableFraction > 0.0d && !lastTopLinesKeys.isEmpty()
+                && fraction - lastTopLinesChangeFraction >= stableFraction * (1.0d - lastTopLinesChangeFraction);
+    }
+
+    protected My2dContainer copy(My2dContainer container) {
+        My2dContainer result = new My2dContainerDoubleArrayImpl(container.getWidth(), container.getHeight())
+                .init();
+        container.browseDoubleValue(result::setDouble);
+        return result;
+    }
+
+    @Override
+    protected boolean hasToStopImmediately() {
+        return super.hasToStopImmediately() || earlyStopped;
+    }
+
+    public boolean wasEarlyStopped() {
+        return earlyStopped;
+    }
+}
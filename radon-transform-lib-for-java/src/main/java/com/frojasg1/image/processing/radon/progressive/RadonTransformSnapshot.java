@@ -0,0 +1,104 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.progressive;
+
+import com.frojasg1.gen.tuples.Pair;
+import com.frojasg1.image.Point2d;
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.normalized.view.My2dContainerSubViewImpl;
+import java.util.Collections;
+import java.util.List;
+
+// immutable view of a calculation in progress
+public class RadonTransformSnapshot {
+    protected int numCompletedTasks;
+    protected int numTasks;
+    protected long elapsedMs;
+    protected List<Pair<Point2d, Double>> topLines;
+    protected My2dContainer sinogram;
+    protected boolean last;
+
+    // sinogram: a copy of the partial raw transform (not shared with anyone else), or null.
+    // It is published through a read only view
+    public RadonTransformSnapshot(int numCompletedTasks, int numTasks, long elapsedMs,
+                                  List<Pair<Point2d, Double>> topLines, My2dContainer sinogram, boolean last) {
+        this.numCompletedTasks = numCompletedTasks;
+        this.numTasks = numTasks;
+        this.elapsedMs = elapsedMs;
+        this.topLines = Collections.unmodifiableList(topLines);
+        this.sinogram = (sinogram == null) ? null : createReadOnlyView(sinogram);
+        this.last = last;
+    }
+
+    protected My2dContainer createReadOnlyView(My2dContainer container) {
+        return new My2dContainerSubViewImpl(container, 0, 0, container.getWidth(), container.getHeight());
+    }
+
+    public int getNumCompletedTasks() {
+        return numCompletedTasks;
+    }
+
+    public int getNumTasks() {
+        return numTasks;
+    }
+
+    public double getCompletedFraction() {
+        return numTasks <= 0 ? 1.0d : (double) numCompletedTasks / numTasks;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    // (rho, theta) -> value, best first
+    public List<Pair<Point2d, Double>> getTopLines() {
+        return topLines;
+    }
+
+    // read only: setters throw UnsupportedOperationException
+    public My2dContainer getSinogram() {
+        return sinogram;
+    }
+
+    // the last snapshot of the calculation (all the tasks have finished, or it was stopped)
+    public boolean isLast() {
+        return last;
+    }
+
+    @Override
+    public String toString() {
+        return "RadonTransformSnapshot{" +
+                "numCompletedTasks=" + numCompletedTasks +
+                ", numTasks=" + numTasks +
+                ", elapsedMs=" + elapsedMs +
+                ", topLines=" + topLines +
+                ", last=" + last +
+                '}';
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.pyramid;
+
+import com.frojasg1.gen.concurrent.BasicFuture;
+import com.frojasg1.gen.tuples.Pair;
+import com.frojasg1.image.Point2d;
+import com.frojasg1.image.gen.MyNormalizedImageFunctions;
+import com.frojasg1.image.helpers.BufferedImageToMyNormalizedImageConverter;
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.config.RadonDownsamplingMode;
+import com.frojasg1.image.processing.radon.config.RadonTransformAlgorithm;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.result.RadonBinsSelection;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Coarse to fine Radon transform:
+//   1. the normalized image is downsampled (box filter or max pooling)
+//   2. the coarse transform is calculated, and its top lines are the candidates
+//   3. the bins of full resolution in a window around every candidate are calculated (DENSE_BINS)
+public class RadonPyramidCalculator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RadonPyramidCalculator.class);
+
+    protected static final int COARSE_IMAGE_BORDER = 1;
+
+    protected BasicFuture<RadonPyramidResult> future;
+    protected Consumer<Runnable> executor;
+    protected RadonTransformConfiguration configuration;
+
+    protected volatile RadonTransformCalculator currentCalculator;
+
+    public RadonPyramidCalculator(BasicFuture<RadonPyramidResult> future, Consumer<Runnable> executor,
+                                  RadonTransformConfiguration configuration) {
+        this.future = future;
+        this.executor = executor;
+        this.configuration = configuration;
+    }
+
+    public synchronized void process(BufferedImage image, int timeoutMs) {
+        try {
+            long startTime = System.currentTimeMillis();
+            int factor = configuration.getPyramidDownsamplingFactor();
+
+            My2dContainer normalizedImage = convert(image);
+            My2dContainer coarseImage = downsample(normalizedImage, factor);
+
+            RadonTransformCalculator coarseCalculator = createCalculator(createCoarseConfiguration());
+            runCalculator(coarseCalculator, coarseImage, timeoutMs);
+            long coarseEndTime = System.currentTimeMillis();
+
+            RadonTransformResult fullGeometry = new RadonTransformResult(normalizedImage.getWidth(),
+                    normalizedImage.getHeight(), configuration)
+                    .initGeometry();
+            List<Point2d> candidates = calculateCandidates(coarseCalculator, normalizedImage, factor);
+            RadonBinsSelection binsSelection = createBinsSelection(fullGeometry, candidates,
+                    calculateThetaRadius(coarseCalculator), calculateRhoRadius(factor));
+
+            RadonTransformCalculator fineCalculator = createCalculator(createFineConfiguration())
+                    .setBinsSelection(binsSelection);
+            int remainingTimeoutMs = (int) Math.max(1, timeoutMs - (coarseEndTime - startTime));
+            runCalculator(fineCalculator, normalizedImage, remainingTimeoutMs);
+
+            currentCalculator = null;
+            future.completed(createResult(coarseCalculator, fineCalculator, candidates, binsSelection, factor,
+                    coarseEndTime - startTime, System.currentTimeMillis() - coarseEndTime));
+        } catch (Exception ex) {
+            LOGGER.error("Error calculating pyramid radon transform", ex);
+            future.failed(ex);
+        }
+    }
+
+    protected void runCalculator(RadonTransformCalculator calculator, My2dContainer normalizedImage, int timeoutMs) {
+        currentCalculator = calculator;
+        if (!isCancelled()) {
+            calculator.process(normalizedImage, timeoutMs);
+        }
+        if (isCancelled()) {
+            throw new IllegalStateException("Cancelled by user");
+        }
+    }
+
+    protected RadonPyramidResult createResult(RadonTransformCalculator coarseCalculator,
+                                              RadonTransformCalculator fineCalculator,
+                                              List<Point2d> candidates,
+                                              RadonBinsSelection binsSelection,
+                                              int factor, long coarseTimeMs, long refinementTimeMs) {
+        return new RadonPyramidResult(coarseCalculator, fineCalculator, candidates, binsSelection, factor,
+                coarseTimeMs, refinementTimeMs);
+    }
+
+    // candidates are the centers of the bins of the coarse top lines, in full resolution (rho, theta)
+    protected List<Point2d> calculateCandidates(RadonTransformCalculator coarseCalculator,
+                                                My2dContainer normalizedImage, int factor) {
+        RadonTransformResult coarseResult = coarseCalculator.getResult();
+        double radius = configuration.getPyramidWindowRadius();
+        Point2d sameLineDelta = Point2d.create(radius, radius * coarseResult.getThetaStep());
+        List<Pair<Point2d, Double>> topLines = coarseResult.getTopLines(configuration.getPyramidNumCandidates(),
+                rhoTheta -> true, sameLineDelta);
+
+        // coarse pixel i covers the full pixels [(i - border) * factor, (i - border + 1) * factor - 1],
+        // and the remainder is cropped
+        My2dContainer coarseImage = coarseCalculator.getMyNormalizedImage();
+        int coarseWidth = coarseImage.getWidth() - 2 * COARSE_IMAGE_BORDER;
+        int coarseHeight = coarseImage.getHeight() - 2 * COARSE_IMAGE_BORDER;
+        double deltaX = (normalizedImage.getWidth() - factor * coarseWidth) * 0.5d;
+        double deltaY = (normalizedImage.getHeight() - factor * coarseHeight) * 0.5d;
+
+        return topLines.stream()
+                .map(Pair::getKey)
+                .map(rhoTheta -> {
+                    double theta = rhoTheta.y + coarseResult.getThetaStep() * 0.5d;
+                    double rho = factor * (rhoTheta.x + 0.5d) - deltaX * Math.cos(theta) - deltaY * Math.sin(theta);
+                    return Point2d.create(rho, theta);
+                })
+                .collect(Collectors.toList());
+    }
+
+    protected double calculateThetaRadius(RadonTransformCalculator coarseCalculator) {
+        return configuration.getPyramidWindowRadius() * coarseCalculator.getResult().getThetaStep();
+    }
+
+    protected double calculateRhoRadius(int factor) {
+        return configuration.getPyramidWindowRadius() * factor;
+    }
+
+    protected RadonBinsSelection createBinsSelection(RadonTransformResult fullGeometry, List<Point2d> candidates,
+                                                     double thetaRadius, double rhoRadius) {
+        RadonBinsSelection result = new RadonBinsSelection(fullGeometry.getNumElementsForRho(),
+                fullGeometry.getNumElementsForTheta())
+                .init();
+        for (Point2d candidate: candidates) {
+            addWindow(result, fullGeometry, candidate.x, candidate.y, rhoRadius, thetaRadius);
+        }
+        return result;
+    }
+
+    // theta rows out of [0, PI) are wrapped, and then the line is the one of the opposite rho
+    protected void addWindow(RadonBinsSelection selection, RadonTransformResult fullGeometry,
+                             double rho, double theta, double rhoRadius, double thetaRadius) {
+        double thetaStep = fullGeometry.getThetaStep();
+        int period = fullGeometry.getNumElementsForTheta() - 1;
+        int thetaIndexFrom = (int) Math.floor((theta - thetaRadius) / thetaStep);
+        int thetaIndexTo = (int) Math.floor((theta + thetaRadius) / thetaStep);
+        for (int thetaIndex = thetaIndexFrom; thetaIndex <= thetaIndexTo; thetaIndex++) {
+            int row = thetaIndex;
+            double rowRho = rho;
+            if (row < 0) {
+                row += period;
+                rowRho = -rho;
+            } else if (row >= period) {
+                row -= period;
+                rowRho = -rho;
+            }
+            int rhoIndexFrom = (int) Math.floor(rowRho - rhoRadius - fullGeometry.getMinRho());
+            int rhoIndexTo = (int) Math.floor(rowRho + rhoRadius - fullGeometry.getMinRho());
+            selection.addRhoRange(row, rhoIndexFrom, rhoIndexTo);
+        }
+    }
+
+    protected RadonTransformConfiguration createCoarseConfiguration() {
+        return configuration.createCopy()
+                .setAlgorithm(configuration.getPyramidCoarseAlgorithm());
+    }
+
+    protected RadonTransformConfiguration createFineConfiguration() {
+        return configuration.createCopy()
+                .setAlgorithm(RadonTransformAlgorithm.DENSE_BINS);
+    }
+
+    // the internal calculators also stop when the pyramid calculation is cancelled
+    protected RadonTransformCalculator createCalculator(RadonTransformConfiguration configuration) {
+        return new RadonTransformCalculator(new BasicFuture<>(null), executor, configuration) {
+            @Override
+            protected boolean hasToStopImmediately() {
+                return super.hasToStopImmediately() || RadonPyramidCalculator.this.isCancelled();
+            }
+        };
+    }
+
+    protected MyNormalizedImageFunctions getMyNormalizedImageFunctions() {
+        return MyNormalizedImageFunctions.instance();
+    }
+
+    // the border of the image is not browsed by the transform, so a frame of zeros is added to the
+    // downsampled image. Otherwise the lines close to the border of the image would be lost
+    protected My2dContainer downsample(My2dContainer normalizedImage, int factor) {
+        My2dContainer result;
+        if (configuration.getPyramidDownsamplingMode() == RadonDownsamplingMode.MAX_POOLING) {
+            result = getMyNormalizedImageFunctions().downsampleMaxPooling(normalizedImage, factor, COARSE_IMAGE_BORDER);
+        } else {
+            result = getMyNormalizedImageFunctions().downsampleBoxFilter(normalizedImage, factor, COARSE_IMAGE_BORDER);
+        }
+        return result;
+    }
+
+    protected BufferedImageToMyNormalizedImageConverter getBufferedImageToMyNormalizedImage() {
+        return BufferedImageToMyNormalizedImageConverter.instance();
+    }
+
+    protected My2dContainer convert(BufferedImage image) {
+        return getBufferedImageToMyNormalizedImage().convert(image);
+    }
+
+    public boolean isCancelled() {
+        return future.isCancelled();
+    }
+
+    public void cancel() {
+        future.cancel();
+    }
+
+    public RadonTransformCalculator getCurrentCalculator() {
+        return currentCalculator;
+    }
+}
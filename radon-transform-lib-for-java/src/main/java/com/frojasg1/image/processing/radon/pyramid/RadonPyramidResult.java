@@ -0,0 +1,133 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.pyramid;
+
+import com.frojasg1.gen.tuples.Pair;
+import com.frojasg1.image.Point2d;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.result.RadonBinsSelection;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.util.List;
+
+// Result of the coarse to fine transform. The refined result has the full resolution grid,
+// but only the bins of the windows around the candidates are calculated (the rest keep the init value, -1)
+public class RadonPyramidResult {
+    protected RadonTransformCalculator coarseCalculator;
+    protected RadonTransformCalculator fineCalculator;
+    protected List<Point2d> candidates;
+    protected RadonBinsSelection binsSelection;
+    protected int downsamplingFactor;
+
+    protected long coarseTimeMs;
+    protected long refinementTimeMs;
+
+    public RadonPyramidResult(RadonTransformCalculator coarseCalculator, RadonTransformCalculator fineCalculator,
+                              List<Point2d> candidates, RadonBinsSelection binsSelection,
+                              int downsamplingFactor, long coarseTimeMs, long refinementTimeMs) {
+        this.coarseCalculator = coarseCalculator;
+        this.fineCalculator = fineCalculator;
+        this.candidates = candidates;
+        this.binsSelection = binsSelection;
+        this.downsamplingFactor = downsamplingFactor;
+        this.coarseTimeMs = coarseTimeMs;
+        this.refinementTimeMs = refinementTimeMs;
+    }
+
+    public RadonTransformResult getRefinedResult() {
+        return fineCalculator.getResult();
+    }
+
+    public RadonTransformResult getCoarseResult() {
+        return coarseCalculator.getResult();
+    }
+
+    public List<Pair<Point2d, Double>> getTopLines(int size) {
+        return getRefinedResult().getTopLines(size);
+    }
+
+    public Pair<Point2d, Double> getMax() {
+        return getRefinedResult().getMax();
+    }
+
+    // (rho, theta) of the coarse peaks, in full resolution
+    public List<Point2d> getCandidates() {
+        return candidates;
+    }
+
+    public RadonBinsSelection getBinsSelection() {
+        return binsSelection;
+    }
+
+    public int getDownsamplingFactor() {
+        return downsamplingFactor;
+    }
+
+    public long getNumFullResolutionBins() {
+        return (long) (getRefinedResult().getNumElementsForTheta() - 1) * getRefinedResult().getNumElementsForRho();
+    }
+
+    public long getNumCoarseBins() {
+        return (long) (getCoarseResult().getNumElementsForTheta() - 1) * getCoarseResult().getNumElementsForRho();
+    }
+
+    public long getNumRefinedBins() {
+        return binsSelection.getNumSelectedBins();
+    }
+
+    // work of the full transform / work of the pyramid, when the cost of a bin is its line length:
+    // coarse lines are downsamplingFactor times shorter than the full resolution ones
+    public double getEstimatedSpeedup() {
+        double pyramidWork = ((double) getNumCoarseBins()) / downsamplingFactor + getNumRefinedBins();
+        return getNumFullResolutionBins() / pyramidWork;
+    }
+
+    public long getCoarseTimeMs() {
+        return coarseTimeMs;
+    }
+
+    public long getRefinementTimeMs() {
+        return refinementTimeMs;
+    }
+
+    public long getProcessingTimeMs() {
+        return coarseTimeMs + refinementTimeMs;
+    }
+
+    public boolean wasSuccessful() {
+        return coarseCalculator.wasSuccessful() && fineCalculator.wasSuccessful();
+    }
+
+    public RadonTransformCalculator getCoarseCalculator() {
+        return coarseCalculator;
+    }
+
+    public RadonTransformCalculator getFineCalculator() {
+        return fineCalculator;
+    }
+}
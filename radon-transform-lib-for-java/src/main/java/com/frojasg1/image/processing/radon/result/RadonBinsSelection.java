@@ -0,0 +1,85 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.result;
+
+import java.util.BitSet;
+
+// set of (rho, theta) bins of a result, to restrict the calculation to some windows.
+// Filled before the calculation, and then only read
+public class RadonBinsSelection {
+    protected int numElementsForRho;
+    protected int numElementsForTheta;
+
+    protected BitSet bins;
+    protected BitSet thetaRows;
+
+    public RadonBinsSelection(int numElementsForRho, int numElementsForTheta) {
+        this.numElementsForRho = numElementsForRho;
+        this.numElementsForTheta = numElementsForTheta;
+    }
+
+    public RadonBinsSelection init() {
+        bins = new BitSet(numElementsForRho * numElementsForTheta);
+        thetaRows = new BitSet(numElementsForTheta);
+
+        return this;
+    }
+
+    // limits are inclusive, and they are clipped to the grid
+    public RadonBinsSelection addRhoRange(int thetaIndex, int rhoIndexFrom, int rhoIndexTo) {
+        int from = Math.max(0, rhoIndexFrom);
+        int to = Math.min(numElementsForRho - 1, rhoIndexTo);
+        if (thetaIndex >= 0 && thetaIndex < numElementsForTheta && from <= to) {
+            int offset = thetaIndex * numElementsForRho;
+            bins.set(offset + from, offset + to + 1);
+            thetaRows.set(thetaIndex);
+        }
+        return this;
+    }
+
+    public boolean isSelected(int rhoIndex, int thetaIndex) {
+        return bins.get(thetaIndex * numElementsForRho + rhoIndex);
+    }
+
+    public boolean isThetaRowSelected(int thetaIndex) {
+        return thetaRows.get(thetaIndex);
+    }
+
+    public int getNumSelectedBins() {
+        return bins.cardinality();
+    }
+
+    public int getNumElementsForRho() {
+        return numElementsForRho;
+    }
+
+    public int getNumElementsForTheta() {
+        return numElementsForTheta;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.result;
+
+// Which bins of a DENSE_BINS calculation have been processed, per theta row.
+// Bins of a row are processed in increasing rho order by the single task of the row, so a row is covered
+// up to the last bin processed. Rows are written by their tasks, and have to be read after the tasks finish
+public class RadonCoverageMap {
+    protected int numElementsForTheta;
+
+    protected int[] numBinsToProcess;
+    protected int[] numProcessedBins;
+    protected int[] nextRhoIndex;
+
+    public RadonCoverageMap(int numElementsForTheta) {
+        this.numElementsForTheta = numElementsForTheta;
+    }
+
+    public RadonCoverageMap init() {
+        numBinsToProcess = new int[numElementsForTheta];
+        numProcessedBins = new int[numElementsForTheta];
+        nextRhoIndex = new int[numElementsForTheta];
+        return this;
+    }
+
+    public void setNumBinsToProcess(int thetaIndex, int numBins) {
+        numBinsToProcess[thetaIndex] = numBins;
+    }
+
+    public void binProcessed(int rhoIndex, int thetaIndex) {
+        numProcessedBins[thetaIndex]++;
+        nextRhoIndex[thetaIndex] = rhoIndex + 1;
+    }
+
+    public boolean isCovered(int rhoIndex, int thetaIndex) {
+        return rhoIndex < nextRhoIndex[thetaIndex];
+    }
+
+    // fraction of the bins to process of the theta row which have been processed (1 if there were none)
+    public double getThetaRowCoverage(int thetaIndex) {
+        double result = 1.0d;
+        if (numBinsToProcess[thetaIndex] > 0) {
+            result = ((double) numProcessedBins[thetaIndex]) / numBinsToProcess[thetaIndex];
+        }
+        return result;
+    }
+
+    public boolean isThetaRowComplete(int thetaIndex) {
+        return numProcessedBins[thetaIndex] >= numBinsToProcess[thetaIndex];
+    }
+
+    // fraction of all the bins to process which have been processed
+    public double getCompleteness() {
+        long numBins = 0;
+        long numProcessed = 0;
+        for (int thetaIndex = 0; thetaIndex < numElementsForTheta; thetaIndex++) {
+            numBins += numBinsToProcess[thetaIndex];
+            numProcessed += numProcessedBins[thetaIndex];
+        }
+        return (numBins == 0) ? 1.0d : ((double) numProcessed) / numBins;
+    }
+
+    public boolean isComplete() {
+        return getCompleteness() >= 1.0d;
+    }
+
+    public int getNumElementsForTheta() {
+        return numElementsForTheta;
+    }
+}
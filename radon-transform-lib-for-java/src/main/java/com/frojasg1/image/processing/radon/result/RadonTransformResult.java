@@ -33,19 +33,39 @@ import com.frojasg1.gen.tuples.Pair;
 import com.frojasg1.image.Point2d;
 import com.frojasg1.image.normalized.My2dContainer;
 import com.frojasg1.image.normalized.My2dContainerAbstract;
-import com.frojasg1.image.normalized.impl.My2dContainerAtomicImpl;
-import com.frojasg1.image.normalized.impl.MyNormalizedImageImpl;
+import com.frojasg1.image.normalized.My2dContainerTypedAbstract;
+import com.frojasg1.image.normalized.impl.My2dContainerAtomicDoubleImpl;
+import com.frojasg1.image.normalized.impl.My2dContainerDoubleArrayImpl;
+import com.frojasg1.image.normalized.impl.My2dContainerFloatImpl;
+import com.frojasg1.image.normalized.impl.My2dContainerIntImpl;
+import com.frojasg1.image.normalized.impl.My2dContainerOffHeapAtomicDoubleImpl;
+import com.frojasg1.image.normalized.impl.My2dContainerOffHeapDoubleImpl;
+import com.frojasg1.image.normalized.impl.My2dContainerShortImpl;
+import com.frojasg1.image.processing.radon.config.RadonAccumulationMode;
+import com.frojasg1.image.processing.radon.config.RadonElementType;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class RadonTransformResult {
 
     protected double TWO_PI = 2.0d * Math.PI;
     protected double initValue = -1.0d;
 
+    // max absolute value of the pixels of the image, which bounds the accumulations of the lines
+    protected double maxAbsPixelValue = 1.0d;
+
     protected int imageWidth;
     protected int imageHeight;
 
@@ -54,8 +74,23 @@ public class RadonTransformResult {
     protected int numElementsForRho;
     protected int minRho;
 
+    // containers only hold the bins of the window (all of them if there is no window)
+    protected RadonWindow window;
+    protected int windowRhoIndexFrom;
+    protected int windowNumRhos;
+    protected int windowNumThetaRows;
+    protected int[] thetaIndexToWindowRow;
+    protected int[] windowRowToThetaIndex;
+
     protected boolean finished;
 
+    protected RadonTransformConfiguration configuration;
+    protected RadonElementType elementType;
+
+    protected RadonTransformShard sharedShard;
+    protected Map<Thread, RadonTransformShard> workerShards = new ConcurrentHashMap<>();
+    protected Queue<RadonTransformShard> privateShards = new ConcurrentLinkedQueue<>();
+    protected AtomicLong privateShardsSizeInBytes = new AtomicLong();
 
     protected My2dContainer normalizedRadonTransform;
     protected My2dContainer radonTransform;
@@ -64,29 +99,277 @@ public class RadonTransformResult {
     protected Pair<Point2d, Double> max;
 
     public RadonTransformResult(int imageWidth, int imageHeight) {
+        this(imageWidth, imageHeight, RadonTransformConfiguration.createDefault());
+    }
+
+    public RadonTransformResult(int imageWidth, int imageHeight, RadonTransformConfiguration configuration) {
         this.imageWidth = imageWidth;
         this.imageHeight = imageHeight;
+        this.configuration = configuration;
     }
 
     public RadonTransformResult init() {
-        initNumElems();
+        initGeometry();
         initContainers();
 
         return this;
     }
 
+    // only the sizes of the (rho, theta) grid, without the containers
+    public RadonTransformResult initGeometry() {
+        initNumElems();
+        initWindow();
+
+        return this;
+    }
+
+    // it has to be set before init
+    public RadonTransformResult setWindow(RadonWindow window) {
+        this.window = window;
+        return this;
+    }
+
+    public RadonWindow getWindow() {
+        return window;
+    }
+
+    // it has to be set before init, if the pixels of the image can be out of [-1, 1] (see calculateElementType)
+    public RadonTransformResult setMaxAbsPixelValue(double maxAbsPixelValue) {
+        this.maxAbsPixelValue = maxAbsPixelValue;
+        return this;
+    }
+
+    public double getMaxAbsPixelValue() {
+        return maxAbsPixelValue;
+    }
+
+    // rounded elements could overflow with a pixel out of the range the element type was chosen for
+    public void checkPixelValue(double value) {
+        if (elementType.isRounded() && !(Math.abs(value) <= maxAbsPixelValue)) {
+            throw new IllegalArgumentException(String.format(
+                    "Pixel value %s out of the range of the %s sinogram: [-%s, %s]",
+                    value, elementType, maxAbsPixelValue, maxAbsPixelValue));
+        }
+    }
+
+    protected void initWindow() {
+        windowRhoIndexFrom = 0;
+        windowNumRhos = numElementsForRho;
+        windowNumThetaRows = numElementsForTheta;
+        thetaIndexToWindowRow = null;
+        windowRowToThetaIndex = null;
+        if (window != null) {
+            int rhoIndexTo = numElementsForRho - 1;
+            while (windowRhoIndexFrom <= rhoIndexTo && !isRhoBinInWindow(windowRhoIndexFrom)) {
+                windowRhoIndexFrom++;
+            }
+            while (rhoIndexTo >= windowRhoIndexFrom && !isRhoBinInWindow(rhoIndexTo)) {
+                rhoIndexTo--;
+            }
+            windowNumRhos = rhoIndexTo - windowRhoIndexFrom + 1;
+
+            thetaIndexToWindowRow = new int[numElementsForTheta];
+            windowRowToThetaIndex = new int[numElementsForTheta];
+            windowNumThetaRows = 0;
+            for (int thetaIndex = 0; thetaIndex < numElementsForTheta; thetaIndex++) {
+                thetaIndexToWindowRow[thetaIndex] = -1;
+                if (window.intersectsThetaRange(calculateTheta(thetaIndex), calculateTheta(thetaIndex + 1))) {
+                    windowRowToThetaIndex[windowNumThetaRows] = thetaIndex;
+                    thetaIndexToWindowRow[thetaIndex] = windowNumThetaRows++;
+                }
+            }
+            if (windowNumRhos <= 0 || windowNumThetaRows == 0) {
+                throw new IllegalArgumentException("Empty window: " + window);
+            }
+        }
+    }
+
+    protected boolean isRhoBinInWindow(int rhoIndex) {
+        int rho = calculateRho(rhoIndex);
+        return window.intersectsRhoRange(rho, rho + 1);
+    }
+
+    public boolean isThetaIndexInWindow(int thetaIndex) {
+        return toWindowRow(thetaIndex) >= 0;
+    }
+
+    public boolean isRhoIndexInWindow(int rhoIndex) {
+        return rhoIndex >= windowRhoIndexFrom && rhoIndex < windowRhoIndexFrom + windowNumRhos;
+    }
+
+    // if the bin of (rho, theta) is in the window. The bin can be in the window even if (rho, theta) is not
+    public boolean isInWindow(double rho, double theta) {
+        Integer rhoIndex = calculateRhoIndex(rho);
+        return rhoIndex != null && isRhoIndexInWindow(rhoIndex) && isThetaIndexInWindow(calculateThetaIndex(theta));
+    }
+
+    public int getWindowRhoIndexFrom() {
+        return windowRhoIndexFrom;
+    }
+
+    public int getWindowRhoIndexTo() {
+        return windowRhoIndexFrom + windowNumRhos - 1;
+    }
+
+    protected int toWindowRow(int thetaIndex) {
+        int result = thetaIndex;
+        if (thetaIndexToWindowRow != null) {
+            result = thetaIndexToWindowRow[thetaIndex];
+        }
+        return result;
+    }
+
+    protected int toThetaIndex(int windowRow) {
+        int result = windowRow;
+        if (windowRowToThetaIndex != null) {
+            result = windowRowToThetaIndex[windowRow];
+        }
+        return result;
+    }
+
     protected double getInitValue() {
         return initValue;
     }
 
     protected void initContainers() {
-        normalizedRadonTransform = createContainer();
-        radonTransform = createContainer();
+        elementType = calculateElementType();
+
+        normalizedRadonTransform = createContainer(elementType.getFractionType());
+        radonTransform = createContainer(elementType);
+
+        sharedShard = createShard(radonTransform, normalizedRadonTransform);
+    }
+
+    protected RadonTransformShard createShard(My2dContainer radonTransform, My2dContainer normalizedRadonTransform) {
+        return new RadonTransformShard(radonTransform, normalizedRadonTransform);
+    }
+
+    // SHORT is promoted to INT if the accumulation of a line could overflow it.
+    // If it could overflow an INT, the calculation fails before starting
+    protected RadonElementType calculateElementType() {
+        RadonElementType result = configuration.getElementType();
+        double maxAccumulation = calculateMaxAccumulation();
+        if ((result == RadonElementType.SHORT) && !(maxAccumulation <= Short.MAX_VALUE)) {
+            result = RadonElementType.INT;
+        }
+        if ((result == RadonElementType.INT) && !(maxAccumulation <= Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException(String.format(
+                    "Lines of the image can add up to %s, which overflows a %s sinogram (max pixel value: %s). "
+                            + "Use FLOAT or DOUBLE", maxAccumulation, configuration.getElementType(), maxAbsPixelValue));
+        }
+        return result;
+    }
+
+    // lines visit at most max(width, height) pixels of the image
+    protected double calculateMaxAccumulation() {
+        return maxAbsPixelValue * Math.max(imageWidth, imageHeight);
+    }
+
+    public RadonElementType getElementType() {
+        return elementType;
+    }
+
+    // private shards are written by one thread only, so they do not need atomic elements.
+    // Containers of doubles have no bitmap, so their elements not set are NaN
+    protected My2dContainer createShardContainer(RadonElementType type) {
+        My2dContainer result;
+        if (type != RadonElementType.DOUBLE) {
+            result = createTypedContainer(type, windowNumRhos, windowNumThetaRows, getInitValue());
+        } else if (isOffHeap()) {
+            result = new My2dContainerOffHeapDoubleImpl(windowNumRhos, windowNumThetaRows, Double.NaN)
+                    .setMappedFileDirectory(getOffHeapDirectory())
+                    .init();
+        } else {
+            result = new My2dContainerDoubleArrayImpl(windowNumRhos, windowNumThetaRows, Double.NaN)
+                    .init();
+        }
+        return result;
+    }
+
+    protected long calculateShardSizeInBytes() {
+        return ((long) elementType.getBytes() + elementType.getFractionType().getBytes()) * windowNumRhos * windowNumThetaRows;
+    }
+
+    protected long calculateContainerSizeInBytes() {
+        return ((long) Double.BYTES) * windowNumRhos * windowNumThetaRows;
     }
 
-    protected My2dContainerAbstract createContainer() {
-        return new My2dContainerAtomicImpl(numElementsForRho, numElementsForTheta, getInitValue())
-                .init();
+    // containers of doubles too big for the java heap go to direct memory, or to memory mapped files
+    protected boolean isOffHeap() {
+        return calculateContainerSizeInBytes() >= configuration.getOffHeapThresholdInBytes();
+    }
+
+    protected Path getOffHeapDirectory() {
+        String directory = configuration.getOffHeapDirectory();
+        return (directory == null) ? null : Paths.get(directory);
+    }
+
+    public RadonTransformConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    protected boolean isPerWorkerShardsMode() {
+        return configuration.getAccumulationMode() == RadonAccumulationMode.PER_WORKER_SHARDS;
+    }
+
+    protected RadonTransformShard getShard() {
+        RadonTransformShard result = sharedShard;
+        if (isPerWorkerShardsMode() && !isFinished()) {
+            Thread currentThread = Thread.currentThread();
+            result = workerShards.get(currentThread);
+            if (result == null) {
+                result = workerShards.computeIfAbsent(currentThread, thread -> createWorkerShard());
+            }
+        }
+        return result;
+    }
+
+    // when the memory budget is exhausted, the worker falls back to the shared containers
+    protected RadonTransformShard createWorkerShard() {
+        RadonTransformShard result = sharedShard;
+        long shardSize = calculateShardSizeInBytes();
+        if (privateShardsSizeInBytes.addAndGet(shardSize) <= configuration.getShardsMemoryBudgetInBytes()) {
+            result = createShard(createShardContainer(elementType), createShardContainer(elementType.getFractionType()));
+            privateShards.add(result);
+        } else {
+            privateShardsSizeInBytes.addAndGet(-shardSize);
+        }
+        return result;
+    }
+
+    protected My2dContainerAbstract createContainer(RadonElementType type) {
+        My2dContainerAbstract result;
+        if (type != RadonElementType.DOUBLE) {
+            result = createTypedContainer(type, windowNumRhos, windowNumThetaRows, getInitValue())
+                    .setKeepMax(true);
+        } else if (isOffHeap()) {
+            result = new My2dContainerOffHeapAtomicDoubleImpl(windowNumRhos, windowNumThetaRows, getInitValue())
+                    .setMappedFileDirectory(getOffHeapDirectory())
+                    .init();
+        } else {
+            result = new My2dContainerAtomicDoubleImpl(windowNumRhos, windowNumThetaRows, getInitValue())
+                    .init();
+        }
+        return result;
+    }
+
+    // the elements never set are kept in the bitmap of the container, and they read as the init value
+    protected My2dContainerTypedAbstract createTypedContainer(RadonElementType type, int width, int height, Double initValue) {
+        My2dContainerTypedAbstract result;
+        switch (type) {
+            case FLOAT:
+                result = (initValue == null) ? new My2dContainerFloatImpl(width, height) : new My2dContainerFloatImpl(width, height, initValue);
+                break;
+            case INT:
+                result = (initValue == null) ? new My2dContainerIntImpl(width, height) : new My2dContainerIntImpl(width, height, initValue);
+                break;
+            case SHORT:
+                result = (initValue == null) ? new My2dContainerShortImpl(width, height) : new My2dContainerShortImpl(width, height, initValue);
+                break;
+            default:
+                throw new IllegalArgumentException("Not a typed element type: " + type);
+        }
+        return result.init();
     }
 
     protected void initNumElems() {
@@ -142,8 +425,8 @@ public class RadonTransformResult {
         int thetaIndex = calculateThetaIndex(theta);
 
         double result = 0.0d;
-        if (rhoIndex != null) {
-            result = container.getValue(rhoIndex, thetaIndex);
+        if (rhoIndex != null && isRhoIndexInWindow(rhoIndex) && isThetaIndexInWindow(thetaIndex)) {
+            result = container.getDouble(rhoIndex - windowRhoIndexFrom, toWindowRow(thetaIndex));
         }
         return result;
     }
@@ -181,9 +464,48 @@ public class RadonTransformResult {
         Integer rhoIndex = calculateRhoIndex(rho);
         int thetaIndex = calculateThetaIndex(theta);
 
-        radonTransform.set(rhoIndex, thetaIndex, accumulation);
-        if (count > 0) {
-            normalizedRadonTransform.set(rhoIndex, thetaIndex, accumulation / count);
+        if (rhoIndex != null) {
+            setByIndex(rhoIndex, thetaIndex, accumulation, count);
+        }
+    }
+
+    // bins out of the window are discarded
+    public void setByIndex(int rhoIndex, int thetaIndex, double accumulation, int count) {
+        int windowRow = toWindowRow(thetaIndex);
+        if (windowRow >= 0 && isRhoIndexInWindow(rhoIndex)) {
+            getShard().set(rhoIndex - windowRhoIndexFrom, windowRow, accumulation, count);
+        }
+    }
+
+    // row major index of the bin in the whole (rho, theta) grid, or -1 if rho is out of the grid
+    public int calculateBinIndex(double rho, double theta) {
+        Integer rhoIndex = calculateRhoIndex(rho);
+        int result = -1;
+        if (rhoIndex != null) {
+            result = calculateThetaIndex(theta) * numElementsForRho + rhoIndex;
+        }
+        return result;
+    }
+
+    public void setByBinIndex(int binIndex, double accumulation, int count) {
+        setByIndex(binIndex % numElementsForRho, binIndex / numElementsForRho, accumulation, count);
+    }
+
+    // in place update of a finished result (a bin must not be updated by two threads at the same time).
+    // updated() has to be called when all the bins are done
+    public void addByIndex(int rhoIndex, int thetaIndex, double deltaAccumulation, int count) {
+        if (!isFinished()) {
+            throw new IllegalStateException("Not finished");
+        }
+        int windowRow = toWindowRow(thetaIndex);
+        if (windowRow >= 0 && isRhoIndexInWindow(rhoIndex)) {
+            int windowRhoIndex = rhoIndex - windowRhoIndexFrom;
+            double accumulation = radonTransform.getDouble(windowRhoIndex, windowRow) + deltaAccumulation;
+            // setDouble keeps the max, and updates can decrease the values
+            radonTransform.replaceDouble(windowRhoIndex, windowRow, accumulation);
+            if (count > 0) {
+                normalizedRadonTransform.replaceDouble(windowRhoIndex, windowRow, accumulation / count);
+            }
         }
     }
 
@@ -195,28 +517,78 @@ public class RadonTransformResult {
                                                    Point2d maxRhoThetaDeltaForSameLine) {
         TopLinesVisitor visitor = new TopLinesVisitor(size, this::indexToRhoTheta, rhoThetaFilter, maxRhoThetaDeltaForSameLine);
 
-        getRadonTransform().browseValue((rhoInd, thetaInd, value) -> visit(visitor, rhoInd, thetaInd, value));
+        getRadonTransform().browseDoubleValue((rhoInd, thetaInd, value) -> visit(visitor, rhoInd, thetaInd, value));
 
         return visitor.getResult();
     }
 
+    // max of the values set so far in a theta row (the init value if none, or if the row is out of the window)
+    public double getThetaRowMax(int thetaIndex) {
+        double result = getInitValue();
+        int windowRow = toWindowRow(thetaIndex);
+        if (windowRow >= 0) {
+            for (int windowRhoIndex = 0; windowRhoIndex < windowNumRhos; windowRhoIndex++) {
+                result = Math.max(result, radonTransform.getDouble(windowRhoIndex, windowRow));
+            }
+        }
+        return result;
+    }
+
+    // if the bin has been set (the containers keep a bitmap of them), even if its value is the init value
+    public boolean isComputed(int rhoIndex, int thetaIndex) {
+        boolean result = false;
+        int windowRow = toWindowRow(thetaIndex);
+        if (windowRow >= 0 && isRhoIndexInWindow(rhoIndex)) {
+            int windowRhoIndex = rhoIndex - windowRhoIndexFrom;
+            result = radonTransform.isSet(windowRhoIndex, windowRow);
+        }
+        return result;
+    }
+
+    // indices of the containers, which only cover the window
     public Point2d indexToRhoTheta(int rhoIndex, int thetaIndex) {
-        double rho = calculateRho(rhoIndex);
-        double theta = calculateTheta(thetaIndex);
+        double rho = calculateRho(rhoIndex + windowRhoIndexFrom);
+        double theta = calculateTheta(toThetaIndex(thetaIndex));
 
         Point2d rhoTheta = createPoint2d(rho, theta);
         return rhoTheta;
     }
 
-    protected void visit(TopLinesVisitor visitor, int rhoInd, int thetaInd, Double value) {
+    protected void visit(TopLinesVisitor visitor, int rhoInd, int thetaInd, double value) {
         visitor.add(rhoInd, thetaInd, value);
     }
 
-    protected double getThetaStep() {
+    public double getThetaStep() {
         return thetaStep;
     }
 
-    protected int getMinRho() {
+    public int getImageWidth() {
+        return imageWidth;
+    }
+
+    public int getImageHeight() {
+        return imageHeight;
+    }
+
+    public int getNumElementsForRho() {
+        return numElementsForRho;
+    }
+
+    public int getNumElementsForTheta() {
+        return numElementsForTheta;
+    }
+
+    // rho of the center of the bin
+    public double getRhoBinCenter(int rhoIndex) {
+        return calculateRho(rhoIndex) + 0.5d;
+    }
+
+    // theta of the center of the bin
+    public double getThetaBinCenter(int thetaIndex) {
+        return (thetaIndex + 0.5d) * getThetaStep();
+    }
+
+    public int getMinRho() {
         return minRho;
     }
 
@@ -269,51 +641,138 @@ public class RadonTransformResult {
         return finished;
     }
 
+    // clears the values, so that the result and its containers can be reused by another calculation of the same size
+    public RadonTransformResult reset() {
+        radonTransform.reset();
+        normalizedRadonTransform.reset();
+        max = null;
+        finished = false;
+
+        return this;
+    }
+
+    // recalculates the max and the standardized transform after addByIndex updates
+    public void updated() {
+        if (!isFinished()) {
+            throw new IllegalStateException("Not finished");
+        }
+        max = calculateMax();
+
+        standardizedRadonTransform = calculateStandardizedRadonTransform(max, standardizedRadonTransform);
+    }
+
     public Pair<Point2d, Double> getRhoThetaMaxValue() {
         return max;
     }
 
     protected void doFinishedTasks() {
+        mergePrivateShards();
+
         max = calculateMax();
 
-        standardizedRadonTransform = calculateStandardizedRadonTransform(max);
+        // after a reset, the container of the former calculation is reused
+        standardizedRadonTransform = calculateStandardizedRadonTransform(max, standardizedRadonTransform);
+    }
+
+    protected void mergePrivateShards() {
+        if (!privateShards.isEmpty()) {
+            IntStream.range(0, windowNumThetaRows)
+                    .parallel()
+                    .forEach(this::mergePrivateShardsRow);
+        }
+
+        workerShards.clear();
+        privateShards.clear();
+        privateShardsSizeInBytes.set(0);
+    }
+
+    protected void mergePrivateShardsRow(int windowRow) {
+        for (RadonTransformShard shard: privateShards) {
+            shard.mergeRowInto(sharedShard, windowRow);
+        }
     }
 
     protected My2dContainer calculateStandardizedRadonTransform(Pair<Point2d, Double> maxValue) {
+        return calculateStandardizedRadonTransform(maxValue, null);
+    }
+
+    protected My2dContainer calculateStandardizedRadonTransform(Pair<Point2d, Double> maxValue, My2dContainer target) {
         double factor = 1.0d;
         if (maxValue != null && maxValue.getValue() > 0.0d) {
             factor = 1.0d / maxValue.getValue();
         }
 
         double finalFactor = factor;
-        My2dContainer result = new MyNormalizedImageImpl(radonTransform.getWidth(), radonTransform.getHeight())
-                .init();
-        radonTransform.browseValue((rhoInd, thetaInd, value) -> setWithFactor(result, rhoInd, thetaInd, value, finalFactor));
+        My2dContainer result = (target != null) ? target : createStandardizedContainer();
+        radonTransform.browseDoubleValue((rhoInd, thetaInd, value) -> setWithFactor(result, rhoInd, thetaInd, value, finalFactor));
 
         return result;
     }
 
-    protected void setWithFactor(My2dContainer container, int rhoInd, int thetaInd, Double value, double factor) {
-        if (value != null) {
-            double newValue = value;
-            if (value >= 0.0d) {
-                newValue = value * factor;
-            }
-            container.set(rhoInd, thetaInd, newValue);
+    protected My2dContainer createStandardizedContainer() {
+        My2dContainer result;
+        RadonElementType type = elementType.getFractionType();
+        if (type != RadonElementType.DOUBLE) {
+            result = createTypedContainer(type, radonTransform.getWidth(), radonTransform.getHeight(), null);
+        } else if (isOffHeap()) {
+            result = new My2dContainerOffHeapDoubleImpl(radonTransform.getWidth(), radonTransform.getHeight())
+                    .setMappedFileDirectory(getOffHeapDirectory())
+                    .init();
+        } else {
+            result = new My2dContainerDoubleArrayImpl(radonTransform.getWidth(), radonTransform.getHeight())
+                    .init();
+        }
+        return result;
+    }
+
+    protected void setWithFactor(My2dContainer container, int rhoInd, int thetaInd, double value, double factor) {
+        double newValue = value;
+        if (value >= 0.0d) {
+            newValue = value * factor;
         }
+        container.setDouble(rhoInd, thetaInd, newValue);
     }
 
+    // same bin as getTopLines(1), but without creating candidates for the bins which tie with the max
     protected Pair<Point2d, Double> calculateMax() {
-        List<Pair<Point2d, Double>> list = getTopLines(1);
+        int maxRhoIndex = -1;
+        int maxThetaIndex = -1;
+        double maxValue = 0.0d;
+        for (int thetaInd = 0; thetaInd < radonTransform.getHeight(); thetaInd++) {
+            for (int rhoInd = 0; rhoInd < radonTransform.getWidth(); rhoInd++) {
+                double value = radonTransform.getDouble(rhoInd, thetaInd);
+                if (value >= 0.0d && (maxRhoIndex < 0
+                        || isBeforeForMax(value, rhoInd, thetaInd, maxValue, maxRhoIndex, maxThetaIndex))) {
+                    maxValue = value;
+                    maxRhoIndex = rhoInd;
+                    maxThetaIndex = thetaInd;
+                }
+            }
+        }
 
         Pair<Point2d, Double> result = null;
-        if (!list.isEmpty()) {
-            result = list.get(0);
+        if (maxRhoIndex >= 0) {
+            result = createPair(indexToRhoTheta(maxRhoIndex, maxThetaIndex), maxValue);
         }
 
         return result;
     }
 
+    // order of TopLinesVisitor: greater value, then lower abs(rho), then lower theta (integer parts), then first browsed
+    protected boolean isBeforeForMax(double value, int rhoInd, int thetaInd,
+                                     double maxValue, int maxRhoIndex, int maxThetaIndex) {
+        int result = Double.compare(-value, -maxValue);
+        if (result == 0) {
+            result = Integer.compare(Math.abs(calculateRho(rhoInd + windowRhoIndexFrom)),
+                    Math.abs(calculateRho(maxRhoIndex + windowRhoIndexFrom)));
+        }
+        if (result == 0) {
+            result = Integer.compare((int) calculateTheta(toThetaIndex(thetaInd)),
+                    (int) calculateTheta(toThetaIndex(maxThetaIndex)));
+        }
+        return result < 0;
+    }
+
     public Pair<Point2d, Double> getMax() {
         return max;
     }
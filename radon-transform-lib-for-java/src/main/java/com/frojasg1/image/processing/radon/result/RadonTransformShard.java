@@ -0,0 +1,79 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.result;
+
+import com.frojasg1.image.normalized.My2dContainer;
+
+// pair of raw and normalized sinograms which are written with the max rule.
+// Private shards are owned by a single worker thread, so they do not need to be thread safe.
+// Their elements not set are not merged (see isSet)
+public class RadonTransformShard {
+    protected My2dContainer radonTransform;
+    protected My2dContainer normalizedRadonTransform;
+
+    public RadonTransformShard(My2dContainer radonTransform, My2dContainer normalizedRadonTransform) {
+        this.radonTransform = radonTransform;
+        this.normalizedRadonTransform = normalizedRadonTransform;
+    }
+
+    public void set(int rhoIndex, int thetaIndex, double accumulation, int count) {
+        setMax(radonTransform, rhoIndex, thetaIndex, accumulation);
+        if (count > 0) {
+            setMax(normalizedRadonTransform, rhoIndex, thetaIndex, accumulation / count);
+        }
+    }
+
+    public void mergeRowInto(RadonTransformShard target, int thetaIndex) {
+        mergeRowInto(radonTransform, target.getRadonTransform(), thetaIndex);
+        mergeRowInto(normalizedRadonTransform, target.getNormalizedRadonTransform(), thetaIndex);
+    }
+
+    protected void mergeRowInto(My2dContainer source, My2dContainer target, int thetaIndex) {
+        for (int rhoIndex = 0; rhoIndex < source.getWidth(); rhoIndex++) {
+            if (source.isSet(rhoIndex, thetaIndex)) {
+                setMax(target, rhoIndex, thetaIndex, source.getDouble(rhoIndex, thetaIndex));
+            }
+        }
+    }
+
+    // the first value of an element is stored even if it is not over the init value
+    protected void setMax(My2dContainer container, int rhoIndex, int thetaIndex, double value) {
+        if (value > container.getDouble(rhoIndex, thetaIndex) || !container.isSet(rhoIndex, thetaIndex)) {
+            container.setDouble(rhoIndex, thetaIndex, value);
+        }
+    }
+
+    public My2dContainer getRadonTransform() {
+        return radonTransform;
+    }
+
+    public My2dContainer getNormalizedRadonTransform() {
+        return normalizedRadonTransform;
+    }
+}
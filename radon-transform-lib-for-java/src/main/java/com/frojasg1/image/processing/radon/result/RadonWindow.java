@@ -0,0 +1,144 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.result;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// (rho, theta) window of interest, to skip the calculation (and the memory) of the rest of the transform.
+// Thetas are in radians and taken modulo PI, as in the result. A range crossing PI is split in two.
+// Rho range is optional, and it is referred to thetas in [0, PI)
+public class RadonWindow {
+    protected List<double[]> thetaRanges = new ArrayList<>();
+
+    protected double minRho = -Double.MAX_VALUE;
+    protected double maxRho = Double.MAX_VALUE;
+
+    public RadonWindow addThetaRange(double thetaFrom, double thetaTo) {
+        if (thetaTo - thetaFrom >= Math.PI) {
+            thetaRanges.add(new double[] { 0.0d, Math.PI });
+        } else if (thetaFrom <= thetaTo) {
+            double from = normalizeTheta(thetaFrom);
+            double to = from + (thetaTo - thetaFrom);
+            if (to > Math.PI) {
+                thetaRanges.add(new double[] { from, Math.PI });
+                thetaRanges.add(new double[] { 0.0d, to - Math.PI });
+            } else {
+                thetaRanges.add(new double[] { from, to });
+            }
+        }
+        return this;
+    }
+
+    public RadonWindow addThetaRangeAround(double theta, double tolerance) {
+        return addThetaRange(theta - tolerance, theta + tolerance);
+    }
+
+    public RadonWindow setRhoRange(double minRho, double maxRho) {
+        this.minRho = minRho;
+        this.maxRho = maxRho;
+        return this;
+    }
+
+    protected double normalizeTheta(double theta) {
+        double result = theta - Math.floor(theta / Math.PI) * Math.PI;
+        if (result >= Math.PI) {
+            result = 0.0d;
+        }
+        return result;
+    }
+
+    public boolean hasThetaRanges() {
+        return !thetaRanges.isEmpty();
+    }
+
+    public boolean containsTheta(double theta) {
+        return intersectsThetaRange(theta, theta);
+    }
+
+    // closed interval [thetaFrom, thetaTo], with thetaTo - thetaFrom < PI
+    public boolean intersectsThetaRange(double thetaFrom, double thetaTo) {
+        boolean result = !hasThetaRanges();
+        if (!result) {
+            double from = normalizeTheta(thetaFrom);
+            double to = from + (thetaTo - thetaFrom);
+            result = intersectsNormalized(from, Math.min(to, Math.PI))
+                    || (to > Math.PI && intersectsNormalized(0.0d, to - Math.PI));
+        }
+        return result;
+    }
+
+    protected boolean intersectsNormalized(double from, double to) {
+        for (double[] range: thetaRanges) {
+            if (from <= range[1] && to >= range[0]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean containsRho(double rho) {
+        return rho >= minRho && rho <= maxRho;
+    }
+
+    public boolean contains(double rho, double theta) {
+        return containsRho(rho) && containsTheta(theta);
+    }
+
+    // closed interval [rhoFrom, rhoTo]
+    public boolean intersectsRhoRange(double rhoFrom, double rhoTo) {
+        return rhoFrom <= maxRho && rhoTo >= minRho;
+    }
+
+    public double getMinRho() {
+        return minRho;
+    }
+
+    public double getMaxRho() {
+        return maxRho;
+    }
+
+    public List<double[]> getThetaRanges() {
+        return thetaRanges;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("RadonWindow{thetaRanges=[");
+        for (int ii = 0; ii < thetaRanges.size(); ii++) {
+            if (ii > 0) {
+                sb.append(", ");
+            }
+            sb.append(thetaRanges.get(ii)[0]).append(" - ").append(thetaRanges.get(ii)[1]);
+        }
+        return sb.append("], minRho=").append(minRho)
+                .append(", maxRho=").append(maxRho)
+                .append('}').toString();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026. Francisco Javier Rojas Garrido <frojasg1@hotmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *
+ */
+
+
+package com.frojasg1.image.processing.radon.reusable;
+
+import com.frojasg1.gen.concurrent.BasicFuture;
+import com.frojasg1.image.normalized.My2dContainer;
+import com.frojasg1.image.normalized.impl.My2dContainerDoubleArrayImpl;
+import com.frojasg1.image.normalized.view.My2dContainerReadOnlyAbstract;
+import com.frojasg1.image.processing.radon.RadonTransformCalculator;
+import com.frojasg1.image.processing.radon.config.RadonAccumulationMode;
+import com.frojasg1.image.processing.radon.config.RadonTransformAlgorithm;
+import com.frojasg1.image.processing.radon.config.RadonTransformConfiguration;
+import com.frojasg1.image.processing.radon.engine.RadonBinLineClipper;
+import com.frojasg1.image.processing.radon.engine.RadonDenseBinsEngine;
+import com.frojasg1.image.processing.radon.pixel.RadonIntegrationContext;
+import com.frojasg1.image.processing.radon.plan.RadonPlan;
+import com.frojasg1.image.processing.radon.plan.RadonPlanTask;
+import com.frojasg1.image.processing.radon.result.RadonTransformResult;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+// Calculator for many small images, which can be run any number of times.
+// compute runs in the calling thread (no future, no tasks, no logging), and keeps its buffers
+// (normalized image, prefix sums, integration context, geometry plan) while the size of the images does not change.
+// Results passed back to compute are reset and filled again, so once warm, DENSE_BINS and
+// BOUNDARY_PAIRS (without window) do not allocate memory. The rest of algorithms dispatch the tasks of their engines
+// with the calling thread as executor, but some of them run in a fork join pool (FORK_JOIN scheduling),
+// so compute waits for all of them before finishing the result.
+// Not thread safe for concurrent calls: one instance per thread
+public class RadonReusableCalculator extends RadonTransformCalculator {
+
+    protected int bufferWidth = -1;
+    protected int bufferHeight = -1;
+
+    protected int[] rgbBuffer;
+    protected RadonIntegrationContext integrationContext;
+    protected RadonBinLineClipper clipper;
+    protected int[] segment = new int[4];
+    protected RadonDenseBinsEngine denseBinsEngine;
+    protected RadonPlan plan;
+
+    public RadonReusableCalculator(RadonTransformConfiguration configuration) {
+        // tasks of the engines run in the calling thread or in a fork join pool, and the shared containers are atomic,
+        // so private shards are not needed
+        super(new BasicFuture<>(null), Runnable::run, configuration.createCopy()
+                .setAccumulationMode(RadonAccumulationMode.SHARED));
+    }
+
+    // returns the result, which is the one passed (reset) if it has the size of the image, or a new one otherwise
+    public synchronized RadonTransformResult compute(BufferedImage image, RadonTransformResult result) {
+        if (!imageFulfills(image)) {
+            throw new IllegalArgumentException("Not suitable image: " + image);
+        }
+        ensureBuffers(image.getWidth(), image.getHeight());
+        getBufferedImageToMyNormalizedImage().convert(image, myNormalizedImage, rgbBuffer);
+
+        return computeInternal(result);
+    }
+
+    // for images which are already normalized
+    public synchronized RadonTransformResult compute(My2dContainer normalizedImage, RadonTransformResult result) {
+        if (!normalizedImageFulfills(normalizedImage)) {
+            throw new IllegalArgumentException("Not suitable image: " + normalizedImage);
+        }
+        ensureBuffers(normalizedImage.getWidth(), normalizedImage.getHeight());
+        if (normalizedImage instanceof My2dContainerReadOnlyAbstract) {
+            ((My2dContainerReadOnlyAbstract) normalizedImage).readRows(((My2dContainerDoubleArrayImpl) myNormalizedImage).getContainer());
+        } else {
+            normalizedImage.browseDoubleValue(myNormalizedImage::setDouble);
+        }
+
+        return computeInternal(result);
+    }
+
+    protected RadonTransformResult computeInternal(RadonTransformResult result) {
+        this.startTime = System.currentTimeMillis();
+        this.wasSuccessful = false;
+
+        if (prefixSums != null) {
+            prefixSums.update(myNormalizedImage);
+        }
+        this.result = reuseOrCreateResult(result);
+
+        if (getConfiguration().getAlgorithm() == RadonTransformAlgorithm.DENSE_BINS) {
+            denseBinsEngine.processThetaRows(this, integrationContext, clipper, segment);
+        } else if (isPlanReplayable()) {
+            replayPlan();
+        } else {
+            processWithEngines();
+        }
+        finishResult();
+
+        this.wasSuccessful = true;
+        this.endTime = System.currentTimeMillis();
+
+        return this.result;
+    }
+
+    // everything which depends on the size of the image
+    protected void ensureBuffers(int width, int height) {
+        if (width != bufferWidth || height != bufferHeight) {
+            this.myNormalizedImage = new My2dContainerDoubleArrayImpl(width, height).init();
+            this.rgbBuffer = new int[width * height];
+            this.prefixSums = createPrefixSumsIfNeeded(myNormalizedImage);
+            this.imageCenter = calculateImageCenter(width, height);
+            this.integrationContext = createIntegrationContext();
+            this.clipper = new RadonBinLineClipper(this);
+            this.denseBinsEngine = new RadonDenseBinsEngine();
+            this.plan = null;
+
+            this.bufferWidth = width;
+            this.bufferHeight = height;
+        }
+    }
+
+    // the element type of the result has to fit the pixels of the image too
+    protected RadonTransformResult reuseOrCreateResult(RadonTransformResult result) {
+        RadonTransformResult reused = null;
+        if (result != null && result.getImageWidth() == bufferWidth && result.getImageHeight() == bufferHeight
+                && result.getWindow() == getWindow() && result.getMaxAbsPixelValue() >= calculateMaxAbsPixelValue()) {
+            reused = result.reset();
+        }
+        return (reused != null) ? reused : createEmptyRadonTransformResult(bufferWidth, bufferHeight);
+    }
+
+    protected boolean isPlanReplayable() {
+        return getConfiguration().getAlgorithm() == RadonTransformAlgorithm.BOUNDARY_PAIRS
+                && getWindow() == null && getSparseOperator() == null;
+    }
+
+    // the geometry plan of the size is built once, and then replayed with the same integration context
+    protected void replayPlan() {
+        if (plan == null) {
+            plan = createPlan();
+        }
+        List<RadonPlanTask> tasks = plan.getTasks();
+        for (int taskIndex = 0; taskIndex < tasks.size(); taskIndex++) {
+            RadonPlanTask planTask = tasks.get(taskIndex);
+            int startX = planTask.getStartX();
+            int startY = planTask.getStartY();
+            for (int ii = 0; ii < planTask.size(); ii++) {
+                integrateLine(integrationContext, startX, startY, planTask.getEndX(ii), planTask.getEndY(ii));
+
+                setLineResultByBinIndex(integrationContext, planTask.getBin(ii));
+            }
+        }
+    }
+
+    // tasks submitted to the executor run in the calling thread, as submitted, but the ones submitted
+    // to a fork join pool (RadonForkJoinBoundaryPairsEngine) can still be running when dispatchTasks returns
+    protected void processWithEngines() {
+        if (semaphore == null) {
+            semaphore = new Semaphore(0);
+        }
+        semaphore.drainPermits();
+        successesCnt.set(0);
+
+        this.semaphoreNumPermits = dispatchTasks();
+        semaphore.acquireUninterruptibly(semaphoreNumPermits);
+    }
+}